@@ -10,36 +10,37 @@ import com.hong.forapw.common.exceptions.ExceptionCode;
 import com.hong.forapw.domain.animal.entity.Animal;
 import com.hong.forapw.domain.apply.entity.Apply;
 import com.hong.forapw.domain.apply.constant.ApplyStatus;
-import com.hong.forapw.admin.entity.Visit;
 import com.hong.forapw.domain.faq.FAQ;
 import com.hong.forapw.domain.faq.FaqRepository;
 import com.hong.forapw.domain.inquiry.entity.Inquiry;
 import com.hong.forapw.domain.inquiry.constant.InquiryStatus;
 import com.hong.forapw.domain.post.entity.Comment;
 import com.hong.forapw.domain.post.entity.Post;
+import com.hong.forapw.domain.search.SearchIndexEvent;
+import com.hong.forapw.domain.search.SearchTarget;
 import com.hong.forapw.admin.constant.ContentType;
+import com.hong.forapw.admin.constant.VisitPeriod;
 import com.hong.forapw.admin.entity.Report;
 import com.hong.forapw.admin.constant.ReportStatus;
 import com.hong.forapw.domain.user.entity.User;
 import com.hong.forapw.domain.user.constant.UserRole;
 import com.hong.forapw.domain.user.entity.UserStatus;
 import com.hong.forapw.domain.animal.repository.AnimalRepository;
-import com.hong.forapw.admin.repository.VisitRepository;
+import com.hong.forapw.admin.repository.VisitorStatRepository;
 import com.hong.forapw.domain.inquiry.InquiryRepository;
 import com.hong.forapw.domain.post.repository.CommentRepository;
 import com.hong.forapw.domain.post.repository.PostRepository;
+import com.hong.forapw.domain.post.service.PopularPostRankingService;
 import com.hong.forapw.domain.user.repository.UserRepository;
 import com.hong.forapw.domain.user.repository.UserStatusRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,15 +49,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AdminService {
 
-    private final VisitRepository visitRepository;
+    private final VisitorStatRepository visitorStatRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PopularPostRankingService popularPostRankingService;
     private final CommentRepository commentRepository;
     private final AnimalRepository animalRepository;
     private final ReportRepository reportRepository;
     private final ApplyRepository applyRepository;
     private final InquiryRepository inquiryRepository;
     private final UserStatusRepository userStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final FaqRepository faqRepository;
 
     private static final String POST_SCREENED = "이 게시글은 커뮤니티 규정을 위반하여 숨겨졌습니다.";
@@ -88,37 +91,17 @@ public class AdminService {
                 adoptedTotalNum
         );
 
-        // 일주일 전까지의 Vist 엔티티 불러오기
+        // 미리 집계된 방문자 수 (일별은 최근 일주일, 시간별은 오늘)
         LocalDateTime nowDateOnly = now.minusHours(0).withMinute(0).withSecond(0).withNano(0);
-        List<Visit> visits = visitRepository.findALlWithinDate(nowDateOnly.minusWeeks(1));
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
 
-        // 일별 방문자 수 집계
-        Map<LocalDate, Long> dailyVisitors = visits.stream()
-                .collect(Collectors.groupingBy(
-                        visit -> visit.getDate().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        List<AdminResponse.DailyVisitorDTO> dailyVisitorDTOS = dailyVisitors.entrySet().stream()
-                .map(entry -> new AdminResponse.DailyVisitorDTO(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(AdminResponse.DailyVisitorDTO::date))
-                .collect(Collectors.toList());
-
-        // 시간별 방문자 수 집계 (오늘 날짜)
-        Map<LocalTime, Long> hourlyVisitors = visits.stream()
-                .filter(visit -> visit.getDate().toLocalDate().isEqual(LocalDate.now()))
-                .collect(Collectors.groupingBy(
-                        visit -> visit.getDate().toLocalTime().truncatedTo(ChronoUnit.HOURS),
-                        Collectors.counting()
-                ));
+        List<AdminResponse.DailyVisitorDTO> dailyVisitorDTOS = visitorStatRepository.findByPeriodWithinDate(VisitPeriod.DAILY, todayStart.minusWeeks(1)).stream()
+                .map(visitorStat -> new AdminResponse.DailyVisitorDTO(visitorStat.getPeriodStart().toLocalDate(), visitorStat.getVisitorCount()))
+                .toList();
 
-        List<AdminResponse.HourlyVisitorDTO> hourlyVisitorDTOS = hourlyVisitors.entrySet().stream()
-                .map(entry -> new AdminResponse.HourlyVisitorDTO(
-                        LocalDateTime.of(LocalDate.now(),
-                                entry.getKey()),
-                        entry.getValue()))
-                .sorted(Comparator.comparing(AdminResponse.HourlyVisitorDTO::hour))
-                .collect(Collectors.toList());
+        List<AdminResponse.HourlyVisitorDTO> hourlyVisitorDTOS = visitorStatRepository.findByPeriodWithinDate(VisitPeriod.HOURLY, todayStart).stream()
+                .map(visitorStat -> new AdminResponse.HourlyVisitorDTO(visitorStat.getPeriodStart(), visitorStat.getVisitorCount()))
+                .toList();
 
         // 오늘 발생한 이벤트 요약
         Long entryNum = userRepository.countAllUsersCreatedAfter(nowDateOnly);
@@ -140,15 +123,6 @@ public class AdminService {
     public AdminResponse.FindUserListDTO findUserList(Long adminId, Pageable pageable) {
         checkAdminAuthority(adminId);
 
-        // <userId, 가장 최근의 Visit 객체> 맵
-        List<Visit> visits = visitRepository.findAll();
-        Map<Long, Visit> latestVisitMap = visits.stream()
-                .collect(Collectors.toMap(
-                        visit -> visit.getUser().getId(),
-                        visit -> visit,
-                        (visit1, visit2) -> visit1.getDate().isAfter(visit2.getDate()) ? visit1 : visit2
-                ));
-
         // 진행중인 지원서
         List<Apply> processingApplies = applyRepository.findAllProcessing();
         Map<Long, Long> processingApplyMap = processingApplies.stream()
@@ -172,9 +146,7 @@ public class AdminService {
                         user.getId(),
                         user.getNickname(),
                         user.getCreatedDate(),
-                        Optional.ofNullable(latestVisitMap.get(user.getId()))
-                                .map(Visit::getDate)
-                                .orElse(null),
+                        user.getLastVisitDate(),
                         processingApplyMap.get(user.getId()) != null ? processingApplyMap.get(user.getId()) : 0L,
                         processedApplyMap.get(user.getId()) != null ? processedApplyMap.get(user.getId()) : 0L,
                         user.getRole(),
@@ -478,6 +450,10 @@ public class AdminService {
             );
             post.updateTitle(POST_SCREENED);
             post.processBlock();
+            popularPostRankingService.removePost(post.getId()); // 랭킹에 남아 있으면 목록에서 걸러지며 페이지가 짧아진다
+            if (post.getPostType().isSearchable()) {
+                eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchTarget.POST, post.getId(), post.getTitle()));
+            }
         }
         // 댓글은 가림 처리
         else if (report.getContentType() == ContentType.COMMENT) {
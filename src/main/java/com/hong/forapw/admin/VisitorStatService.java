@@ -0,0 +1,112 @@
+package com.hong.forapw.admin;
+
+import com.hong.forapw.admin.constant.VisitPeriod;
+import com.hong.forapw.admin.model.HourlyVisitGuard;
+import com.hong.forapw.admin.repository.VisitorStatJdbcRepository;
+import com.hong.forapw.admin.repository.VisitorStatRepository;
+import com.hong.forapw.domain.user.repository.UserJdbcRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.hong.forapw.common.utils.DateTimeUtils.DATE_HOUR_FORMAT;
+import static com.hong.forapw.common.utils.DateTimeUtils.formatLocalDateTime;
+
+// 방문자 수는 시간별/일별 HyperLogLog로 추정하고, 매 시간 visitor_stat_tb에 집계값만 남긴다
+// 시간별 Set은 유저별 마지막 방문 시각을 반영하는 용도로만 쓴다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitorStatService {
+
+    private final RedisService redisService;
+    private final VisitorStatRepository visitorStatRepository;
+    private final VisitorStatJdbcRepository visitorStatJdbcRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final HourlyVisitGuard visitGuard = new HourlyVisitGuard();
+
+    private static final String HOURLY_VISITOR_KEY_PREFIX = "visit:hll:hour:";
+    private static final String DAILY_VISITOR_KEY_PREFIX = "visit:hll:day:";
+    private static final String HOURLY_VISITOR_SET_KEY_PREFIX = "visit:";
+    private static final long VISITOR_KEY_EXP = 60L * 60 * 48; // 집계가 누락된 시간을 다음 실행에서 복구할 수 있게 이틀 보관
+    private static final int CATCH_UP_HOURS = 24; // 키 보관 기간 안쪽으로만 되돌아본다
+    private static final int LAST_VISIT_POP_SIZE = 500;
+
+    // 같은 인스턴스에서는 유저당 시간마다 한 번만 Redis에 기록한다
+    public void recordVisit(Long userId) {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        if (!visitGuard.markFirstVisit(hour, userId)) {
+            return;
+        }
+
+        redisService.addMemberToHyperLogLogsAndSet(
+                List.of(buildHourlyVisitorKey(hour), buildDailyVisitorKey(hour.toLocalDate())),
+                buildHourlyVisitorSetKey(hour),
+                String.valueOf(userId),
+                VISITOR_KEY_EXP
+        );
+    }
+
+    // 직전 시간의 방문자 수와 그 날의 누적 방문자 수를 갱신한다 (일별 값은 자정 직후 집계에서 확정된다)
+    // 배포나 재시작으로 실행을 놓친 시간도, 키가 남아 있는 동안(최근 24시간)에는 다음 실행에서 함께 집계한다
+    @Scheduled(cron = "0 3 * * * *") // 매 시간 3분에 실행
+    public void rollUpVisitors() {
+        LocalDateTime previousHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        LocalDateTime catchUpStart = previousHour.minusHours(CATCH_UP_HOURS - 1L);
+        Set<LocalDateTime> rolledUpHours = new HashSet<>(visitorStatRepository.findPeriodStartsWithinDate(VisitPeriod.HOURLY, catchUpStart));
+
+        for (LocalDateTime hour = catchUpStart; !hour.isAfter(previousHour); hour = hour.plusHours(1)) {
+            boolean isMissed = !rolledUpHours.contains(hour) && redisService.isKeyStored(buildHourlyVisitorKey(hour));
+            if (hour.equals(previousHour) || isMissed) {
+                rollUpHour(hour);
+            } else {
+                // 집계는 끝났지만 마지막 방문 반영이 중간에 끊긴 경우, 남은 Set만 마저 처리한다
+                syncLastVisitDates(hour);
+            }
+        }
+    }
+
+    private void rollUpHour(LocalDateTime hour) {
+        LocalDate date = hour.toLocalDate();
+
+        long hourlyVisitors = redisService.countHyperLogLog(buildHourlyVisitorKey(hour));
+        long dailyVisitors = redisService.countHyperLogLog(buildDailyVisitorKey(date));
+        visitorStatJdbcRepository.upsertVisitorCount(VisitPeriod.HOURLY, hour, hourlyVisitors);
+        visitorStatJdbcRepository.upsertVisitorCount(VisitPeriod.DAILY, date.atStartOfDay(), dailyVisitors);
+
+        int updatedUsers = syncLastVisitDates(hour);
+        log.info("방문자 집계 완료 ({}): 시간별 {}명, 일별 {}명, 마지막 방문 갱신 {}명", hour, hourlyVisitors, dailyVisitors, updatedUsers);
+    }
+
+    // SPOP으로 꺼내므로 여러 인스턴스가 동시에 실행해도 같은 유저를 두 번 처리하지 않는다
+    private int syncLastVisitDates(LocalDateTime hour) {
+        String setKey = buildHourlyVisitorSetKey(hour);
+        int updatedUsers = 0;
+        List<Long> userIds;
+        while (!(userIds = redisService.popSetMembers(setKey, LAST_VISIT_POP_SIZE)).isEmpty()) {
+            updatedUsers += userJdbcRepository.updateLastVisitDates(userIds, hour);
+        }
+        return updatedUsers;
+    }
+
+    private String buildHourlyVisitorKey(LocalDateTime hour) {
+        return HOURLY_VISITOR_KEY_PREFIX + formatLocalDateTime(hour, DATE_HOUR_FORMAT);
+    }
+
+    private String buildDailyVisitorKey(LocalDate date) {
+        return DAILY_VISITOR_KEY_PREFIX + date;
+    }
+
+    private String buildHourlyVisitorSetKey(LocalDateTime hour) {
+        return HOURLY_VISITOR_SET_KEY_PREFIX + formatLocalDateTime(hour, DATE_HOUR_FORMAT);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hong.forapw.admin.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum VisitPeriod {
+
+    HOURLY("시간별"),
+    DAILY("일별");
+
+    private String value;
+}
@@ -0,0 +1,41 @@
+package com.hong.forapw.admin.entity;
+
+import com.hong.forapw.admin.constant.VisitPeriod;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 시간/일 단위로 미리 집계해 둔 순 방문자 수 (Redis HyperLogLog 추정값)
+@Entity
+@Table(name = "visitor_stat_tb", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"period", "period_start"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class VisitorStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 10)
+    @Enumerated(EnumType.STRING)
+    private VisitPeriod period;
+
+    @Column(name = "period_start")
+    private LocalDateTime periodStart; // 구간의 시작 시각 (일별은 자정)
+
+    @Column
+    private Long visitorCount;
+
+    @Builder
+    public VisitorStat(VisitPeriod period, LocalDateTime periodStart, Long visitorCount) {
+        this.period = period;
+        this.periodStart = periodStart;
+        this.visitorCount = visitorCount;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hong.forapw.admin.model;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 인스턴스 로컬에서 "이번 시간에 이미 기록한 유저"를 표시하는 비트셋
+// 유저 id를 그대로 비트 위치로 쓰므로 오탐이 없고, 시간이 바뀌면 새 비트셋으로 교체한다
+// 범위를 벗어난 id나 이미 지나간 시간의 요청은 걸러내지 않는다 (PFADD/SADD는 멱등이라 중복 기록돼도 결과는 같다)
+public final class HourlyVisitGuard {
+
+    private static final int CAPACITY = 1 << 22; // 약 400만 명, 비트셋 하나당 512KB
+
+    private volatile Window window;
+
+    public boolean markFirstVisit(LocalDateTime hour, long userId) {
+        Window current = findWindow(hour);
+        if (current == null || userId < 0 || userId >= CAPACITY) {
+            return true;
+        }
+        return current.mark((int) userId);
+    }
+
+    private Window findWindow(LocalDateTime hour) {
+        Window current = window;
+        if (current != null && !hour.isAfter(current.hour())) {
+            return current.hour().equals(hour) ? current : null;
+        }
+
+        synchronized (this) {
+            current = window;
+            if (current == null || hour.isAfter(current.hour())) {
+                current = new Window(hour, new AtomicLongArray(CAPACITY / Long.SIZE));
+                window = current;
+            }
+            return current.hour().equals(hour) ? current : null;
+        }
+    }
+
+    private record Window(LocalDateTime hour, AtomicLongArray bits) {
+
+        // 비트를 새로 켰으면 true, 이미 켜져 있었으면 false
+        boolean mark(int index) {
+            int wordIndex = index >>> 6;
+            long mask = 1L << (index & 63);
+            long word;
+            do {
+                word = bits.get(wordIndex);
+                if ((word & mask) != 0) {
+                    return false;
+                }
+            } while (!bits.compareAndSet(wordIndex, word, word | mask));
+            return true;
+        }
+    }
+}
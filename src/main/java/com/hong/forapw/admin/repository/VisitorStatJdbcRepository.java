@@ -0,0 +1,24 @@
+package com.hong.forapw.admin.repository;
+
+import com.hong.forapw.admin.constant.VisitPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 여러 인스턴스가 같은 구간을 동시에 집계해도 (period, period_start) 유니크 키로 한 행만 남는다
+@Repository
+@RequiredArgsConstructor
+public class VisitorStatJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertVisitorCount(VisitPeriod period, LocalDateTime periodStart, long visitorCount) {
+        String sql = "INSERT INTO visitor_stat_tb (period, period_start, visitor_count) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE visitor_count = VALUES(visitor_count)";
+
+        jdbcTemplate.update(sql, period.name(), Timestamp.valueOf(periodStart), visitorCount);
+    }
+}
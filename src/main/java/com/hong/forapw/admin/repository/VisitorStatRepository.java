@@ -0,0 +1,20 @@
+package com.hong.forapw.admin.repository;
+
+import com.hong.forapw.admin.constant.VisitPeriod;
+import com.hong.forapw.admin.entity.VisitorStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VisitorStatRepository extends JpaRepository<VisitorStat, Long> {
+
+    @Query("SELECT vs FROM VisitorStat vs WHERE vs.period = :period AND vs.periodStart >= :date ORDER BY vs.periodStart ASC")
+    List<VisitorStat> findByPeriodWithinDate(VisitPeriod period, LocalDateTime date);
+
+    @Query("SELECT vs.periodStart FROM VisitorStat vs WHERE vs.period = :period AND vs.periodStart >= :date")
+    List<LocalDateTime> findPeriodStartsWithinDate(VisitPeriod period, LocalDateTime date);
+}
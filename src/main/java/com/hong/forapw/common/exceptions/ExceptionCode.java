@@ -105,6 +105,7 @@ public enum ExceptionCode {
 
     // 잘못된 접근
     BAD_APPROACH(HttpStatus.BAD_REQUEST, "잘못된 접근입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다."),
     EXCEED_REQUEST_NUM(HttpStatus.BAD_REQUEST, "가능한 요청 횟수를 초과하였습니다."),
     SAME_STATUS(HttpStatus.BAD_REQUEST, "현재 상태와 동일합니다."),
 
@@ -116,6 +117,7 @@ public enum ExceptionCode {
     NO_REGION_FILE(HttpStatus.NOT_FOUND, "지역 코드 파일이 존재하지 않습니다."),
     INVALID_URI_FORMAT(HttpStatus.NOT_FOUND, "잘못된 URI 형식입니다."),
     INTRODUCTION_RETRY_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "소개글 업데이트 요청 재시도 초과"),
+    OPEN_API_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "공공데이터 API 호출이 일시적으로 차단되었습니다."),
     LOCK_ACQUIRE_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "레디스 락 시도가 실패하였습니다." ),
     LOCK_ACQUIRE_INTERRUPT(HttpStatus.INTERNAL_SERVER_ERROR, "레디스 락에 Intrrupt가 발생하였습니다.");
 
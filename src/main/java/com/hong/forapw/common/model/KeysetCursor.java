@@ -0,0 +1,74 @@
+package com.hong.forapw.common.model;
+
+import com.hong.forapw.common.exceptions.CustomException;
+import com.hong.forapw.common.exceptions.ExceptionCode;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// (작성 시각, id) 기반 키셋 페이지네이션 커서. 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로만 노출한다
+// OFFSET 없이 "이 커서보다 오래된 행"부터 읽으므로 몇 번째 페이지든 인덱스 탐색 비용이 같다
+public record KeysetCursor(LocalDateTime date, String id) {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지는 모든 행보다 나중인 가상의 위치에서 시작한다 (쿼리를 하나로 유지하기 위함)
+    private static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+
+    public static KeysetCursor of(LocalDateTime date, Object id) {
+        return new KeysetCursor(date, String.valueOf(id));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new CustomException(ExceptionCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)), decoded.substring(delimiterIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // 다음 페이지가 있으면 마지막 행의 커서를, 없으면 null을 돌려준다
+    public static <T> String encodeNext(Slice<T> slice, Function<T, KeysetCursor> toCursor) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return toCursor.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public boolean isFirst() {
+        return this == FIRST;
+    }
+
+    // 첫 페이지라면 어떤 id보다도 큰 값을 돌려줘서 (date = 기준 시각) 조건이 의미 없게 만든다
+    public Long longId() {
+        if (isFirst()) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
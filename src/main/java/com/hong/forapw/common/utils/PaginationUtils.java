@@ -7,6 +7,8 @@ import org.springframework.data.domain.Sort;
 
 public class PaginationUtils {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private PaginationUtils() {
     }
 
@@ -17,5 +19,10 @@ public class PaginationUtils {
     public static Pageable createPageable(int pageNumber, int pageSize, String sortByField, Sort.Direction direction) {
         return PageRequest.of(pageNumber, pageSize, Sort.by(direction, sortByField));
     }
+
+    // 커서 조회는 항상 첫 페이지(OFFSET 0)만 읽고, 정렬은 쿼리의 ORDER BY가 담당한다
+    public static Pageable createCursorPageable(int pageSize) {
+        return PageRequest.ofSize(Math.min(Math.max(pageSize, 1), MAX_CURSOR_PAGE_SIZE));
+    }
 }
 
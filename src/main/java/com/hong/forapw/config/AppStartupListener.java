@@ -1,5 +1,10 @@
 package com.hong.forapw.config;
 
+import com.hong.forapw.domain.like.LegacyLikeCountKeyMigration;
+import com.hong.forapw.domain.search.SearchIndexService;
+import com.hong.forapw.domain.shelter.ShelterGeoIndexService;
+import com.hong.forapw.domain.shelter.ShelterSnapshotService;
+import com.hong.forapw.integration.rabbitmq.LegacyQueueCleanup;
 import com.hong.forapw.integration.rabbitmq.RabbitMqUtils;
 import com.hong.forapw.domain.user.service.UserScheduledService;
 import lombok.NonNull;
@@ -14,11 +19,21 @@ public class AppStartupListener implements ApplicationListener<ApplicationReadyE
 
     private final RabbitMqUtils brokerService;
     private final UserScheduledService userScheduledTaskService;
+    private final ShelterGeoIndexService shelterGeoIndexService;
+    private final ShelterSnapshotService shelterSnapshotService;
+    private final SearchIndexService searchIndexService;
+    private final LegacyLikeCountKeyMigration legacyLikeCountKeyMigration;
+    private final LegacyQueueCleanup legacyQueueCleanup;
 
     @Override
     public void onApplicationEvent(@NonNull ApplicationReadyEvent event) {
         brokerService.initChatListener();
         brokerService.initAlarmListener();
         userScheduledTaskService.initSuperAdmin();
+        shelterGeoIndexService.rebuild();
+        shelterSnapshotService.rebuild();
+        searchIndexService.rebuildAll();
+        legacyLikeCountKeyMigration.run();
+        legacyQueueCleanup.run();
     }
 }
@@ -25,6 +25,30 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // 통합 검색에서 게시글/그룹/보호소 검색을 동시에 실행하기 위한 풀
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(12);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("SearchExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 홈 화면의 섹션(추천 동물, 인기글, 추천 그룹)을 동시에 조회하기 위한 풀
+    @Bean(name = "homeExecutor")
+    public Executor homeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(12);
+        executor.setMaxPoolSize(48);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("HomeExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return AsyncConfigurer.super.getAsyncUncaughtExceptionHandler();
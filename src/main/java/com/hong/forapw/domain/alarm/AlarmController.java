@@ -31,6 +31,12 @@ public class AlarmController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/alarms/cursor")
+    public ResponseEntity<?> findAlarmListByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        AlarmResponse.FindAlarmCursorDTO responseDTO = alarmService.findAlarmsWithCursor(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @PostMapping("/alarms/read")
     public ResponseEntity<?> readAlarm(@RequestBody @Valid AlarmRequest.ReadAlarmDTO requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails) {
         alarmService.updateAlarmAsRead(requestDTO.id(), userDetails.getUser().getId());
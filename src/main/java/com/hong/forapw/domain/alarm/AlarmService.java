@@ -4,6 +4,7 @@ import com.hong.forapw.domain.alarm.model.AlarmRequest;
 import com.hong.forapw.domain.alarm.model.AlarmResponse;
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
+import com.hong.forapw.common.model.KeysetCursor;
 import com.hong.forapw.domain.alarm.entity.Alarm;
 import com.hong.forapw.domain.alarm.constant.AlarmType;
 import com.hong.forapw.domain.alarm.repository.AlarmRepository;
@@ -11,6 +12,7 @@ import com.hong.forapw.domain.alarm.repository.EmitterRepository;
 import com.hong.forapw.integration.rabbitmq.RabbitMqUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import static com.hong.forapw.common.utils.PaginationUtils.createCursorPageable;
 import static com.hong.forapw.domain.alarm.AlarmMapper.toAlarmDTO;
 
 @Service
@@ -49,9 +52,9 @@ public class AlarmService {
     @Transactional
     public SseEmitter connectToSseForAlarms(String userId) {
         String emitterId = createTimestampedId(userId);
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(userId, emitterId, new SseEmitter(DEFAULT_TIMEOUT));
 
-        handleEmitterCompletion(emitter, emitterId);
+        handleEmitterCompletion(emitter, userId, emitterId);
         sendKeepAliveEvent(userId, emitter, emitterId);
 
         return emitter;
@@ -80,6 +83,21 @@ public class AlarmService {
         return new AlarmResponse.FindAlarmListDTO(alarmDTOS);
     }
 
+    public AlarmResponse.FindAlarmCursorDTO findAlarmsWithCursor(Long userId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Alarm> alarmSlice = alarmRepository.findByReceiverIdBefore(userId, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        if (keysetCursor.isFirst() && alarmSlice.isEmpty()) {
+            throw new CustomException(ExceptionCode.ALARM_NOT_EXIST);
+        }
+
+        List<AlarmResponse.AlarmDTO> alarmDTOS = alarmSlice.getContent().stream()
+                .map(AlarmMapper::toAlarmDTO)
+                .toList();
+
+        String nextCursor = KeysetCursor.encodeNext(alarmSlice, alarm -> KeysetCursor.of(alarm.getCreatedDate(), alarm.getId()));
+        return new AlarmResponse.FindAlarmCursorDTO(alarmDTOS, nextCursor, alarmSlice.hasNext());
+    }
+
     @Transactional
     public void updateAlarmAsRead(Long alarmId, Long userId) {
         Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(
@@ -93,12 +111,13 @@ public class AlarmService {
     // 503 에러를 방지하기 위해 더미 이벤트 전송
     private void sendKeepAliveEvent(String userId, SseEmitter emitter, String emitterId) {
         String eventId = createTimestampedId(userId);
-        emitAlarmEvent(emitter, eventId, emitterId, "ForPaw");
+        emitAlarmEvent(emitter, userId, eventId, emitterId, "ForPaw");
     }
 
-    private void handleEmitterCompletion(SseEmitter emitter, String emitterId) {
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
+    private void handleEmitterCompletion(SseEmitter emitter, String userId, String emitterId) {
+        emitter.onCompletion(() -> emitterRepository.deleteById(userId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(userId, emitterId));
+        emitter.onError(e -> emitterRepository.deleteById(userId, emitterId));
     }
 
     private void validateAlarmAuthorization(Long userId, Alarm alarm) {
@@ -107,7 +126,7 @@ public class AlarmService {
         }
     }
 
-    private void emitAlarmEvent(SseEmitter emitter, String eventId, String emitterId, Object data) {
+    private void emitAlarmEvent(SseEmitter emitter, String userId, String eventId, String emitterId, Object data) {
         try {
             emitter.send(SseEmitter.event()
                     .id(eventId)
@@ -116,7 +135,7 @@ public class AlarmService {
             );
         } catch (IOException e) {
             log.error("SSE 이벤트 전송 실패, emitterId: {}", emitterId, e);
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(userId, emitterId);
         }
     }
 
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alarm_tb")
+@Table(name = "alarm_tb", indexes = {
+        @Index(name = "idx_alarm_receiver_created", columnList = "user_id, created_date, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Alarm extends BaseEntity {
@@ -8,10 +8,20 @@ public class AlarmResponse {
     public record FindAlarmListDTO(List<AlarmDTO> alarms) {
     }
 
+    public record FindAlarmCursorDTO(List<AlarmDTO> alarms, String nextCursor, boolean hasNext) {
+    }
+
     public record AlarmDTO(Long id,
                            String content,
                            String redirectURL,
                            LocalDateTime date,
                            boolean isRead) {
     }
+
+    public record AlarmDeliveryDTO(Long receiverId,
+                                   AlarmDTO alarm) {
+    }
+
+    public record AlarmDeliveryListDTO(List<AlarmDeliveryDTO> deliveries) {
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.hong.forapw.domain.alarm.repository;
 
 import com.hong.forapw.domain.alarm.entity.Alarm;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +18,12 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
     @Query("SELECT a FROM Alarm a WHERE a.receiver.id = :receiverId")
     List<Alarm> findByReceiverId(@Param("receiverId") Long receiverId);
 
+    @Query("SELECT a FROM Alarm a " +
+            "WHERE a.receiver.id = :receiverId " +
+            "AND (a.createdDate < :createdDate OR (a.createdDate = :createdDate AND a.id < :id)) " +
+            "ORDER BY a.createdDate DESC, a.id DESC")
+    Slice<Alarm> findByReceiverIdBefore(@Param("receiverId") Long receiverId, @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT a FROM Alarm a WHERE a.receiver.id = :userId AND a.isRead = false")
     List<Alarm> findByUserId(@Param("userId") Long userId);
 
@@ -6,11 +6,11 @@ import java.util.Map;
 
 public interface EmitterRepository {
 
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter);
 
-    Map<String, SseEmitter> findEmittersByMemberIdPrefix(String memberId);
+    Map<String, SseEmitter> findEmittersByUserId(String userId);
 
-    void deleteById(String id);
+    void deleteById(String userId, String emitterId);
 
-    void deleteEmittersByMemberIdPrefix(String memberId);
+    void deleteEmittersByUserId(String userId);
 }
@@ -3,41 +3,62 @@ package com.hong.forapw.domain.alarm.repository;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+// userId -> (emitterId -> emitter) 구조로 저장해, 유저별 조회를 전체 스캔 없이 O(1)로 처리한다
+// 유저별 버킷은 copy-on-write로 교체되므로 조회 시 잠금 없이 스냅샷을 돌려줄 수 있다
 @Repository
 public class InMemoryEmitterRepository implements EmitterRepository {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    /** 한 유저가 동시에 유지할 수 있는 SSE 연결 수. 초과하면 가장 오래된 연결을 끊는다 */
+    private static final int MAX_EMITTERS_PER_USER = 5;
+
+    private final Map<String, Map<String, SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter) {
+        List<SseEmitter> evictedEmitters = new ArrayList<>();
+        emittersByUser.compute(userId, (key, bucket) -> {
+            LinkedHashMap<String, SseEmitter> newBucket = bucket == null ? new LinkedHashMap<>() : new LinkedHashMap<>(bucket);
+            newBucket.put(emitterId, sseEmitter);
+            evictOldest(newBucket, evictedEmitters);
+            return Collections.unmodifiableMap(newBucket);
+        });
+
+        // compute 밖에서 종료해야 onCompletion 콜백(deleteById)이 같은 버킷을 다시 잠그지 않는다
+        evictedEmitters.forEach(SseEmitter::complete);
         return sseEmitter;
     }
 
     @Override
-    public Map<String, SseEmitter> findEmittersByMemberIdPrefix(String memberId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findEmittersByUserId(String userId) {
+        return emittersByUser.getOrDefault(userId, Collections.emptyMap());
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void deleteById(String userId, String emitterId) {
+        emittersByUser.computeIfPresent(userId, (key, bucket) -> {
+            if (!bucket.containsKey(emitterId)) {
+                return bucket;
+            }
+
+            Map<String, SseEmitter> newBucket = new LinkedHashMap<>(bucket);
+            newBucket.remove(emitterId);
+            return newBucket.isEmpty() ? null : Collections.unmodifiableMap(newBucket);
+        });
     }
 
     @Override
-    public void deleteEmittersByMemberIdPrefix(String memberId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(memberId)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteEmittersByUserId(String userId) {
+        emittersByUser.remove(userId);
+    }
+
+    private void evictOldest(LinkedHashMap<String, SseEmitter> bucket, List<SseEmitter> evictedEmitters) {
+        Iterator<SseEmitter> iterator = bucket.values().iterator();
+        while (bucket.size() > MAX_EMITTERS_PER_USER && iterator.hasNext()) {
+            evictedEmitters.add(iterator.next());
+            iterator.remove();
+        }
     }
 }
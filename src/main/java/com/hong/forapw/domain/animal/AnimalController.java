@@ -23,13 +23,14 @@ import java.util.Optional;
 public class AnimalController {
 
     private final AnimalService animalService;
+    private final AnimalIngestService animalIngestService;
     private final LikeService likeService;
     private static final String SORT_BY_DATE = "createdDate";
 
     // 테스트시에만 열어둠
     @GetMapping("/animals/import")
     public ResponseEntity<?> loadAnimals() {
-        animalService.updateNewAnimals();
+        animalIngestService.updateNewAnimals();
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
 
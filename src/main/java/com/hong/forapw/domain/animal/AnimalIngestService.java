@@ -0,0 +1,281 @@
+package com.hong.forapw.domain.animal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.forapw.domain.animal.entity.Animal;
+import com.hong.forapw.domain.animal.model.AnimalDTO;
+import com.hong.forapw.domain.animal.model.AnimalDiff;
+import com.hong.forapw.domain.animal.model.ExistingAnimalIndex;
+import com.hong.forapw.domain.animal.model.ShelterAnimalItems;
+import com.hong.forapw.domain.animal.repository.AnimalJdbcRepository;
+import com.hong.forapw.domain.search.SearchIndexService;
+import com.hong.forapw.domain.search.SearchTarget;
+import com.hong.forapw.domain.shelter.Shelter;
+import com.hong.forapw.domain.shelter.ShelterGeoIndexService;
+import com.hong.forapw.domain.shelter.ShelterRepository;
+import com.hong.forapw.domain.shelter.ShelterService;
+import com.hong.forapw.domain.shelter.ShelterSnapshotService;
+import com.hong.forapw.integration.openapi.CrawlReport;
+import com.hong.forapw.integration.openapi.OpenApiCrawler;
+import com.hong.forapw.integration.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.hong.forapw.common.utils.DateTimeUtils.YEAR_HOUR_DAY_FORMAT;
+import static com.hong.forapw.common.utils.UriUtils.buildAnimalOpenApiURI;
+import static com.hong.forapw.domain.animal.AnimalMapper.buildAnimal;
+
+// 보호소별 응답을 받는 즉시 스트리밍 파싱 -> 저장까지 처리해, 전체 응답을 메모리에 모아두지 않는다
+// 보호소 단위로 커밋하고 체크포인트를 남기므로, 중간에 죽어도 다시 실행하면 남은 보호소부터 이어서 수집한다
+@Service
+@Slf4j
+public class AnimalIngestService {
+
+    private final AnimalJdbcRepository animalJdbcRepository;
+    private final ShelterRepository shelterRepository;
+    private final ShelterService shelterService;
+    private final AnimalService animalService;
+    private final ShelterGeoIndexService shelterGeoIndexService;
+    private final ShelterSnapshotService shelterSnapshotService;
+    private final SearchIndexService searchIndexService;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final OpenApiCrawler openApiCrawler;
+    private final ObjectMapper objectMapper;
+    private final Timer fetchTimer;
+    private final Timer writeTimer;
+    private final Counter parsedItemCounter;
+    private final Counter insertedAnimalCounter;
+    private final Counter updatedAnimalCounter;
+    private final Counter expiredItemCounter;
+    private final Counter completedShelterCounter;
+    private final Counter failedShelterCounter;
+
+    @Value("${openAPI.service-key2}")
+    private String serviceKey;
+
+    @Value("${openAPI.animal.uri}")
+    private String animalURI;
+
+    @Value("${animal.names}")
+    private String[] animalNames;
+
+    private static final String CHECKPOINT_KEY = "animal:ingest:completedShelters";
+    private static final Long CHECKPOINT_EXPIRATION = 60L * 60 * 12; // 12시간 (초 단위)
+    private static final String ITEM_FIELD_NAME = "item";
+    private static final int WRITE_PREFETCH = 4; // 저장 단계가 밀리면 수집도 멈추도록, 대기 중인 응답 수를 제한
+    private static final Pattern SPECIES_PATTERN = Pattern.compile("\\[.*?\\] (.+)");
+
+    public AnimalIngestService(AnimalJdbcRepository animalJdbcRepository, ShelterRepository shelterRepository,
+                               ShelterService shelterService, AnimalService animalService, ShelterGeoIndexService shelterGeoIndexService,
+                               ShelterSnapshotService shelterSnapshotService, SearchIndexService searchIndexService, RedisService redisService,
+                               TransactionTemplate transactionTemplate, OpenApiCrawler openApiCrawler, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.animalJdbcRepository = animalJdbcRepository;
+        this.shelterRepository = shelterRepository;
+        this.shelterService = shelterService;
+        this.animalService = animalService;
+        this.shelterGeoIndexService = shelterGeoIndexService;
+        this.shelterSnapshotService = shelterSnapshotService;
+        this.searchIndexService = searchIndexService;
+        this.redisService = redisService;
+        this.transactionTemplate = transactionTemplate;
+        this.openApiCrawler = openApiCrawler;
+        this.objectMapper = objectMapper;
+        this.fetchTimer = Timer.builder("animal.ingest.fetch.latency").register(meterRegistry);
+        this.writeTimer = Timer.builder("animal.ingest.write.latency").register(meterRegistry);
+        this.parsedItemCounter = Counter.builder("animal.ingest.items.parsed").register(meterRegistry);
+        this.insertedAnimalCounter = Counter.builder("animal.ingest.animals.inserted").register(meterRegistry);
+        this.updatedAnimalCounter = Counter.builder("animal.ingest.animals.updated").register(meterRegistry);
+        this.expiredItemCounter = Counter.builder("animal.ingest.items.expired").register(meterRegistry);
+        this.completedShelterCounter = Counter.builder("animal.ingest.shelters").tag("result", "completed").register(meterRegistry);
+        this.failedShelterCounter = Counter.builder("animal.ingest.shelters").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void updateNewAnimals() {
+        ingestNewAnimals();
+
+        shelterService.updateShelterAddresses();
+        animalService.postProcessAfterAnimalUpdate();
+        // 좌표, 동물 수, 중복 여부가 모두 반영된 뒤에 인덱스와 목록 스냅샷, 검색 색인을 다시 만든다
+        shelterGeoIndexService.rebuild();
+        shelterSnapshotService.rebuild();
+        searchIndexService.rebuild(SearchTarget.SHELTER);
+    }
+
+    private void ingestNewAnimals() {
+        ExistingAnimalIndex existingAnimalIndex = animalJdbcRepository.loadExistingAnimalIndex();
+        Set<String> completedShelterIds = redisService.getMembersOfSet(CHECKPOINT_KEY);
+        List<Shelter> shelters = shelterRepository.findAllWithRegionCode().stream()
+                .filter(shelter -> !completedShelterIds.contains(shelter.getId().toString()))
+                .toList();
+
+        if (!completedShelterIds.isEmpty()) {
+            log.info("이전 수집 체크포인트에서 이어서 진행합니다. 완료된 보호소: {}개, 남은 보호소: {}개", completedShelterIds.size(), shelters.size());
+        }
+
+        // 호출 간격은 크롤러의 토큰 버킷이 맞추므로, 고정 지연 없이 동시에 요청을 보낸다
+        CrawlReport crawlReport = openApiCrawler.startReport("animal");
+        Flux.fromIterable(shelters)
+                .flatMap(shelter -> fetchAnimalItems(shelter, crawlReport), openApiCrawler.getConcurrency())
+                .publishOn(Schedulers.boundedElastic(), WRITE_PREFETCH)
+                .doOnNext(shelterAnimalItems -> saveShelterAnimalItems(shelterAnimalItems, existingAnimalIndex, crawlReport))
+                .blockLast();
+        crawlReport.logSummary();
+
+        // 끝까지 수집했으면 다음 실행은 처음부터 다시 수집한다
+        redisService.removeValue(CHECKPOINT_KEY);
+    }
+
+    private Mono<ShelterAnimalItems> fetchAnimalItems(Shelter shelter, CrawlReport crawlReport) {
+        Timer.Sample sample = Timer.start();
+        return buildAnimalOpenApiURI(animalURI, serviceKey, shelter.getId())
+                .flatMap(uri -> openApiCrawler.fetchDataBuffer(uri, shelter.getId().toString(), crawlReport))
+                .map(dataBuffer -> new ShelterAnimalItems(shelter, parseAnimalItems(dataBuffer)))
+                .doOnNext(shelterAnimalItems -> {
+                    sample.stop(fetchTimer);
+                    parsedItemCounter.increment(shelterAnimalItems.items().size());
+                })
+                .onErrorResume(e -> {
+                    log.error("Shelter {} 데이터 가져오기 실패: {}", shelter.getId(), e.getMessage());
+                    crawlReport.recordFailure(shelter.getId().toString(), e);
+                    failedShelterCounter.increment();
+                    return Mono.empty();
+                });
+    }
+
+    // response.body.items.item 배열을 토큰 단위로 읽어 ItemDTO로 바로 변환한다 (item이 하나면 배열이 아닌 객체로 내려옴)
+    private List<AnimalDTO.ItemDTO> parseAnimalItems(DataBuffer dataBuffer) {
+        List<AnimalDTO.ItemDTO> items = new ArrayList<>();
+        try (InputStream inputStream = dataBuffer.asInputStream(true);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && ITEM_FIELD_NAME.equals(parser.currentName())) {
+                    readItems(parser, items);
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("동물 데이터 파싱 실패: " + e.getMessage(), e);
+        }
+        return items;
+    }
+
+    private void readItems(JsonParser parser, List<AnimalDTO.ItemDTO> items) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            items.add(objectMapper.readValue(parser, AnimalDTO.ItemDTO.class));
+            return;
+        }
+
+        if (token == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                items.add(objectMapper.readValue(parser, AnimalDTO.ItemDTO.class));
+            }
+        }
+    }
+
+    // 동물 저장과 보호소 정보 갱신을 보호소 단위 트랜잭션으로 묶고, 커밋 후에 체크포인트를 남긴다
+    private void saveShelterAnimalItems(ShelterAnimalItems shelterAnimalItems, ExistingAnimalIndex existingAnimalIndex, CrawlReport crawlReport) {
+        Shelter shelter = shelterAnimalItems.shelter();
+        List<AnimalDTO.ItemDTO> items = shelterAnimalItems.items();
+
+        try {
+            AnimalDiff animalDiff = diffAnimals(items, shelter, existingAnimalIndex);
+            writeTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                insertedAnimalCounter.increment(animalJdbcRepository.batchInsertIgnore(animalDiff.newAnimals()));
+                updatedAnimalCounter.increment(animalJdbcRepository.batchUpdateChanged(animalDiff.changedAnimals()));
+                updateShelterInfo(items, shelter);
+            }));
+
+            redisService.addSetElement(CHECKPOINT_KEY, shelter.getId(), CHECKPOINT_EXPIRATION);
+            completedShelterCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("Shelter {} 동물 데이터 저장 실패: {}", shelter.getId(), e.getMessage());
+            crawlReport.recordFailure(shelter.getId().toString(), e);
+            failedShelterCounter.increment();
+        }
+    }
+
+    // 새로 들어온 동물은 추가, 내용이 바뀐 동물은 갱신, 공고가 끝난 동물은 건드리지 않고 후처리의 만료 정리에 맡긴다
+    // 응답에 없는 동물은 만료로 보지 않는다 (API가 페이지 단위로 내려주므로 누락이 곧 삭제를 뜻하지 않음)
+    private AnimalDiff diffAnimals(List<AnimalDTO.ItemDTO> items, Shelter shelter, ExistingAnimalIndex existingAnimalIndex) {
+        List<Animal> newAnimals = new ArrayList<>();
+        List<Animal> changedAnimals = new ArrayList<>();
+        int expiredCount = 0;
+
+        for (AnimalDTO.ItemDTO item : items) {
+            if (!isActiveAnimal(item)) {
+                expiredCount++;
+                continue;
+            }
+
+            long animalId = Long.parseLong(item.desertionNo());
+            if (!existingAnimalIndex.contains(animalId)) {
+                newAnimals.add(buildAnimal(item, createAnimalName(), parseSpecies(item.kindCd()), shelter));
+                continue;
+            }
+
+            Animal incomingAnimal = buildAnimal(item, null, parseSpecies(item.kindCd()), shelter);
+            if (existingAnimalIndex.isChanged(animalId, ExistingAnimalIndex.fingerprintOf(incomingAnimal))) {
+                changedAnimals.add(incomingAnimal);
+            }
+        }
+
+        expiredItemCounter.increment(expiredCount);
+        return new AnimalDiff(newAnimals, changedAnimals);
+    }
+
+    private void updateShelterInfo(List<AnimalDTO.ItemDTO> items, Shelter shelter) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        AnimalDTO.ItemDTO firstItem = items.get(0);
+        shelterRepository.updateShelterInfo(firstItem.careTel(), firstItem.careAddr(), countActiveAnimals(items), shelter.getId());
+    }
+
+    private long countActiveAnimals(List<AnimalDTO.ItemDTO> items) {
+        LocalDate currentDate = LocalDate.now().minusDays(1);
+        return items.stream()
+                .filter(item -> LocalDate.parse(item.noticeEdt(), YEAR_HOUR_DAY_FORMAT).isAfter(currentDate))
+                .count();
+    }
+
+    private boolean isActiveAnimal(AnimalDTO.ItemDTO item) {
+        return LocalDate.parse(item.noticeEdt(), YEAR_HOUR_DAY_FORMAT).isAfter(LocalDate.now());
+    }
+
+    private String parseSpecies(String input) {
+        Matcher matcher = SPECIES_PATTERN.matcher(input);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+
+        return null;
+    }
+
+    private String createAnimalName() {
+        int index = ThreadLocalRandom.current().nextInt(animalNames.length);
+        return animalNames[index];
+    }
+}
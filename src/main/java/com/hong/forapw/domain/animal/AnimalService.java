@@ -1,23 +1,18 @@
 package com.hong.forapw.domain.animal;
 
-import com.hong.forapw.domain.animal.model.AnimalDTO;
-import com.hong.forapw.domain.animal.model.AnimalJsonResponse;
 import com.hong.forapw.domain.animal.model.AnimalResponse;
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
-import com.hong.forapw.common.utils.JsonParser;
 import com.hong.forapw.domain.animal.constant.AnimalType;
-import com.hong.forapw.domain.user.entity.User;
 import com.hong.forapw.domain.animal.entity.Animal;
 import com.hong.forapw.domain.shelter.Shelter;
 import com.hong.forapw.domain.animal.repository.AnimalRepository;
 import com.hong.forapw.domain.animal.repository.FavoriteAnimalRepository;
 import com.hong.forapw.domain.shelter.ShelterRepository;
 import com.hong.forapw.integration.redis.RedisService;
-import com.hong.forapw.domain.shelter.ShelterService;
 import com.hong.forapw.domain.user.repository.UserRepository;
 import com.hong.forapw.domain.like.LikeService;
-import jakarta.persistence.EntityManager;
+import com.hong.forapw.domain.like.LikeTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,28 +20,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import static com.hong.forapw.common.utils.DateTimeUtils.YEAR_HOUR_DAY_FORMAT;
 import static com.hong.forapw.common.utils.PaginationUtils.isLastPage;
-import static com.hong.forapw.common.utils.UriUtils.buildAnimalOpenApiURI;
 import static com.hong.forapw.domain.animal.AnimalMapper.*;
 
 @Service
@@ -61,16 +49,7 @@ public class AnimalService {
     private final FavoriteAnimalRepository favoriteAnimalRepository;
     private final RedisService redisService;
     private final LikeService likeService;
-    private final ShelterService shelterService;
-    private final EntityManager entityManager;
     private final WebClient webClient;
-    private final JsonParser jsonParser;
-
-    @Value("${openAPI.service-key2}")
-    private String serviceKey;
-
-    @Value("${animal.names}")
-    private String[] animalNames;
 
     @Value("${recommend.uri}")
     private String animalRecommendURI;
@@ -78,35 +57,22 @@ public class AnimalService {
     @Value("${animal.update.uri}")
     private String updateAnimalIntroduceURI;
 
-    @Value("${openAPI.animal.uri}")
-    private String animalURI;
-
     private static final String ANIMAL_SEARCH_KEY_PREFIX = "animalSearch";
+    private static final String ANIMAL_VIEWERS_KEY_PREFIX = "animal:viewers";
+    private static final Long ANIMAL_VIEWERS_EXPIRATION = 60L * 60 * 24 * 90; // 세 달 (초 단위)
+    private static final int EXPIRY_CHUNK_SIZE = 1000;
     private static final Pageable DEFAULT_PAGE_REQUEST = PageRequest.of(0, 5);
-
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *")
-    public void updateNewAnimals() {
-        List<Long> existingAnimalIds = animalRepository.findAllIds();
-        List<Shelter> shelters = shelterRepository.findAllWithRegionCode();
-
-        List<AnimalJsonResponse> animalJsonResponses = fetchAnimalDataFromApi(shelters);
-        saveNewAnimalData(animalJsonResponses, existingAnimalIds);
-
-        shelterService.updateShelterData(animalJsonResponses);
-        postProcessAfterAnimalUpdate();
-    }
+    private static final long RECOMMENDED_ANIMAL_TIMEOUT_MS = 800; // 홈 화면 추천 동물 섹션의 제한 시간과 맞춤
 
     @Transactional(readOnly = true)
     public AnimalResponse.FindAnimalListDTO findAnimalList(String type, Long userId, Pageable pageable) {
         List<Long> likedAnimalIds = userId != null ? favoriteAnimalRepository.findAnimalIdsByUserId(userId) : new ArrayList<>();
 
         Page<Animal> animalPage = animalRepository.findByAnimalType(AnimalType.fromString(type), pageable);
+        Map<Long, Long> likeCounts = findAnimalLikeCounts(animalPage.getContent());
+
         List<AnimalResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
-                .map(animal -> {
-                    Long likeCount = likeService.getAnimalLikeCount(animal.getId());
-                    return toAnimalDTO(animal, likeCount, likedAnimalIds);
-                })
+                .map(animal -> toAnimalDTO(animal, likeCounts.get(animal.getId()), likedAnimalIds))
                 .collect(Collectors.toList());
 
         return new AnimalResponse.FindAnimalListDTO(animalDTOS, isLastPage(animalPage));
@@ -118,11 +84,10 @@ public class AnimalService {
         List<Long> likedAnimalIds = userId != null ? favoriteAnimalRepository.findAnimalIdsByUserId(userId) : new ArrayList<>();
 
         List<Animal> animals = animalRepository.findByIds(recommendedAnimalIds);
+        Map<Long, Long> likeCounts = findAnimalLikeCounts(animals);
+
         List<AnimalResponse.AnimalDTO> animalDTOS = animals.stream()
-                .map(animal -> {
-                    Long likeCount = likeService.getAnimalLikeCount(animal.getId());
-                    return toAnimalDTO(animal, likeCount, likedAnimalIds);
-                })
+                .map(animal -> toAnimalDTO(animal, likeCounts.get(animal.getId()), likedAnimalIds))
                 .collect(Collectors.toList());
 
         return new AnimalResponse.FindRecommendedAnimalList(animalDTOS);
@@ -131,11 +96,10 @@ public class AnimalService {
     @Transactional(readOnly = true)
     public AnimalResponse.FindLikeAnimalListDTO findLikeAnimalList(Long userId) {
         List<Animal> animalPage = favoriteAnimalRepository.findAnimalsByUserId(userId);
+        Map<Long, Long> likeCounts = findAnimalLikeCounts(animalPage);
+
         List<AnimalResponse.AnimalDTO> animalDTOS = animalPage.stream()
-                .map(animal -> {
-                    Long likeCount = likeService.getAnimalLikeCount(animal.getId());
-                    return toAnimalDTO(animal, likeCount, Collections.emptyList());
-                })
+                .map(animal -> toAnimalDTO(animal, likeCounts.get(animal.getId()), Collections.emptyList()))
                 .collect(Collectors.toList());
 
         return new AnimalResponse.FindLikeAnimalListDTO(animalDTOS);
@@ -154,6 +118,8 @@ public class AnimalService {
     }
 
     // 로그인 X => 그냥 최신순, 로그인 O => 검색 기록을 바탕으로 추천 => 검색 기록이 없다면 위치를 기준으로 주변 보호소의 동물 추천
+    // 추천 서버 응답을 기다리는 동안 커넥션을 붙잡지 않도록 트랜잭션 없이 실행한다 (조회 쿼리는 각자 짧은 트랜잭션으로 실행됨)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Long> findRecommendedAnimalIds(Long userId) {
         if (userId == null) {
             return findLatestAnimalIds();
@@ -167,117 +133,56 @@ public class AnimalService {
         return recommendedAnimalIds;
     }
 
-    private List<AnimalJsonResponse> fetchAnimalDataFromApi(List<Shelter> shelters) {
-        return Flux.fromIterable(shelters)
-                .delayElements(Duration.ofMillis(75))
-                .flatMap(shelter -> buildAnimalOpenApiURI(animalURI, serviceKey, shelter.getId())
-                        .flatMap(uri -> webClient.get()
-                                .uri(uri)
-                                .retrieve()
-                                .bodyToMono(String.class)
-                                .retry(3)
-                                .map(rawJsonResponse -> new AnimalJsonResponse(shelter, rawJsonResponse)))
-                        .onErrorResume(e -> {
-                            log.error("Shelter {} 데이터 가져오기 실패: {}", shelter.getId(), e.getMessage());
-                            return Mono.empty();
-                        }))
-                .collectList()
-                .block();
-    }
-
-    public void saveNewAnimalData(List<AnimalJsonResponse> animalJsonResponses, List<Long> existingAnimalIds) {
-        for (AnimalJsonResponse response : animalJsonResponses) {
-            Shelter shelter = response.shelter();
-            String animalJson = response.animalJson();
-
-            List<Animal> animals = convertAnimalJsonToAnimals(animalJson, shelter, existingAnimalIds);
-            animalRepository.saveAll(animals);
+    // 수집이 끝난 뒤 만료된 동물 정리, 보호소 동물 수 갱신, 소개글 생성 요청
+    // 만료 정리는 엔티티를 올리지 않고 id 묶음 단위의 벌크 쿼리로 처리한다
+    @Transactional
+    public void postProcessAfterAnimalUpdate() {
+        List<Long> expiredAnimalIds = animalRepository.findIdsOutOfDate(LocalDateTime.now().toLocalDate());
+        for (List<Long> animalIds : partition(expiredAnimalIds, EXPIRY_CHUNK_SIZE)) {
+            purgeExpiredAnimals(animalIds);
         }
 
-        entityManager.flush();
-    }
-
-    private List<Animal> convertAnimalJsonToAnimals(String animalJson, Shelter shelter, List<Long> existingAnimalIds) {
-        return jsonParser.parse(animalJson, AnimalDTO.class)
-                .map(AnimalDTO::response)
-                .map(AnimalDTO.ResponseDTO::body)
-                .map(AnimalDTO.BodyDTO::items)
-                .map(AnimalDTO.ItemsDTO::item)
-                .orElse(Collections.emptyList())
-                .stream()
-                .filter(item -> isNewAnimal(item, existingAnimalIds))
-                .filter(this::isActiveAnimal)
-                .map(item -> {
-                    String name = createAnimalName();
-                    String kind = parseSpecies(item.kindCd());
-                    return buildAnimal(item, name, kind, shelter);
-                })
-                .collect(Collectors.toList());
-    }
-
-    private boolean isNewAnimal(AnimalDTO.ItemDTO item, List<Long> existingAnimalIds) {
-        return !existingAnimalIds.contains(Long.valueOf(item.desertionNo()));
+        updateAnimalIntroductions();
+        resolveDuplicateShelters();
     }
 
-    private boolean isActiveAnimal(AnimalDTO.ItemDTO item) {
-        return LocalDate.parse(item.noticeEdt(), YEAR_HOUR_DAY_FORMAT).isAfter(LocalDate.now());
+    private Map<Long, Long> findAnimalLikeCounts(List<Animal> animals) {
+        List<Long> animalIds = animals.stream()
+                .map(Animal::getId)
+                .toList();
+        return likeService.getLikeCounts(LikeTarget.ANIMAL, animalIds);
     }
 
-    private String parseSpecies(String input) {
-        Pattern pattern = Pattern.compile("\\[.*?\\] (.+)");
-        Matcher matcher = pattern.matcher(input);
+    private void purgeExpiredAnimals(List<Long> animalIds) {
+        List<Long> updatedShelterIds = animalRepository.findShelterIdsByIds(animalIds);
 
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-
-        return null;
-    }
+        favoriteAnimalRepository.deleteByAnimalIds(animalIds);
+        animalRepository.softDeleteByIds(animalIds);
+        shelterRepository.refreshAnimalCounts(updatedShelterIds);
 
-    private String createAnimalName() {
-        int index = ThreadLocalRandom.current().nextInt(animalNames.length);
-        return animalNames[index];
+        likeService.clearAnimalLikeData(animalIds);
+        removeAnimalsFromSearchHistory(animalIds);
     }
 
-    private void postProcessAfterAnimalUpdate() {
-        List<Animal> expiredAnimals = animalRepository.findAllOutOfDateWithShelter(LocalDateTime.now().toLocalDate());
+    // 역인덱스(animalId -> 조회한 유저)로 실제로 조회한 유저의 기록만 지운다. 모든 요청은 파이프라인으로 묶는다
+    private void removeAnimalsFromSearchHistory(List<Long> animalIds) {
+        Map<Long, Set<String>> viewerIdsByAnimal = redisService.getMembersOfSets(ANIMAL_VIEWERS_KEY_PREFIX, animalIds);
 
-        removeAnimalLikesFromCache(expiredAnimals);
-        removeAnimalsFromUserSearchHistory(expiredAnimals);
-        favoriteAnimalRepository.deleteByAnimalIn(expiredAnimals);
-        animalRepository.deleteAll(expiredAnimals);
+        Map<String, List<String>> expiredAnimalIdsBySearchKey = new HashMap<>();
+        viewerIdsByAnimal.forEach((animalId, viewerIds) -> viewerIds.forEach(viewerId ->
+                expiredAnimalIdsBySearchKey.computeIfAbsent(ANIMAL_SEARCH_KEY_PREFIX + ":" + viewerId, key -> new ArrayList<>())
+                        .add(animalId.toString())));
 
-        Set<Shelter> updatedShelters = findUpdatedShelters(expiredAnimals);
-        updateShelterAnimalCounts(updatedShelters);
-
-        updateAnimalIntroductions();
-        resolveDuplicateShelters();
-    }
-
-    private void removeAnimalLikesFromCache(List<Animal> expiredAnimals) {
-        expiredAnimals.forEach(animal -> likeService.clearAnimalLikeData(animal.getId()));
+        redisService.removeListElements(expiredAnimalIdsBySearchKey);
+        redisService.removeValues(ANIMAL_VIEWERS_KEY_PREFIX, animalIds);
     }
 
-    private void removeAnimalsFromUserSearchHistory(List<Animal> expiredAnimals) {
-        List<User> users = userRepository.findAllNonWithdrawn();
-        for (User user : users) {
-            String key = ANIMAL_SEARCH_KEY_PREFIX + ":" + user.getId();
-            expiredAnimals.forEach(animal ->
-                    redisService.removeListElement(key, animal.getId().toString())
-            );
+    private <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            chunks.add(list.subList(i, Math.min(i + size, list.size())));
         }
-    }
-
-    private void updateShelterAnimalCounts(Set<Shelter> updatedShelters) {
-        updatedShelters.forEach(shelter ->
-                shelter.updateAnimalCount(animalRepository.countByShelterId(shelter.getId()))
-        );
-    }
-
-    private Set<Shelter> findUpdatedShelters(List<Animal> expiredAnimals) {
-        return expiredAnimals.stream()
-                .map(Animal::getShelter)
-                .collect(Collectors.toSet());
+        return chunks;
     }
 
     private void updateAnimalIntroductions() {
@@ -347,10 +252,11 @@ public class AnimalService {
         if (userId != null) {
             String key = ANIMAL_SEARCH_KEY_PREFIX + ":" + userId;
             redisService.addListElement(key, animalId.toString(), 5L);
+            redisService.addSetElement(ANIMAL_VIEWERS_KEY_PREFIX + ":" + animalId, userId, ANIMAL_VIEWERS_EXPIRATION);
         }
     }
 
-    private List<Long> findLatestAnimalIds() {
+    public List<Long> findLatestAnimalIds() {
         return animalRepository.findAllIds(DEFAULT_PAGE_REQUEST).getContent();
     }
 
@@ -363,6 +269,7 @@ public class AnimalService {
                 .retrieve()
                 .bodyToMono(AnimalResponse.RecommendationDTO.class)
                 .map(AnimalResponse.RecommendationDTO::recommendedAnimals)
+                .timeout(Duration.ofMillis(RECOMMENDED_ANIMAL_TIMEOUT_MS))
                 .onErrorResume(e -> {
                     log.warn("FastAPI 호출 시 에러 발생: {}", e.getMessage());
                     return Mono.just(Collections.emptyList());
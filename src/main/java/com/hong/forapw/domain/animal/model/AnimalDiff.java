@@ -0,0 +1,8 @@
+package com.hong.forapw.domain.animal.model;
+
+import com.hong.forapw.domain.animal.entity.Animal;
+
+import java.util.List;
+
+public record AnimalDiff(List<Animal> newAnimals, List<Animal> changedAnimals) {
+}
@@ -0,0 +1,52 @@
+package com.hong.forapw.domain.animal.model;
+
+import com.hong.forapw.domain.animal.entity.Animal;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+// 수집 시작 시점에 저장되어 있던 동물의 id와 내용 지문(fingerprint)
+// id 오름차순 정렬된 primitive 배열 + 이진 탐색으로, 10만 건 기준에서도 박싱 없이 조회한다
+public final class ExistingAnimalIndex {
+
+    private static final int NOT_FOUND = -1;
+
+    private final long[] ids;
+    private final int[] fingerprints;
+
+    // ids는 오름차순으로 정렬되어 있어야 한다
+    public ExistingAnimalIndex(long[] ids, int[] fingerprints) {
+        this.ids = ids;
+        this.fingerprints = fingerprints;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) != NOT_FOUND;
+    }
+
+    public boolean isChanged(long id, int fingerprint) {
+        int index = indexOf(id);
+        return index != NOT_FOUND && fingerprints[index] != fingerprint;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // 공공 API에서 바뀔 수 있는 필드만으로 지문을 만든다 (이름, 소개글 등 우리 쪽에서 채우는 값은 제외)
+    public static int fingerprintOf(LocalDate noticeSdt, LocalDate noticeEdt, String processState, String age, String weight,
+                                    String neuter, String specialMark, String profileURL, String color, String gender) {
+        return Objects.hash(noticeSdt, noticeEdt, processState, age, weight, neuter, specialMark, profileURL, color, gender);
+    }
+
+    public static int fingerprintOf(Animal animal) {
+        return fingerprintOf(animal.getNoticeSdt(), animal.getNoticeEdt(), animal.getProcessState(), animal.getAge(), animal.getWeight(),
+                animal.getNeuter(), animal.getSpecialMark(), animal.getProfileURL(), animal.getColor(), animal.getGender());
+    }
+
+    private int indexOf(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : NOT_FOUND;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hong.forapw.domain.animal.model;
+
+import com.hong.forapw.domain.shelter.Shelter;
+
+import java.util.List;
+
+public record ShelterAnimalItems(Shelter shelter, List<AnimalDTO.ItemDTO> items) {
+}
@@ -0,0 +1,115 @@
+package com.hong.forapw.domain.animal.repository;
+
+import com.hong.forapw.domain.animal.entity.Animal;
+import com.hong.forapw.domain.animal.model.ExistingAnimalIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+// id가 직접 할당되는 Animal은 saveAll 시 엔티티마다 SELECT(merge)가 발생하므로, 수집 데이터는 JDBC 배치로 저장한다
+@Repository
+@RequiredArgsConstructor
+public class AnimalJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+    private static final int INITIAL_INDEX_CAPACITY = 1 << 14;
+
+    // 이미 저장된 동물(재시작으로 다시 수집된 경우 포함)은 무시한다
+    public int batchInsertIgnore(List<Animal> animals) {
+        String sql = "INSERT IGNORE INTO animal_tb (id, shelter_id, name, happen_dt, happen_place, kind, category, color, age, weight, " +
+                "notice_sdt, notice_edt, profileurl, process_state, gender, neuter, special_mark, region, introduction_content, " +
+                "inquiry_num, is_adopted, created_date, updated_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, NOW(), NOW())";
+
+        int[][] results = jdbcTemplate.batchUpdate(sql, animals, BATCH_SIZE, (ps, animal) -> {
+            ps.setLong(1, animal.getId());
+            ps.setLong(2, animal.getShelter().getId());
+            ps.setString(3, animal.getName());
+            ps.setDate(4, Date.valueOf(animal.getHappenDt()));
+            ps.setString(5, animal.getHappenPlace());
+            ps.setString(6, animal.getKind());
+            ps.setInt(7, animal.getCategory().ordinal());
+            ps.setString(8, animal.getColor());
+            ps.setString(9, animal.getAge());
+            ps.setString(10, animal.getWeight());
+            ps.setDate(11, Date.valueOf(animal.getNoticeSdt()));
+            ps.setDate(12, Date.valueOf(animal.getNoticeEdt()));
+            ps.setString(13, animal.getProfileURL());
+            ps.setString(14, animal.getProcessState());
+            ps.setString(15, animal.getGender());
+            ps.setString(16, animal.getNeuter());
+            ps.setString(17, animal.getSpecialMark());
+            ps.setString(18, animal.getRegion());
+            ps.setString(19, animal.getIntroductionContent());
+        });
+
+        return sumAffectedRows(results);
+    }
+
+    // 공공 API에서 갱신되는 필드만 덮어쓴다
+    public int batchUpdateChanged(List<Animal> animals) {
+        String sql = "UPDATE animal_tb SET notice_sdt = ?, notice_edt = ?, process_state = ?, age = ?, weight = ?, neuter = ?, " +
+                "special_mark = ?, profileurl = ?, color = ?, gender = ?, updated_date = NOW() WHERE id = ?";
+
+        int[][] results = jdbcTemplate.batchUpdate(sql, animals, BATCH_SIZE, (ps, animal) -> {
+            ps.setDate(1, Date.valueOf(animal.getNoticeSdt()));
+            ps.setDate(2, Date.valueOf(animal.getNoticeEdt()));
+            ps.setString(3, animal.getProcessState());
+            ps.setString(4, animal.getAge());
+            ps.setString(5, animal.getWeight());
+            ps.setString(6, animal.getNeuter());
+            ps.setString(7, animal.getSpecialMark());
+            ps.setString(8, animal.getProfileURL());
+            ps.setString(9, animal.getColor());
+            ps.setString(10, animal.getGender());
+            ps.setLong(11, animal.getId());
+        });
+        return sumAffectedRows(results);
+    }
+
+    // 저장된 동물 전체를 엔티티로 올리지 않고, id 순으로 읽으면서 (id, 지문) 배열만 만든다
+    public ExistingAnimalIndex loadExistingAnimalIndex() {
+        String sql = "SELECT id, notice_sdt, notice_edt, process_state, age, weight, neuter, special_mark, profileurl, color, gender " +
+                "FROM animal_tb WHERE removed_at IS NULL ORDER BY id";
+
+        long[][] ids = {new long[INITIAL_INDEX_CAPACITY]};
+        int[][] fingerprints = {new int[INITIAL_INDEX_CAPACITY]};
+        int[] size = {0};
+
+        jdbcTemplate.query(sql, rs -> {
+            if (size[0] == ids[0].length) {
+                ids[0] = Arrays.copyOf(ids[0], size[0] * 2);
+                fingerprints[0] = Arrays.copyOf(fingerprints[0], size[0] * 2);
+            }
+
+            ids[0][size[0]] = rs.getLong(1);
+            fingerprints[0][size[0]] = ExistingAnimalIndex.fingerprintOf(
+                    toLocalDate(rs.getDate(2)), toLocalDate(rs.getDate(3)), rs.getString(4), rs.getString(5), rs.getString(6),
+                    rs.getString(7), rs.getString(8), rs.getString(9), rs.getString(10), rs.getString(11));
+            size[0]++;
+        });
+
+        return new ExistingAnimalIndex(Arrays.copyOf(ids[0], size[0]), Arrays.copyOf(fingerprints[0], size[0]));
+    }
+
+    private LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private int sumAffectedRows(int[][] results) {
+        int affectedRowCount = 0;
+        for (int[] batchResult : results) {
+            for (int affectedRows : batchResult) {
+                affectedRowCount += Math.max(affectedRows, 0);
+            }
+        }
+        return affectedRowCount;
+    }
+}
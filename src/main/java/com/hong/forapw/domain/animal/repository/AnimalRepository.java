@@ -2,6 +2,7 @@ package com.hong.forapw.domain.animal.repository;
 
 import com.hong.forapw.domain.animal.entity.Animal;
 import com.hong.forapw.domain.animal.constant.AnimalType;
+import com.hong.forapw.domain.like.model.LikeCountDTO;
 import com.hong.forapw.domain.region.constant.District;
 import com.hong.forapw.domain.region.constant.Province;
 import com.hong.forapw.domain.shelter.Shelter;
@@ -49,9 +50,11 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
             "WHERE (:category IS NULL OR a.category = :category) AND s.id = :careRegNo AND a.removedAt IS NULL")
     Page<Animal> findByShelterIdAndType(@Param("category") AnimalType category, @Param("careRegNo") Long careRegNo, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"shelter"})
-    @Query("SELECT a FROM Animal a WHERE a.noticeEdt < :date AND a.removedAt IS NULL")
-    List<Animal> findAllOutOfDateWithShelter(LocalDate date);
+    @Query("SELECT a.id FROM Animal a WHERE a.noticeEdt < :date AND a.removedAt IS NULL")
+    List<Long> findIdsOutOfDate(@Param("date") LocalDate date);
+
+    @Query("SELECT DISTINCT a.shelter.id FROM Animal a WHERE a.id IN :animalIds")
+    List<Long> findShelterIdsByIds(@Param("animalIds") List<Long> animalIds);
 
     @Query("SELECT a.id FROM Animal a " +
             "JOIN a.shelter s " +
@@ -75,6 +78,11 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("SELECT COUNT(fa) FROM FavoriteAnimal fa WHERE fa.animal.id = :animalId")
     Long countLikesByAnimalId(@Param("animalId") Long animalId);
 
+    @Query("SELECT new com.hong.forapw.domain.like.model.LikeCountDTO(fa.animal.id, COUNT(fa)) " +
+            "FROM FavoriteAnimal fa " +
+            "WHERE fa.animal.id IN :animalIds GROUP BY fa.animal.id")
+    List<LikeCountDTO> countLikesByAnimalIds(@Param("animalIds") List<Long> animalIds);
+
     @Query("SELECT COUNT(a) > 0 FROM Animal a WHERE a.id = :animalId AND a.removedAt IS NULL")
     boolean existsById(@Param("animalId") Long animalId);
 
@@ -86,6 +94,10 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("UPDATE Animal a SET a.shelter = :shelter WHERE a.id = :animalId")
     void updateShelter(@Param("shelter") Shelter shelter, @Param("animalId") Long animalId);
 
+    @Modifying
+    @Query("UPDATE Animal a SET a.removedAt = CURRENT_TIMESTAMP WHERE a.id IN :animalIds")
+    void softDeleteByIds(@Param("animalIds") List<Long> animalIds);
+
     @Modifying
     @Query("UPDATE Animal a SET a.shelter = :targetShelter WHERE a.shelter.id IN :shelterIds")
     void updateShelterByShelterIds(@Param("targetShelter") Shelter targetShelter, @Param("shelterIds") List<Long> shelterIds);
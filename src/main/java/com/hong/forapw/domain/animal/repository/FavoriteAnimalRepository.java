@@ -39,6 +39,6 @@ public interface FavoriteAnimalRepository extends JpaRepository<FavoriteAnimal,
 
     @Modifying
     @Transactional
-    @Query("DELETE FROM FavoriteAnimal fa WHERE fa.animal IN :animals AND fa.animal.removedAt IS NULL")
-    void deleteByAnimalIn(@Param("animals") List<Animal> animals);
+    @Query("DELETE FROM FavoriteAnimal fa WHERE fa.animal.id IN :animalIds")
+    void deleteByAnimalIds(@Param("animalIds") List<Long> animalIds);
 }
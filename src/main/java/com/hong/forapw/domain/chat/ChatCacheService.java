@@ -0,0 +1,93 @@
+package com.hong.forapw.domain.chat;
+
+import com.hong.forapw.domain.chat.entity.Message;
+import com.hong.forapw.domain.chat.model.ChatRoomMembersChangedEvent;
+import com.hong.forapw.domain.chat.repository.ChatRoomRepository;
+import com.hong.forapw.domain.chat.repository.MessageRepository;
+import com.hong.forapw.domain.group.constant.GroupRole;
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ChatCacheService {
+
+    private final RedisService redisService;
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final MessageRepository messageRepository;
+
+    private static final String CHAT_ROOM_MEMBERS_KEY_PREFIX = "chatRoom:members:";
+    private static final String MESSAGE_COUNT_KEY_PREFIX = "chatRoom:messageCount";
+    private static final Long CHAT_ROOM_MEMBERS_EXPIRATION = 60L * 30; // 30분 (초 단위)
+
+    // 채팅방 멤버(임시 회원 제외) id 목록. 가입 승인/탈퇴/강퇴 시 GroupService가 보낸 이벤트로 커밋 후에 무효화한다
+    public List<Long> getChatRoomMemberIds(Long chatRoomId) {
+        String key = CHAT_ROOM_MEMBERS_KEY_PREFIX + chatRoomId;
+        Set<String> cachedMemberIds = redisService.getMembersOfSet(key);
+        if (cachedMemberIds != null && !cachedMemberIds.isEmpty()) {
+            return cachedMemberIds.stream()
+                    .map(Long::valueOf)
+                    .toList();
+        }
+
+        List<Long> memberIds = chatRoomRepository.findUserIdsByChatRoomIdExcludingRole(chatRoomId, GroupRole.TEMP);
+        redisService.addSetElements(key, memberIds, CHAT_ROOM_MEMBERS_EXPIRATION);
+        return memberIds;
+    }
+
+    public void evictChatRoomMembers(Long chatRoomId) {
+        redisService.removeValue(CHAT_ROOM_MEMBERS_KEY_PREFIX + chatRoomId);
+    }
+
+    // 커밋 전에 지우면, 그 사이 다른 요청이 커밋 전 멤버 목록으로 캐시를 다시 채워 TTL까지 남을 수 있다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleChatRoomMembersChanged(ChatRoomMembersChangedEvent event) {
+        evictChatRoomMembers(event.chatRoomId());
+    }
+
+    // 채팅방의 메시지 순번을 count개 예약하고, 예약된 첫 번째 순번을 반환한다 (INCRBY 한 번으로 원자적으로 처리)
+    public Long reserveMessageSequences(Long chatRoomId, long count) {
+        initMessageCountIfAbsent(chatRoomId);
+        Long lastSequenceExclusive = redisService.incrementValueAndGet(MESSAGE_COUNT_KEY_PREFIX, chatRoomId.toString(), count);
+        return lastSequenceExclusive - count;
+    }
+
+    // 채팅방별 지금까지 할당된 메시지 수. 유실된 카운터는 Mongo 기준으로 다시 채운다
+    public Map<Long, Long> getMessageCounts(List<Long> chatRoomIds) {
+        Map<Long, Long> messageCounts = redisService.getValuesInLong(MESSAGE_COUNT_KEY_PREFIX, chatRoomIds);
+        chatRoomIds.stream()
+                .filter(chatRoomId -> !messageCounts.containsKey(chatRoomId))
+                .forEach(chatRoomId -> messageCounts.put(chatRoomId, initMessageCountIfAbsent(chatRoomId)));
+
+        return messageCounts;
+    }
+
+    public Long getMessageCount(Long chatRoomId) {
+        return getMessageCounts(List.of(chatRoomId)).get(chatRoomId);
+    }
+
+    // 순번이 있는 마지막 메시지 다음 값으로 초기화하고, 순번 도입 전 메시지만 있는 방은 메시지 개수로 초기화한다
+    private Long initMessageCountIfAbsent(Long chatRoomId) {
+        Long messageCount = redisService.getValueInLongWithNull(MESSAGE_COUNT_KEY_PREFIX, chatRoomId.toString());
+        if (messageCount != null) {
+            return messageCount;
+        }
+
+        long initialCount = messageRepository.findFirstByChatRoomIdOrderBySequenceDesc(chatRoomId)
+                .map(Message::getSequence)
+                .map(sequence -> sequence + 1)
+                .orElseGet(() -> messageRepository.countByChatRoomId(chatRoomId).longValue());
+
+        if (redisService.storeValueIfAbsent(MESSAGE_COUNT_KEY_PREFIX, chatRoomId.toString(), String.valueOf(initialCount))) {
+            return initialCount;
+        }
+        return redisService.getValueInLong(MESSAGE_COUNT_KEY_PREFIX, chatRoomId.toString());
+    }
+}
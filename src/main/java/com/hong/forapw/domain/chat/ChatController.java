@@ -42,6 +42,13 @@ public class ChatController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    @GetMapping("/chatRooms/{chatRoomId}/messages/cursor")
+    public ResponseEntity<?> findMessageListInRoomByCursor(@PathVariable Long chatRoomId,
+                                                           @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ChatResponse.FindMessageCursorDTO responseDTO = chatService.findMessagesInRoomWithCursor(chatRoomId, userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @GetMapping("/chatRooms/{chatRoomId}/drawer")
     public ResponseEntity<?> findChatRoomDrawer(@PathVariable Long chatRoomId, @AuthenticationPrincipal CustomUserDetails userDetails) {
         ChatResponse.FindChatRoomDrawerDTO responseDTO = chatService.findChatRoomDrawer(chatRoomId, userDetails.getUser().getId());
@@ -1,7 +1,11 @@
 package com.hong.forapw.domain.chat;
 
+import com.hong.forapw.domain.alarm.constant.AlarmType;
+import com.hong.forapw.domain.alarm.model.AlarmRequest;
+import com.hong.forapw.domain.chat.model.ChatAlarmKey;
 import com.hong.forapw.domain.chat.model.ChatRequest;
 import com.hong.forapw.domain.chat.model.ChatResponse;
+import com.hong.forapw.domain.chat.model.PendingChatAlarm;
 import com.hong.forapw.domain.chat.entity.ChatUser;
 import com.hong.forapw.domain.chat.entity.LinkMetadata;
 import com.hong.forapw.domain.chat.entity.Message;
@@ -98,4 +102,17 @@ public class ChatMapper {
 
         return new ChatResponse.LinkObjectDTO(message.getId(), title, description, image, ogUrl, message.getDate());
     }
+
+    public static AlarmRequest.AlarmDTO toChatAlarmDTO(ChatAlarmKey alarmKey, PendingChatAlarm pendingAlarm) {
+        String content = pendingAlarm.messageCount() == 1
+                ? "새로운 메시지: " + pendingAlarm.lastContent()
+                : "새로운 메시지 " + pendingAlarm.messageCount() + "개: " + pendingAlarm.lastContent();
+
+        return new AlarmRequest.AlarmDTO(
+                alarmKey.receiverId(),
+                content,
+                "/chatting/" + alarmKey.chatRoomId(),
+                LocalDateTime.now(),
+                AlarmType.CHATTING);
+    }
 }
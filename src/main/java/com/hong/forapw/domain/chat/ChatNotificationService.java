@@ -0,0 +1,93 @@
+package com.hong.forapw.domain.chat;
+
+import com.hong.forapw.domain.alarm.model.AlarmRequest;
+import com.hong.forapw.domain.chat.model.ChatAlarmKey;
+import com.hong.forapw.domain.chat.model.ChatRequest;
+import com.hong.forapw.domain.chat.model.PendingChatAlarm;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hong.forapw.domain.chat.ChatMapper.toChatAlarmDTO;
+import static com.hong.forapw.integration.rabbitmq.RabbitMqConfig.ALARM_EXCHANGE;
+import static com.hong.forapw.integration.rabbitmq.RabbitMqConfig.ALARM_PERSIST_QUEUE;
+
+// 새 메시지 알람을 (수신자, 채팅방) 단위로 모았다가 주기마다 하나의 알람으로 합쳐서 발행한다
+// 100명 채팅방에 메시지가 연달아 와도 수신자당 한 주기에 알람 하나만 저장된다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatNotificationService {
+
+    private final ChatCacheService chatCacheService;
+    private final RabbitTemplate confirmRabbitTemplate;
+    private final Map<ChatAlarmKey, PendingChatAlarm> pendingAlarms = new ConcurrentHashMap<>();
+
+    private static final long FLUSH_INTERVAL_MS = 3000L;
+    private static final long CONFIRM_TIMEOUT_MS = 5000L;
+
+    public void enqueue(List<ChatRequest.MessageDTO> messageDTOs) {
+        Map<Long, List<Long>> memberIdsByRoom = new HashMap<>();
+        for (ChatRequest.MessageDTO messageDTO : messageDTOs) {
+            List<Long> memberIds = memberIdsByRoom.computeIfAbsent(messageDTO.chatRoomId(), chatCacheService::getChatRoomMemberIds);
+            PendingChatAlarm pendingAlarm = new PendingChatAlarm(1, messageDTO.content());
+
+            memberIds.stream()
+                    .filter(memberId -> !memberId.equals(messageDTO.senderId())) // 보낸 사람은 제외
+                    .forEach(memberId -> pendingAlarms.merge(new ChatAlarmKey(memberId, messageDTO.chatRoomId()), pendingAlarm, PendingChatAlarm::merge));
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flushPendingAlarms() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flush() {
+        Map<ChatAlarmKey, PendingChatAlarm> snapshot = drainPendingAlarms();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        try {
+            publishWithConfirms(snapshot);
+        } catch (RuntimeException e) {
+            log.error("채팅 알람 발행 실패, {}건을 다음 주기에 재시도합니다: {}", snapshot.size(), e.getMessage());
+            snapshot.forEach((alarmKey, pendingAlarm) -> pendingAlarms.merge(alarmKey, pendingAlarm, (newer, older) -> older.merge(newer)));
+        }
+    }
+
+    private Map<ChatAlarmKey, PendingChatAlarm> drainPendingAlarms() {
+        Map<ChatAlarmKey, PendingChatAlarm> snapshot = new HashMap<>();
+        for (ChatAlarmKey alarmKey : pendingAlarms.keySet()) {
+            PendingChatAlarm pendingAlarm = pendingAlarms.remove(alarmKey);
+            if (pendingAlarm != null) {
+                snapshot.put(alarmKey, pendingAlarm);
+            }
+        }
+        return snapshot;
+    }
+
+    // 하나의 채널에서 모두 발행한 뒤, 브로커 확인(confirm)은 마지막에 한 번만 기다린다
+    private void publishWithConfirms(Map<ChatAlarmKey, PendingChatAlarm> snapshot) {
+        confirmRabbitTemplate.invoke(operations -> {
+            snapshot.forEach((alarmKey, pendingAlarm) -> {
+                AlarmRequest.AlarmDTO alarmDTO = toChatAlarmDTO(alarmKey, pendingAlarm);
+                operations.convertAndSend(ALARM_EXCHANGE, ALARM_PERSIST_QUEUE, alarmDTO);
+            });
+            operations.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+            return null;
+        });
+    }
+}
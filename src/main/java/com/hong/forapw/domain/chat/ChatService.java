@@ -5,6 +5,7 @@ import com.hong.forapw.domain.chat.model.ChatResponse;
 import com.hong.forapw.domain.chat.model.MessageDetailDTO;
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
+import com.hong.forapw.common.model.KeysetCursor;
 import com.hong.forapw.common.utils.MetaDataUtils;
 import com.hong.forapw.domain.chat.entity.ChatUser;
 import com.hong.forapw.domain.chat.entity.LinkMetadata;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +32,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.hong.forapw.common.utils.PaginationUtils.createCursorPageable;
 import static com.hong.forapw.domain.chat.ChatMapper.*;
 
 @Service
@@ -42,6 +45,7 @@ public class ChatService {
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final RabbitMqUtils brokerService;
+    private final ChatCacheService chatCacheService;
 
     private static final String SORT_BY_MESSAGE_DATE = "date";
     private static final String URL_REGEX = "(https?://[\\w\\-\\._~:/?#\\[\\]@!$&'()*+,;=%]+)";
@@ -64,9 +68,13 @@ public class ChatService {
 
     public ChatResponse.FindChatRoomsDTO findChatRooms(Long userId) {
         List<ChatUser> chatUsers = chatUserRepository.findAllByUserIdWithChatRoomAndGroup(userId);
+        List<Long> chatRoomIds = chatUsers.stream()
+                .map(ChatUser::getChatRoomId)
+                .toList();
+        Map<Long, Long> messageCounts = chatCacheService.getMessageCounts(chatRoomIds);
 
         List<ChatResponse.RoomDTO> roomDTOS = chatUsers.stream()
-                .map(this::buildRoomDTO)
+                .map(chatUser -> buildRoomDTO(chatUser, messageCounts.get(chatUser.getChatRoomId())))
                 .collect(Collectors.toList());
 
         return new ChatResponse.FindChatRoomsDTO(roomDTOS);
@@ -86,10 +94,35 @@ public class ChatService {
         List<ChatResponse.MessageDTO> messageDTOs = convertToMessageDTOs(messages, userId);
         Collections.reverse(messageDTOs);
 
-        updateLastReadMessage(chatUser, messageDTOs, chatRoomId);
+        updateLastReadMessage(chatUser, messages, chatRoomId);
         return new ChatResponse.FindMessagesInRoomDTO(chatUser.getRoomName(), chatUser.getLastReadMessageId(), nickName, messageDTOs);
     }
 
+    // 위로 스크롤하며 이전 메시지를 불러오는 커서 기반 조회. 가장 최근 페이지를 읽을 때만 마지막으로 읽은 메시지를 갱신
+    @Transactional
+    public ChatResponse.FindMessageCursorDTO findMessagesInRoomWithCursor(Long chatRoomId, Long userId, String cursor, int size) {
+        String nickName = userRepository.findNickname(userId).orElseThrow(
+                () -> new CustomException(ExceptionCode.USER_NOT_FOUND)
+        );
+
+        ChatUser chatUser = chatUserRepository.findByUserIdAndChatRoomIdWithChatRoom(userId, chatRoomId).orElseThrow(
+                () -> new CustomException(ExceptionCode.USER_FORBIDDEN)
+        );
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Message> messageSlice = messageRepository.findByChatRoomIdBefore(chatRoomId, keysetCursor.date(), keysetCursor.id(), createCursorPageable(size));
+        List<Message> messages = messageSlice.getContent();
+        List<ChatResponse.MessageDTO> messageDTOs = convertToMessageDTOs(messages, userId);
+        Collections.reverse(messageDTOs);
+
+        if (keysetCursor.isFirst()) {
+            updateLastReadMessage(chatUser, messages, chatRoomId);
+        }
+
+        String nextCursor = KeysetCursor.encodeNext(messageSlice, message -> KeysetCursor.of(message.getDate(), message.getId()));
+        return new ChatResponse.FindMessageCursorDTO(chatUser.getRoomName(), chatUser.getLastReadMessageId(), nickName, messageDTOs, nextCursor, messageSlice.hasNext());
+    }
+
     public ChatResponse.FindChatRoomDrawerDTO findChatRoomDrawer(Long chatRoomId, Long userId) {
         validateChatAuthorization(userId, chatRoomId);
 
@@ -143,7 +176,9 @@ public class ChatService {
         ChatUser chatUser = chatUserRepository.findByUserIdAndChatRoomId(message.getSenderId(), message.getChatRoomId())
                 .orElseThrow(() -> new CustomException(ExceptionCode.USER_FORBIDDEN));
 
-        chatUser.updateLastMessage(message.getId(), chatUser.getLastReadMessageIndex() + 1);
+        Long messageIndex = Optional.ofNullable(message.getSequence())
+                .orElse(chatUser.getLastReadMessageIndex() + 1);
+        chatUser.updateLastMessage(message.getId(), messageIndex);
         return new ChatResponse.ReadMessageDTO(messageId);
     }
 
@@ -180,12 +215,12 @@ public class ChatService {
         CompletableFuture.runAsync(() -> brokerService.sendChatMessageToRoom(chatRoomId, messageDTO));
     }
 
-    private ChatResponse.RoomDTO buildRoomDTO(ChatUser chatUser) {
+    private ChatResponse.RoomDTO buildRoomDTO(ChatUser chatUser, long totalMessages) {
         String lastMessageId = chatUser.getLastReadMessageId();
         MessageDetailDTO lastMessageDetails = fetchLastMessageContentAndDate(lastMessageId);
 
         Long unreadMessageIndex = chatUser.getLastReadMessageIndex();
-        long unreadMessageOffset = calculateUnreadMessageOffset(chatUser.getChatRoom().getId(), unreadMessageIndex);
+        long unreadMessageOffset = calculateUnreadMessageOffset(totalMessages, unreadMessageIndex);
 
         return toRoomDTO(chatUser, lastMessageDetails.content(), lastMessageDetails.date(), unreadMessageOffset);
     }
@@ -200,8 +235,7 @@ public class ChatService {
                 .orElse(new MessageDetailDTO(null, null));
     }
 
-    private long calculateUnreadMessageOffset(Long chatRoomId, Long lastReadMessageIdx) {
-        long totalMessages = messageRepository.countByChatRoomId(chatRoomId);
+    private long calculateUnreadMessageOffset(long totalMessages, Long lastReadMessageIdx) {
         long totalPages = totalMessages != 0L ? (totalMessages / 50) : 0L;
 
         if (lastReadMessageIdx == null || lastReadMessageIdx == 0L) {
@@ -218,11 +252,14 @@ public class ChatService {
                 .toList();
     }
 
-    private void updateLastReadMessage(ChatUser chatUser, List<ChatResponse.MessageDTO> messageDTOs, Long chatRoomId) {
-        if (!messageDTOs.isEmpty()) {
-            ChatResponse.MessageDTO lastMessage = messageDTOs.get(messageDTOs.size() - 1);
-            long totalMessages = messageRepository.countByChatRoomId(chatRoomId);
-            chatUser.updateLastMessage(lastMessage.messageId(), totalMessages - 1);
-        }
+    // 페이지에서 가장 최근 메시지의 순번을 마지막으로 읽은 위치로 기록한다. 순번 도입 전 메시지는 채팅방 메시지 수로 대신한다
+    private void updateLastReadMessage(ChatUser chatUser, List<Message> messages, Long chatRoomId) {
+        messages.stream()
+                .max(Comparator.comparing(Message::getDate))
+                .ifPresent(lastMessage -> {
+                    Long lastMessageIndex = Optional.ofNullable(lastMessage.getSequence())
+                            .orElseGet(() -> chatCacheService.getMessageCount(chatRoomId) - 1);
+                    chatUser.updateLastMessage(lastMessage.getId(), lastMessageIndex);
+                });
     }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -14,6 +16,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "chatRoomId_sequence", def = "{'chatRoomId': 1, 'sequence': -1}"),
+        @CompoundIndex(name = "chatRoomId_date_id", def = "{'chatRoomId': 1, 'date': -1, '_id': -1}")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Message implements Serializable {
@@ -37,11 +43,13 @@ public class Message implements Serializable {
 
     private LinkMetadata metadata;
 
+    private Long sequence; // 채팅방 내 메시지 순번 (0부터 시작)
+
     @Indexed(expireAfterSeconds = 7890048) // 3개월 후 자동 삭제
     private LocalDateTime date;
 
     @Builder
-    public Message(String id, Long chatRoomId, Long senderId, String nickName, String profileURL, MessageType messageType, String content, List<String> objectURLs, LinkMetadata metadata, LocalDateTime date) {
+    public Message(String id, Long chatRoomId, Long senderId, String nickName, String profileURL, MessageType messageType, String content, List<String> objectURLs, LinkMetadata metadata, LocalDateTime date, Long sequence) {
         this.id = id;
         this.chatRoomId = chatRoomId;
         this.senderId = senderId;
@@ -52,6 +60,7 @@ public class Message implements Serializable {
         this.objectURLs = objectURLs;
         this.metadata = metadata;
         this.date = date;
+        this.sequence = sequence;
     }
 
     public MessageType getMessageType() {
@@ -0,0 +1,4 @@
+package com.hong.forapw.domain.chat.model;
+
+public record ChatAlarmKey(Long receiverId, Long chatRoomId) {
+}
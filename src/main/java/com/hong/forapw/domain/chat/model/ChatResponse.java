@@ -15,6 +15,10 @@ public class ChatResponse {
                                         List<MessageDTO> messages) {
     }
 
+    public record FindMessageCursorDTO(String chatRoomName, String lastMessageId, String myNickName,
+                                       List<MessageDTO> messages, String nextCursor, boolean hasNext) {
+    }
+
     public record MessageDTO(String messageId,
                              String nickName,
                              String profileURL,
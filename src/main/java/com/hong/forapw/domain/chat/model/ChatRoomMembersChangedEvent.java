@@ -0,0 +1,5 @@
+package com.hong.forapw.domain.chat.model;
+
+// 채팅방 멤버가 바뀌었음을 알리는 이벤트. 트랜잭션이 커밋된 뒤에 멤버 캐시를 무효화한다
+public record ChatRoomMembersChangedEvent(Long chatRoomId) {
+}
@@ -0,0 +1,8 @@
+package com.hong.forapw.domain.chat.model;
+
+public record PendingChatAlarm(int messageCount, String lastContent) {
+
+    public PendingChatAlarm merge(PendingChatAlarm next) {
+        return new PendingChatAlarm(messageCount + next.messageCount, next.lastContent);
+    }
+}
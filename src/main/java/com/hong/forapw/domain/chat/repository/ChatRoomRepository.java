@@ -18,4 +18,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     @Query("SELECT gu.user FROM GroupUser gu WHERE gu.group.id = (SELECT cr.group.id FROM ChatRoom cr WHERE cr.id = :chatRoomId) AND gu.groupRole <> :excludedRole")
     List<User> findUsersByChatRoomIdExcludingRole(@Param("chatRoomId") Long chatRoomId, @Param("excludedRole") GroupRole excludedRole);
-}
\ No newline at end of file
+
+    @Query("SELECT gu.user.id FROM GroupUser gu WHERE gu.group.id = (SELECT cr.group.id FROM ChatRoom cr WHERE cr.id = :chatRoomId) AND gu.groupRole <> :excludedRole")
+    List<Long> findUserIdsByChatRoomIdExcludingRole(@Param("chatRoomId") Long chatRoomId, @Param("excludedRole") GroupRole excludedRole);
+
+    @Query("SELECT COALESCE(MAX(cr.id), 0) FROM ChatRoom cr")
+    Long findMaxId();
+}
@@ -0,0 +1,37 @@
+package com.hong.forapw.domain.chat.repository;
+
+import com.hong.forapw.domain.chat.entity.Message;
+import com.mongodb.ErrorCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageBatchRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    // 한 번의 bulk write로 저장한다. 메시지 id는 발행 시점에 정해지므로, 재전달로 인한 중복 키 오류는 이미 저장된 것으로 보고 무시한다
+    public void insertAll(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)
+                    .insert(messages)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean hasNonDuplicateError = e.getErrors().stream()
+                    .anyMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY);
+            if (hasNonDuplicateError) {
+                throw e;
+            }
+        }
+    }
+}
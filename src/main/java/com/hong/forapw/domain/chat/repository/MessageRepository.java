@@ -4,15 +4,24 @@ import com.hong.forapw.domain.chat.entity.Message;
 import com.hong.forapw.domain.chat.constant.MessageType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
 
     Page<Message> findByChatRoomId(Long chatRoomId, Pageable pageable);
 
+    // 키셋 페이지네이션: (date, _id)가 커서보다 앞선 메시지만 읽는다 (chatRoomId_date_id 인덱스 사용)
+    @Query(value = "{ 'chatRoomId': ?0, $or: [ { 'date': { $lt: ?1 } }, { 'date': ?1, '_id': { $lt: ?2 } } ] }",
+            sort = "{ 'date': -1, '_id': -1 }")
+    Slice<Message> findByChatRoomIdBefore(Long chatRoomId, LocalDateTime date, String id, Pageable pageable);
+
     @Query("{ 'chatRoomId': ?0, 'objectURLs': { $exists: true, $ne: [], $not: { $size: 0 } } }")
     Page<Message> findByChatRoomIdWithObjects(Long chatRoomId, Pageable pageable);
 
@@ -23,4 +32,6 @@ public interface MessageRepository extends MongoRepository<Message, String> {
 
 
     Integer countByChatRoomId(Long chatRoomId);
+
+    Optional<Message> findFirstByChatRoomIdOrderBySequenceDesc(Long chatRoomId);
 }
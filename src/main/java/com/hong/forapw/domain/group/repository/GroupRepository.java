@@ -3,9 +3,11 @@ package com.hong.forapw.domain.group.repository;
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
 import com.hong.forapw.domain.group.entity.Group;
+import com.hong.forapw.domain.like.model.LikeCountDTO;
 import com.hong.forapw.domain.region.constant.District;
 import com.hong.forapw.domain.group.constant.GroupRole;
 import com.hong.forapw.domain.region.constant.Province;
+import com.hong.forapw.domain.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -44,10 +46,8 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
             "(SELECT g.id FROM GroupUser gu JOIN gu.group g JOIN gu.user u WHERE u.id = :userId))")
     Page<Group> findAllWithoutMyGroup(@Param("userId") Long userId, Pageable pageable);
 
-    @Query(value = "SELECT * FROM groups_tb WHERE MATCH(name) AGAINST(:name IN BOOLEAN MODE)",
-            countQuery = "SELECT COUNT(*) FROM groups_tb WHERE MATCH(name) AGAINST(:name IN BOOLEAN MODE)",
-            nativeQuery = true)
-    Page<Group> findByNameContaining(@Param("name") String name, Pageable pageable);
+    @Query("SELECT new com.hong.forapw.domain.search.SearchDocument(g.id, g.name) FROM Group g")
+    List<SearchDocument> findSearchDocuments();
 
     @Query("SELECT g.id FROM Group g")
     List<Long> findAllIds();
@@ -55,6 +55,11 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     @Query("SELECT COUNT(fg) FROM FavoriteGroup fg WHERE fg.group.id = :groupId")
     Long countLikesByGroupId(@Param("groupId") Long groupId);
 
+    @Query("SELECT new com.hong.forapw.domain.like.model.LikeCountDTO(fg.group.id, COUNT(fg)) " +
+            "FROM FavoriteGroup fg " +
+            "WHERE fg.group.id IN :groupIds GROUP BY fg.group.id")
+    List<LikeCountDTO> countLikesByGroupIds(@Param("groupIds") List<Long> groupIds);
+
     boolean existsByName(String name);
 
     @Query("SELECT COUNT(g) > 0 FROM Group g WHERE g.id != :id AND g.name = :name")
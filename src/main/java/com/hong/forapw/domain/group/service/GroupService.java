@@ -1,5 +1,7 @@
 package com.hong.forapw.domain.group.service;
 
+import com.hong.forapw.domain.search.SearchIndexEvent;
+import com.hong.forapw.domain.search.SearchTarget;
 import com.hong.forapw.domain.alarm.model.AlarmRequest;
 import com.hong.forapw.domain.group.model.GroupRequest;
 import com.hong.forapw.domain.group.model.GroupResponse;
@@ -21,6 +23,7 @@ import com.hong.forapw.domain.group.GroupMapper;
 import com.hong.forapw.domain.alarm.constant.AlarmType;
 import com.hong.forapw.domain.chat.entity.ChatRoom;
 import com.hong.forapw.domain.chat.entity.ChatUser;
+import com.hong.forapw.domain.chat.model.ChatRoomMembersChangedEvent;
 import com.hong.forapw.domain.post.entity.Post;
 import com.hong.forapw.domain.post.entity.PostImage;
 import com.hong.forapw.domain.region.constant.District;
@@ -32,9 +35,11 @@ import com.hong.forapw.domain.chat.repository.ChatUserRepository;
 import com.hong.forapw.domain.user.repository.UserRepository;
 import com.hong.forapw.integration.rabbitmq.RabbitMqUtils;
 import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -69,12 +74,11 @@ public class GroupService {
     private final LikeService likeService;
     private final MeetingService meetingService;
     private final GroupCacheService groupCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Province DEFAULT_PROVINCE = Province.DAEGU;
     private static final String SORT_BY_ID = "id";
     private static final String SORT_BY_PARTICIPANT_NUM = "participantNum";
-    private static final String ROOM_QUEUE_PREFIX = "room.";
-    private static final String CHAT_EXCHANGE = "chat.exchange";
     private static final Pageable DEFAULT_PAGE_REQUEST = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, SORT_BY_ID));
     private static final int DEFAULT_RECOMMENDATION_LIMIT = 5;
     private static final int ADDITIONAL_GROUP_FETCH_LIMIT = 30;
@@ -92,7 +96,7 @@ public class GroupService {
         addChatUserToRoom(chatRoom, groupOwner);
 
         likeService.initGroupLikeCount(group.getId());
-        configureRabbitMQForChatRoom(chatRoom);
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchTarget.GROUP, group.getId(), group.getName()));
 
         return new GroupResponse.CreateGroupDTO(group.getId());
     }
@@ -122,6 +126,7 @@ public class GroupService {
         updateChatRoomName(groupId, requestDTO.name());
 
         updateGroupInfo(group, requestDTO);
+        eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchTarget.GROUP, groupId, requestDTO.name()));
     }
 
     public GroupResponse.FindGroupMemberListDTO findGroupMembers(Long userId, Long groupId) {
@@ -161,9 +166,10 @@ public class GroupService {
 
     public List<GroupResponse.LocalGroupDTO> findLocalGroups(Long userId, Province province, District district, List<Long> likedGroupIds, Pageable pageable) {
         List<Group> localGroups = groupRepository.findByProvinceAndDistrictWithoutMyGroup(province, district, userId, GroupRole.TEMP, pageable).getContent();
+        Map<Long, Long> likeCounts = findGroupLikeCounts(localGroups);
 
         return localGroups.stream()
-                .map(group -> toLocalGroupDTO(group, likeService.getGroupLikeCount(group.getId()), likedGroupIds.contains(group.getId())))
+                .map(group -> toLocalGroupDTO(group, likeCounts.get(group.getId()), likedGroupIds.contains(group.getId())))
                 .toList();
     }
 
@@ -193,9 +199,10 @@ public class GroupService {
 
     public List<GroupResponse.MyGroupDTO> findMyGroups(Long userId, List<Long> likedGroupIds, Pageable pageable) {
         List<Group> joinedGroups = groupUserRepository.findGroupByUserId(userId, pageable).getContent();
+        Map<Long, Long> likeCounts = findGroupLikeCounts(joinedGroups);
 
         return joinedGroups.stream()
-                .map(group -> toMyGroupDTO(group, likeService.getGroupLikeCount(group.getId()), likedGroupIds.contains(group.getId())))
+                .map(group -> toMyGroupDTO(group, likeCounts.get(group.getId()), likedGroupIds.contains(group.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -244,6 +251,7 @@ public class GroupService {
         groupUserRepository.deleteByGroupIdAndUserId(groupId, userId);
         chatUserRepository.deleteByGroupIdAndUserId(groupId, userId);
         meetingUserRepository.deleteByGroupIdAndUserId(groupId, userId);
+        publishChatRoomMembersChanged(groupId);
 
         group.decrementParticipantNum();
         meetingRepository.decrementParticipantCountForUserMeetings(groupId, userId);
@@ -261,6 +269,7 @@ public class GroupService {
         groupUserRepository.deleteByGroupIdAndUserId(groupId, memberId);
         chatUserRepository.deleteByGroupIdAndUserId(groupId, memberId);
         meetingUserRepository.deleteByGroupIdAndUserId(groupId, memberId);
+        publishChatRoomMembersChanged(groupId);
 
         group.decrementParticipantNum();
         meetingRepository.decrementParticipantCountForUserMeetings(groupId, memberId);
@@ -355,12 +364,12 @@ public class GroupService {
         ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId).orElseThrow(
                 () -> new CustomException(ExceptionCode.CHAT_ROOM_NOT_FOUND)
         );
-        String queueName = ROOM_QUEUE_PREFIX + chatRoom.getId();
         chatUserRepository.deleteByGroupId(groupId);
         chatRoomRepository.delete(chatRoom);
-        brokerService.deleteQueue(queueName); // 채팅방 큐 삭제
+        eventPublisher.publishEvent(new ChatRoomMembersChangedEvent(chatRoom.getId()));
 
         groupRepository.deleteById(groupId);
+        eventPublisher.publishEvent(SearchIndexEvent.remove(SearchTarget.GROUP, groupId));
     }
 
     @Transactional
@@ -409,8 +418,11 @@ public class GroupService {
 
     private List<GroupResponse.RecommendGroupDTO> fetchGroupsByProvince(Province province, Long userId, List<Long> likedGroupIds) {
         Pageable pageable = PageRequest.of(0, ADDITIONAL_GROUP_FETCH_LIMIT, DEFAULT_SORT);
-        return groupRepository.findByProvinceWithoutMyGroup(province, userId, GroupRole.TEMP, pageable).getContent().stream()
-                .map(group -> toRecommendGroupDTO(group, likeService.getGroupLikeCount(group.getId()), likedGroupIds.contains(group.getId())))
+        List<Group> groups = groupRepository.findByProvinceWithoutMyGroup(province, userId, GroupRole.TEMP, pageable).getContent();
+        Map<Long, Long> likeCounts = findGroupLikeCounts(groups);
+
+        return groups.stream()
+                .map(group -> toRecommendGroupDTO(group, likeCounts.get(group.getId()), likedGroupIds.contains(group.getId())))
                 .toList();
     }
 
@@ -420,12 +432,22 @@ public class GroupService {
         }
 
         Pageable pageable = PageRequest.of(0, ADDITIONAL_GROUP_FETCH_LIMIT, DEFAULT_SORT);
-        return groupRepository.findAllWithoutMyGroup(userId, pageable).stream()
-                .map(group -> toRecommendGroupDTO(group, likeService.getGroupLikeCount(group.getId()), likedGroupIds.contains(group.getId())))
+        List<Group> groups = groupRepository.findAllWithoutMyGroup(userId, pageable).getContent();
+        Map<Long, Long> likeCounts = findGroupLikeCounts(groups);
+
+        return groups.stream()
+                .map(group -> toRecommendGroupDTO(group, likeCounts.get(group.getId()), likedGroupIds.contains(group.getId())))
                 .filter(newGroup -> existingGroups.stream().noneMatch(existingGroup -> existingGroup.id().equals(newGroup.id())))
                 .toList();
     }
 
+    private Map<Long, Long> findGroupLikeCounts(List<Group> groups) {
+        List<Long> groupIds = groups.stream()
+                .map(Group::getId)
+                .toList();
+        return likeService.getLikeCounts(LikeTarget.GROUP, groupIds);
+    }
+
     private List<GroupResponse.RecommendGroupDTO> mergeAndRandomizeGroups(List<GroupResponse.RecommendGroupDTO> recommendedGroups, List<GroupResponse.RecommendGroupDTO> additionalGroups) {
         List<GroupResponse.RecommendGroupDTO> mergedGroups = new ArrayList<>(recommendedGroups);
         mergedGroups.addAll(additionalGroups);
@@ -601,15 +623,6 @@ public class GroupService {
         groupUserRepository.save(groupUser);
     }
 
-    private void configureRabbitMQForChatRoom(ChatRoom chatRoom) {
-        // 그룹 채팅방의 exchange 등록 후 그룹장에 대한 큐와 리스너 등록
-        String queueName = ROOM_QUEUE_PREFIX + chatRoom.getId();
-        String listenerId = ROOM_QUEUE_PREFIX + chatRoom.getId();
-
-        brokerService.bindDirectExchangeToQueue(CHAT_EXCHANGE, queueName);
-        brokerService.registerChatListener(listenerId, queueName);
-    }
-
     private GroupUser findGroupUser(Long groupId, Long userId) {
         return groupUserRepository.findByGroupIdAndUserId(groupId, userId).orElseThrow(
                 () -> new CustomException(ExceptionCode.GROUP_NOT_APPLY)
@@ -639,6 +652,12 @@ public class GroupService {
                 .build();
 
         chatUserRepository.save(chatUser);
+        eventPublisher.publishEvent(new ChatRoomMembersChangedEvent(chatRoom.getId()));
+    }
+
+    private void publishChatRoomMembersChanged(Long groupId) {
+        chatRoomRepository.findByGroupId(groupId)
+                .ifPresent(chatRoom -> eventPublisher.publishEvent(new ChatRoomMembersChangedEvent(chatRoom.getId())));
     }
 
     private GroupUser findPendingGroupUser(Long groupId, Long applicantId) {
@@ -0,0 +1,49 @@
+package com.hong.forapw.domain.home;
+
+import com.hong.forapw.domain.home.model.CachedHome;
+import com.hong.forapw.domain.home.model.HomeResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 조립이 끝난 홈 화면 응답을 유저별(비로그인은 하나로 공유)로 짧게 캐싱한다
+// 추천/인기글은 수 초 단위로 바뀔 필요가 없으므로, 새로고침이 몰려도 매번 조립하지 않는다
+@Service
+public class HomeCacheService {
+
+    private final Map<Long, CachedHome> cachedHomes = new ConcurrentHashMap<>();
+
+    private static final Long ANONYMOUS_USER_KEY = 0L;
+    private static final long HOME_CACHE_TTL_MS = 1000L * 30;
+    private static final int MAX_CACHED_HOMES = 10_000; // 메모리 상한. 넘으면 만료 정리 전까지 새로 캐싱하지 않는다
+
+    public Optional<HomeResponse.FindHomeDTO> getHome(Long userId) {
+        CachedHome cachedHome = cachedHomes.get(toCacheKey(userId));
+        if (cachedHome == null || cachedHome.isExpired(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(cachedHome.home());
+    }
+
+    public void cacheHome(Long userId, HomeResponse.FindHomeDTO home) {
+        if (cachedHomes.size() >= MAX_CACHED_HOMES) {
+            return;
+        }
+
+        cachedHomes.put(toCacheKey(userId), new CachedHome(home, System.currentTimeMillis() + HOME_CACHE_TTL_MS));
+    }
+
+    @Scheduled(fixedDelay = HOME_CACHE_TTL_MS)
+    public void evictExpiredHomes() {
+        long now = System.currentTimeMillis();
+        cachedHomes.values().removeIf(cachedHome -> cachedHome.isExpired(now));
+    }
+
+    private Long toCacheKey(Long userId) {
+        return (userId != null) ? userId : ANONYMOUS_USER_KEY;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hong.forapw.domain.home;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 홈 화면 섹션을 homeExecutor에서 비동기로 조회한다
+// 제한 시간 초과, 예외, 풀 포화로 인한 거절은 모두 null로 완료시켜, 호출한 쪽에서 대체 결과를 고르게 한다
+// completeOnTimeout은 작업을 멈추지 않으므로, 섹션 안의 외부 호출은 각자 제한 시간을 가져야 한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HomeSectionFetcher {
+
+    private final Executor homeExecutor;
+
+    public <T> CompletableFuture<T> fetch(Supplier<T> sectionSupplier, long timeoutMs, String sectionName) {
+        try {
+            return CompletableFuture.supplyAsync(sectionSupplier, homeExecutor)
+                    .completeOnTimeout(null, timeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("홈 화면 {} 조회 실패: {}", sectionName, e.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("홈 화면 {} 조회 생략, 작업 풀 포화: {}", sectionName, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -9,18 +9,27 @@ import com.hong.forapw.domain.post.entity.Post;
 import com.hong.forapw.domain.animal.repository.AnimalRepository;
 import com.hong.forapw.domain.group.repository.FavoriteGroupRepository;
 import com.hong.forapw.domain.post.repository.PopularPostRepository;
+import com.hong.forapw.domain.post.service.PopularPostRankingService;
 import com.hong.forapw.domain.group.service.GroupService;
 import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.animal.entity.Animal;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static com.hong.forapw.domain.home.HomeMapper.toAnimalDTO;
 import static com.hong.forapw.domain.home.HomeMapper.toPostDTO;
@@ -28,50 +37,92 @@ import static com.hong.forapw.domain.home.HomeMapper.toPostDTO;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class HomeService {
 
     private final AnimalRepository animalRepository;
     private final PopularPostRepository popularPostRepository;
+    private final PopularPostRankingService popularPostRankingService;
     private final GroupService groupService;
     private final LikeService likeService;
     private final AnimalService animalService;
     private final FavoriteGroupRepository favoriteGroupRepository;
+    private final HomeCacheService homeCacheService;
+    private final HomeSectionFetcher homeSectionFetcher;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     private static final Province DEFAULT_PROVINCE = Province.DAEGU;
-    private static final String SORT_BY_DATE = "createdDate";
+    private static final String SORT_BY_HOT_POINT = "post.hotPoint";
     private static final int POPULAR_POST_PAGE_INDEX = 0;
     private static final int POPULAR_POST_PAGE_SIZE = 5;
+    private static final long RECOMMENDED_ANIMAL_TIMEOUT_MS = 800; // 추천 서버(FastAPI) 호출이 포함됨
+    private static final long SECTION_TIMEOUT_MS = 1500;
 
+    // 세 섹션을 동시에 조회하고, 섹션마다 제한 시간을 따로 둔다
+    // 추천 동물이 늦거나 실패하면 최신 동물로, 나머지 섹션은 빈 목록으로 대신한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 섹션들이 각자 트랜잭션을 열므로, 기다리는 동안 커넥션을 붙잡지 않는다
     public HomeResponse.FindHomeDTO findHomePageData(Long userId) {
-        List<HomeResponse.AnimalDTO> recommendedAnimals = findRecommendedAnimals(userId);
-        List<HomeResponse.PostDTO> popularPosts = findPopularPosts();
-        List<GroupResponse.RecommendGroupDTO> recommendedGroups = findRecommendedGroups(userId);
+        Optional<HomeResponse.FindHomeDTO> cachedHome = homeCacheService.getHome(userId);
+        if (cachedHome.isPresent()) {
+            return cachedHome.get();
+        }
 
-        return new HomeResponse.FindHomeDTO(recommendedAnimals, recommendedGroups, popularPosts);
+        CompletableFuture<List<HomeResponse.AnimalDTO>> animalFuture = homeSectionFetcher.fetch(() -> findRecommendedAnimals(userId), RECOMMENDED_ANIMAL_TIMEOUT_MS, "추천 동물");
+        CompletableFuture<List<HomeResponse.PostDTO>> postFuture = homeSectionFetcher.fetch(() -> inReadOnlyTransaction(this::findPopularPosts), SECTION_TIMEOUT_MS, "인기글");
+        CompletableFuture<List<GroupResponse.RecommendGroupDTO>> groupFuture = homeSectionFetcher.fetch(() -> inReadOnlyTransaction(() -> findRecommendedGroups(userId)), SECTION_TIMEOUT_MS, "추천 그룹");
+
+        List<HomeResponse.AnimalDTO> recommendedAnimals = Optional.ofNullable(animalFuture.join())
+                .orElseGet(() -> inReadOnlyTransaction(() -> toAnimalDTOs(animalService.findLatestAnimalIds())));
+        List<HomeResponse.PostDTO> popularPosts = Optional.ofNullable(postFuture.join()).orElse(Collections.emptyList());
+        List<GroupResponse.RecommendGroupDTO> recommendedGroups = Optional.ofNullable(groupFuture.join()).orElse(Collections.emptyList());
+
+        HomeResponse.FindHomeDTO home = new HomeResponse.FindHomeDTO(recommendedAnimals, recommendedGroups, popularPosts);
+        // 대체 결과로 채운 응답은 캐싱하지 않는다 (다음 요청에서 다시 시도)
+        if (animalFuture.join() != null && postFuture.join() != null && groupFuture.join() != null) {
+            homeCacheService.cacheHome(userId, home);
+        }
+        return home;
+    }
+
+    // 다른 스레드에서 실행되므로 요청 스레드의 영속성 컨텍스트를 쓸 수 없다. 지연 로딩을 위해 섹션마다 트랜잭션을 연다
+    private <T> T inReadOnlyTransaction(Supplier<T> supplier) {
+        return readOnlyTransactionTemplate.execute(status -> supplier.get());
     }
 
+    // 추천 서버(FastAPI) 호출 동안에는 커넥션을 잡지 않고, 동물 조회에만 트랜잭션을 연다
     private List<HomeResponse.AnimalDTO> findRecommendedAnimals(Long userId) {
         List<Long> recommendedAnimalIds = animalService.findRecommendedAnimalIds(userId);
+        return inReadOnlyTransaction(() -> toAnimalDTOs(recommendedAnimalIds));
+    }
+
+    private List<HomeResponse.AnimalDTO> toAnimalDTOs(List<Long> recommendedAnimalIds) {
+        List<Animal> animals = animalRepository.findByIds(recommendedAnimalIds);
+        List<Long> animalIds = animals.stream()
+                .map(Animal::getId)
+                .toList();
+        Map<Long, Long> likeCounts = likeService.getLikeCounts(LikeTarget.ANIMAL, animalIds);
 
-        return animalRepository.findByIds(recommendedAnimalIds).stream()
-                .map(animal -> {
-                    Long likeCount = likeService.getAnimalLikeCount(animal.getId());
-                    return toAnimalDTO(animal, likeCount);
-                })
+        return animals.stream()
+                .map(animal -> toAnimalDTO(animal, likeCounts.get(animal.getId())))
                 .toList();
     }
 
+    // 실시간 랭킹에서 타입 구분 없이 상위 글을 읽고, 랭킹이 비어 있으면 마지막 스냅샷을 사용
     private List<HomeResponse.PostDTO> findPopularPosts() {
-        Pageable pageable = PageRequest.of(POPULAR_POST_PAGE_INDEX, POPULAR_POST_PAGE_SIZE, Sort.by(Sort.Direction.DESC, SORT_BY_DATE));
-        List<PopularPost> popularPosts = popularPostRepository.findAllWithPost(pageable).getContent();
+        List<Post> popularPosts = popularPostRankingService.findPostsInRankOrder(popularPostRankingService.findTopPostIds(POPULAR_POST_PAGE_SIZE));
+        if (popularPosts.isEmpty()) {
+            Pageable pageable = PageRequest.of(POPULAR_POST_PAGE_INDEX, POPULAR_POST_PAGE_SIZE, Sort.by(Sort.Direction.DESC, SORT_BY_HOT_POINT));
+            popularPosts = popularPostRepository.findAllWithPost(pageable).getContent().stream()
+                    .map(PopularPost::getPost)
+                    .toList();
+        }
+        List<Long> postIds = popularPosts.stream()
+                .map(Post::getId)
+                .toList();
+        Map<Long, Long> likeCounts = likeService.getLikeCounts(LikeTarget.POST, postIds);
 
         return popularPosts.stream()
-                .map(PopularPost::getPost)
-                .map(post -> {
-                    String imageURL = extractFirstImageUrl(post);
-                    Long likeCount = likeService.getPostLikeCount(post.getId());
-                    return toPostDTO(post, likeCount, imageURL);
-                })
+                .map(post -> toPostDTO(post, likeCounts.get(post.getId()), extractFirstImageUrl(post)))
                 .toList();
     }
 
@@ -0,0 +1,8 @@
+package com.hong.forapw.domain.home.model;
+
+public record CachedHome(HomeResponse.FindHomeDTO home, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 좋아요 수는 LikeTarget의 키("post:like:count" 등)로만 관리한다
+// 예전에 검색/보호소 조회가 따로 쓰던 캐시 키("postLikeNum", "animalLikeNum")는 아무도 갱신하지 않으므로 한 번 지운다
+// 마커 키로 여러 인스턴스 중 한 곳에서 한 번만 실행되게 한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyLikeCountKeyMigration {
+
+    private final RedisService redisService;
+
+    private static final String MIGRATION_KEY_PREFIX = "migration";
+    private static final String MIGRATION_ID = "legacyLikeCountKeys";
+    private static final List<String> LEGACY_KEY_PATTERNS = List.of("postLikeNum:*", "animalLikeNum:*");
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    public void run() {
+        if (!redisService.storeValueIfAbsent(MIGRATION_KEY_PREFIX, MIGRATION_ID, "done")) {
+            return;
+        }
+
+        for (String pattern : LEGACY_KEY_PATTERNS) {
+            long removedCount = redisService.removeKeysByPattern(pattern, SCAN_BATCH_SIZE);
+            log.info("사용하지 않는 좋아요 수 캐시 키 삭제 완료. pattern: {}, 삭제: {}개", pattern, removedCount);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.domain.like.model.LikeCountDTO;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LikeMapper {
+
+    private LikeMapper() {
+    }
+
+    // GROUP BY 결과에는 좋아요가 없는 대상이 빠져있으므로, 0으로 채워준다
+    public static Map<Long, Long> toLikeCountMap(List<Long> targetIds, List<LikeCountDTO> likeCountDTOS) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        targetIds.forEach(targetId -> likeCounts.put(targetId, 0L));
+        likeCountDTOS.forEach(likeCountDTO -> likeCounts.put(likeCountDTO.targetId(), likeCountDTO.likeCount()));
+        return likeCounts;
+    }
+}
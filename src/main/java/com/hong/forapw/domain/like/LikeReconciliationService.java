@@ -0,0 +1,127 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.domain.like.model.LikeKey;
+import com.hong.forapw.domain.like.repository.LikeJdbcRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+// Redis의 좋아요 수 카운터와 유저별 좋아요 Set을 DB(좋아요 테이블)와 맞춰준다.
+// 전체 테이블을 훑지 않고, 마지막 실행 이후 좋아요가 토글된 대상과 (유저, 대상) 쌍(dirty ZSet)만 검사한다
+// write-behind 버퍼가 반영 전에 유실되면(노드 장애) DB에는 좋아요가 없으므로, 카운터와 Set 모두 DB 기준으로 되돌린다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeReconciliationService {
+
+    private final RedisService redisService;
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    /** write-behind 버퍼가 DB에 반영할 시간을 두기 위해, 최근 1분 내에 토글된 대상은 다음 실행으로 미룬다 */
+    private static final long SETTLE_DELAY_MS = 1000L * 60;
+    private static final long LIKE_COUNT_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 90;
+    private static final int POP_SIZE = 5000;
+    private static final int CHUNK_SIZE = 500;
+
+    /** 10분마다 실행되어 변경된 대상들의 좋아요 수를 DB 기준으로 보정 */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reconcileLikeCounts() {
+        for (LikeTarget target : LikeTarget.values()) {
+            reconcileMemberships(target);
+            reconcile(target);
+        }
+    }
+
+    private void reconcileMemberships(LikeTarget target) {
+        double settledBefore = System.currentTimeMillis() - (double) SETTLE_DELAY_MS;
+
+        int checkedCount = 0;
+        long repairedCount = 0;
+        Set<String> dirtyMembers;
+        while (!(dirtyMembers = redisService.popSortedSetMembersUpTo(target.getMembershipDirtyKey(), settledBefore, POP_SIZE)).isEmpty()) {
+            List<LikeKey> likeKeys = dirtyMembers.stream()
+                    .map(member -> LikeKey.fromMember(target, member))
+                    .toList();
+
+            for (int from = 0; from < likeKeys.size(); from += CHUNK_SIZE) {
+                List<LikeKey> chunk = likeKeys.subList(from, Math.min(from + CHUNK_SIZE, likeKeys.size()));
+                repairedCount += reconcileMembershipChunk(target, chunk);
+                checkedCount += chunk.size();
+            }
+        }
+
+        if (repairedCount > 0) {
+            log.warn("유저 좋아요 Set을 DB 기준으로 보정, target: {}, 검사: {}건, 보정: {}건", target, checkedCount, repairedCount);
+        }
+    }
+
+    // DB에 있는 좋아요는 SADD, 없는 좋아요는 SREM 한다. 이미 같은 상태라면 Redis에서 아무것도 바뀌지 않는다
+    // 보정 직전에 다시 토글되었다면 그 토글이 대기열에 다시 기록되므로, 다음 실행에서 최신 DB 상태로 맞춰진다
+    private long reconcileMembershipChunk(LikeTarget target, List<LikeKey> chunk) {
+        Set<LikeKey> existingLikes = likeJdbcRepository.findExistingLikes(target, chunk);
+
+        Map<String, List<String>> additions = new HashMap<>();
+        Map<String, List<String>> removals = new HashMap<>();
+        chunk.forEach(likeKey -> (existingLikes.contains(likeKey) ? additions : removals)
+                .computeIfAbsent(target.buildLikedSetKey(likeKey.userId()), key -> new ArrayList<>())
+                .add(likeKey.targetId().toString()));
+
+        return redisService.addAndRemoveSetMembers(additions, removals);
+    }
+
+    private void reconcile(LikeTarget target) {
+        double settledBefore = System.currentTimeMillis() - (double) SETTLE_DELAY_MS;
+        DistributionSummary driftSummary = DistributionSummary.builder("like.reconciliation.drift")
+                .tag("target", target.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        int checkedCount = 0;
+        int repairedCount = 0;
+        Set<String> dirtyIds;
+        while (!(dirtyIds = redisService.popSortedSetMembersUpTo(target.getDirtyKey(), settledBefore, POP_SIZE)).isEmpty()) {
+            List<Long> sortedIds = dirtyIds.stream()
+                    .map(Long::valueOf)
+                    .sorted()
+                    .toList();
+
+            for (int from = 0; from < sortedIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = sortedIds.subList(from, Math.min(from + CHUNK_SIZE, sortedIds.size()));
+                repairedCount += reconcileChunk(target, chunk, driftSummary);
+                checkedCount += chunk.size();
+            }
+        }
+
+        if (checkedCount > 0) {
+            log.info("좋아요 수 정합성 검사 완료, target: {}, 검사: {}건, 보정: {}건", target, checkedCount, repairedCount);
+        }
+    }
+
+    // 청크마다 GROUP BY 쿼리 한 번, MGET 한 번, 파이프라인 SET 한 번으로 처리한다
+    private int reconcileChunk(LikeTarget target, List<Long> chunk, DistributionSummary driftSummary) {
+        Map<Long, Long> actualCounts = likeJdbcRepository.countLikes(target, chunk);
+        Map<Long, Long> cachedCounts = redisService.getValuesInLong(target.getLikeCountKeyPrefix(), chunk);
+
+        // 캐시에 없는 대상은 다음 조회 시 DB에서 채워지므로 보정하지 않는다
+        Map<Long, Long> repairs = new HashMap<>();
+        cachedCounts.forEach((targetId, cachedCount) -> {
+            long actualCount = actualCounts.getOrDefault(targetId, 0L);
+            long drift = Math.abs(cachedCount - actualCount);
+            driftSummary.record(drift);
+
+            if (drift > 0) {
+                repairs.put(targetId, actualCount);
+            }
+        });
+
+        redisService.storeValues(target.getLikeCountKeyPrefix(), repairs, LIKE_COUNT_EXPIRATION_MS);
+        return repairs.size();
+    }
+}
@@ -1,26 +1,33 @@
 package com.hong.forapw.domain.like;
 
 import com.hong.forapw.domain.like.handler.*;
+import com.hong.forapw.domain.post.constant.PostActivity;
+import com.hong.forapw.domain.post.model.PostActivityEvent;
 import com.hong.forapw.integration.redis.RedisService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LikeService {
 
-    private final RedisService redisService;
+    private final LikeWriteBehindService likeWriteBehindService;
     private final PostLikeHandler postLikeHandler;
     private final CommentLikeHandler commentLikeHandler;
     private final GroupLikeHandler groupLikeHandler;
     private final AnimalLikeHandler animalLikeHandler;
+    private final RedisService redisService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Map<LikeTarget, LikeHandler> likeHandlers;
 
@@ -28,7 +35,9 @@ public class LikeService {
     private void initLikeHandlers() {
         likeHandlers = Map.of(
                 LikeTarget.POST, postLikeHandler,
-                LikeTarget.COMMENT, commentLikeHandler
+                LikeTarget.COMMENT, commentLikeHandler,
+                LikeTarget.GROUP, groupLikeHandler,
+                LikeTarget.ANIMAL, animalLikeHandler
         );
     }
 
@@ -39,7 +48,8 @@ public class LikeService {
 
     @Transactional
     public void likePost(Long postId, Long userId) {
-        handleLike(postId, userId, LikeTarget.POST);
+        boolean liked = handleLike(postId, userId, LikeTarget.POST);
+        eventPublisher.publishEvent(PostActivityEvent.of(postId, liked ? PostActivity.LIKE : PostActivity.LIKE_CANCEL, userId));
     }
 
     @Transactional
@@ -83,29 +93,42 @@ public class LikeService {
         return groupLikeHandler.getLikeCount(groupId);
     }
 
-    private void handleLike(Long targetId, Long userId, LikeTarget target) {
-        LikeHandler handler = likeHandlers.get(target);
-        handler.validateBeforeLike(targetId, userId);
+    public void clearAnimalLikeData(List<Long> animalIds) {
+        animalLikeHandler.clearAll(animalIds);
+    }
 
-        String lockKey = handler.buildLockKey(targetId);
-        executeWithLock(lockKey, () -> toggleLike(handler, targetId, userId));
+    // 좋아요 여부는 토글 스크립트가 바로 갱신하는 유저별 좋아요 Set에서 읽는다 (DB는 write-behind로 늦게 반영됨)
+    public boolean isLiked(LikeTarget target, Long targetId, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        return redisService.isMemberOfSet(target.buildLikedSetKey(userId), targetId.toString());
     }
 
-    private void executeWithLock(String lockKey, Runnable action) {
-        RLock lock = redisService.getLock(lockKey);
-        try {
-            redisService.tryToAcquireLock(lock, 2, 5, TimeUnit.SECONDS);
-            action.run();
-        } finally {
-            redisService.safelyReleaseLock(lock);
+    public Set<Long> findLikedIds(LikeTarget target, Long userId, Collection<Long> targetIds) {
+        if (userId == null) {
+            return Collections.emptySet();
         }
+        return redisService.filterSetMembers(target.buildLikedSetKey(userId), targetIds);
     }
 
-    private void toggleLike(LikeHandler handler, Long targetId, Long userId) {
-        if (handler.isAlreadyLiked(targetId, userId)) {
-            handler.removeLike(targetId, userId);
-        } else {
-            handler.addLike(targetId, userId);
+    // 목록 조회용. Redis MGET 한 번 + 캐시 미스 대상에 대한 GROUP BY 쿼리 한 번으로 좋아요 수를 가져온다
+    public Map<Long, Long> getLikeCounts(LikeTarget target, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Collections.emptyMap();
         }
+
+        LikeHandler handler = likeHandlers.get(target);
+        return handler.getLikeCounts(List.copyOf(targetIds));
+    }
+
+    // 좋아요 상태는 Redis 스크립트로 원자적으로 토글하고, DB 반영은 write-behind 버퍼에 맡긴다
+    private boolean handleLike(Long targetId, Long userId, LikeTarget target) {
+        LikeHandler handler = likeHandlers.get(target);
+        handler.validateBeforeLike(targetId, userId);
+
+        boolean liked = handler.toggleLike(targetId, userId);
+        likeWriteBehindService.enqueue(target, targetId, userId, liked);
+        return liked;
     }
 }
\ No newline at end of file
@@ -1,5 +1,33 @@
 package com.hong.forapw.domain.like;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
 public enum LikeTarget {
-    POST, COMMENT, ANIMAL, GROUP
-}
\ No newline at end of file
+    POST("post_like_tb", "post_id", "post:like:count", "user:%s:liked_posts"),
+    COMMENT("comment_like_tb", "comment_id", "comment:like:count", "user:%s:liked_comments"),
+    ANIMAL("favorite_animal_tb", "animal_id", "animal:like:count", "user:%s:liked_animals"),
+    GROUP("favorite_group_tb", "group_id", "group:like:count", "user:%s:liked_groups");
+
+    private final String tableName;
+    private final String targetColumnName;
+    private final String likeCountKeyPrefix;
+    private final String likedSetKeyFormat;
+
+    // 유저가 좋아요한 대상 id들 (Set)
+    public String buildLikedSetKey(Long userId) {
+        return String.format(likedSetKeyFormat, userId);
+    }
+
+    // 좋아요 수가 변경되어 DB와의 정합성 검사가 필요한 대상 id들 (ZSet, score = 마지막 변경 시각)
+    public String getDirtyKey() {
+        return "like:dirty:" + name().toLowerCase();
+    }
+
+    // 좋아요 상태가 바뀌어 유저의 좋아요 Set과 DB의 비교가 필요한 (유저, 대상) 쌍 (ZSet, member = LikeKey.toMember())
+    public String getMembershipDirtyKey() {
+        return "like:dirty:member:" + name().toLowerCase();
+    }
+}
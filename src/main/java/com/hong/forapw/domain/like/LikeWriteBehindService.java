@@ -0,0 +1,105 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.domain.like.model.LikeKey;
+import com.hong.forapw.domain.like.repository.LikeJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 좋아요/취소 이벤트를 메모리에 모았다가 주기적으로 DB에 일괄 반영한다 (write-behind)
+// 같은 (유저, 대상) 쌍의 토글은 마지막 상태 하나로 합쳐지고, 좋아요 후 취소처럼 서로 상쇄되면 DB에 쓰지 않는다
+// 버퍼는 메모리에만 있으므로, 노드가 비정상 종료되면 최대 한 주기(FLUSH_INTERVAL_MS) 분량의 변경이 DB에 반영되지 않는다
+// 이때 Redis는 이미 토글된 상태이므로, LikeReconciliationService가 카운터와 유저 좋아요 Set을 DB 기준으로 되돌린다
+@Service
+@Slf4j
+public class LikeWriteBehindService {
+
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final Map<LikeKey, Boolean> pendingLikes = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    private static final long FLUSH_INTERVAL_MS = 1000L;
+
+    public LikeWriteBehindService(LikeJdbcRepository likeJdbcRepository, MeterRegistry meterRegistry) {
+        this.likeJdbcRepository = likeJdbcRepository;
+        this.flushTimer = Timer.builder("like.write_behind.flush.latency").register(meterRegistry);
+        this.flushedCounter = Counter.builder("like.write_behind.flushed").register(meterRegistry);
+        this.failedCounter = Counter.builder("like.write_behind.failed").register(meterRegistry);
+        Gauge.builder("like.write_behind.queue.depth", pendingLikes, Map::size).register(meterRegistry);
+    }
+
+    // 토글은 (유저, 대상)마다 좋아요와 취소가 번갈아 들어오므로, 반대 상태가 들어오면 아직 반영하지 않은 변경이 상쇄된다
+    public void enqueue(LikeTarget target, Long targetId, Long userId, boolean liked) {
+        pendingLikes.merge(new LikeKey(target, targetId, userId), liked, (pending, latest) -> pending.equals(latest) ? latest : null);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flushPendingLikes() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+        if (!pendingLikes.isEmpty()) {
+            log.error("종료 시점에 DB에 반영되지 못한 좋아요가 있습니다: {}건", pendingLikes.size());
+        }
+    }
+
+    private synchronized void flush() {
+        Map<LikeKey, Boolean> snapshot = drainPendingLikes();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> writeSnapshot(snapshot));
+    }
+
+    private Map<LikeKey, Boolean> drainPendingLikes() {
+        Map<LikeKey, Boolean> snapshot = new HashMap<>();
+        for (LikeKey likeKey : pendingLikes.keySet()) {
+            Boolean liked = pendingLikes.remove(likeKey);
+            if (liked != null) {
+                snapshot.put(likeKey, liked);
+            }
+        }
+        return snapshot;
+    }
+
+    private void writeSnapshot(Map<LikeKey, Boolean> snapshot) {
+        Map<LikeTarget, List<LikeKey>> inserts = new EnumMap<>(LikeTarget.class);
+        Map<LikeTarget, List<LikeKey>> deletes = new EnumMap<>(LikeTarget.class);
+        snapshot.forEach((likeKey, liked) -> (liked ? inserts : deletes)
+                .computeIfAbsent(likeKey.target(), target -> new ArrayList<>())
+                .add(likeKey));
+
+        inserts.forEach((target, likeKeys) -> writeBatch(likeKeys, snapshot, () -> likeJdbcRepository.batchInsert(target, likeKeys)));
+        deletes.forEach((target, likeKeys) -> writeBatch(likeKeys, snapshot, () -> likeJdbcRepository.batchDelete(target, likeKeys)));
+    }
+
+    private void writeBatch(List<LikeKey> likeKeys, Map<LikeKey, Boolean> snapshot, Runnable batchWrite) {
+        try {
+            batchWrite.run();
+            flushedCounter.increment(likeKeys.size());
+        } catch (RuntimeException e) {
+            log.error("좋아요 일괄 반영 실패, {}건을 다음 주기에 재시도합니다: {}", likeKeys.size(), e.getMessage());
+            failedCounter.increment(likeKeys.size());
+            requeue(likeKeys, snapshot);
+        }
+    }
+
+    // 재시도 대기 중에 더 최신 상태가 들어왔다면 그 값을 유지한다
+    private void requeue(List<LikeKey> likeKeys, Map<LikeKey, Boolean> snapshot) {
+        likeKeys.forEach(likeKey -> pendingLikes.putIfAbsent(likeKey, snapshot.get(likeKey)));
+    }
+}
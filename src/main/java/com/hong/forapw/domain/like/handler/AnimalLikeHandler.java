@@ -2,29 +2,26 @@ package com.hong.forapw.domain.like.handler;
 
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
-import com.hong.forapw.domain.animal.entity.Animal;
-import com.hong.forapw.domain.animal.entity.FavoriteAnimal;
-import com.hong.forapw.domain.user.entity.User;
-import com.hong.forapw.domain.user.repository.UserRepository;
 import com.hong.forapw.domain.animal.repository.AnimalRepository;
-import com.hong.forapw.domain.animal.repository.FavoriteAnimalRepository;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.like.model.LikeKey;
 import com.hong.forapw.integration.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+
+import static com.hong.forapw.domain.like.LikeMapper.toLikeCountMap;
 
 @Component
 @RequiredArgsConstructor
 public class AnimalLikeHandler implements LikeHandler {
 
     private final RedisService redisService;
-    private final FavoriteAnimalRepository favoriteAnimalRepository;
     private final AnimalRepository animalRepository;
-    private final UserRepository userRepository;
 
-    private static final String ANIMAL_LIKE_NUM_KEY_PREFIX = "animal:like:count";
-    private static final String ANIMAL_LIKED_SET_KEY_PREFIX = "user:%s:liked_animals";
+    private static final String ANIMAL_LIKE_NUM_KEY_PREFIX = LikeTarget.ANIMAL.getLikeCountKeyPrefix();
     private static final long ANIMAL_CACHE_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 90; // 90 days
 
     @Override
@@ -40,32 +37,9 @@ public class AnimalLikeHandler implements LikeHandler {
     }
 
     @Override
-    public boolean isAlreadyLiked(Long animalId, Long userId) {
-        return redisService.isMemberOfSet(buildUserLikedSetKey(userId), animalId.toString());
-    }
-
-    @Override
-    public void addLike(Long animalId, Long userId) {
-        Animal animal = animalRepository.getReferenceById(animalId);
-        User userRef = userRepository.getReferenceById(userId);
-
-        FavoriteAnimal favoriteAnimal = FavoriteAnimal.builder()
-                .user(userRef)
-                .animal(animal)
-                .build();
-        favoriteAnimalRepository.save(favoriteAnimal);
-
-        redisService.addSetElement(buildUserLikedSetKey(userId), animalId);
-        redisService.incrementValue(ANIMAL_LIKE_NUM_KEY_PREFIX, animalId.toString(), 1L);
-    }
-
-    @Override
-    public void removeLike(Long animalId, Long userId) {
-        Optional<FavoriteAnimal> favoriteAnimalOP = favoriteAnimalRepository.findByUserIdAndAnimalId(userId, animalId);
-        favoriteAnimalOP.ifPresent(favoriteAnimalRepository::delete);
-
-        redisService.removeSetElement(buildUserLikedSetKey(userId), animalId.toString());
-        redisService.decrementValue(ANIMAL_LIKE_NUM_KEY_PREFIX, animalId.toString(), 1L);
+    public boolean toggleLike(Long animalId, Long userId) {
+        return redisService.toggleSetMemberWithCounter(buildUserLikedSetKey(userId), ANIMAL_LIKE_NUM_KEY_PREFIX, animalId.toString(),
+                LikeTarget.ANIMAL.getDirtyKey(), LikeTarget.ANIMAL.getMembershipDirtyKey(), LikeKey.toMember(animalId, userId));
     }
 
     @Override
@@ -80,8 +54,9 @@ public class AnimalLikeHandler implements LikeHandler {
     }
 
     @Override
-    public String buildLockKey(Long animalId) {
-        return "animal:" + animalId + ":like:lock";
+    public Map<Long, Long> getLikeCounts(List<Long> animalIds) {
+        return redisService.getValuesInLongOrLoad(ANIMAL_LIKE_NUM_KEY_PREFIX, animalIds,
+                missedIds -> toLikeCountMap(missedIds, animalRepository.countLikesByAnimalIds(missedIds)), ANIMAL_CACHE_EXPIRATION_MS);
     }
 
     @Override
@@ -89,7 +64,12 @@ public class AnimalLikeHandler implements LikeHandler {
         redisService.removeValue(ANIMAL_LIKE_NUM_KEY_PREFIX, animalId.toString());
     }
 
+    @Override
+    public void clearAll(List<Long> animalIds) {
+        redisService.removeValues(ANIMAL_LIKE_NUM_KEY_PREFIX, animalIds);
+    }
+
     private String buildUserLikedSetKey(Long userId) {
-        return String.format(ANIMAL_LIKED_SET_KEY_PREFIX, userId);
+        return LikeTarget.ANIMAL.buildLikedSetKey(userId);
     }
 }
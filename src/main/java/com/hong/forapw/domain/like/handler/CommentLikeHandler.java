@@ -2,29 +2,26 @@ package com.hong.forapw.domain.like.handler;
 
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
-import com.hong.forapw.domain.post.entity.Comment;
-import com.hong.forapw.domain.post.entity.CommentLike;
-import com.hong.forapw.domain.user.entity.User;
-import com.hong.forapw.domain.post.repository.CommentLikeRepository;
 import com.hong.forapw.domain.post.repository.CommentRepository;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.like.model.LikeKey;
 import com.hong.forapw.integration.redis.RedisService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+
+import static com.hong.forapw.domain.like.LikeMapper.toLikeCountMap;
 
 @Component
 @RequiredArgsConstructor
 public class CommentLikeHandler implements LikeHandler {
 
     private final CommentRepository commentRepository;
-    private final CommentLikeRepository commentLikeRepository;
-    private final EntityManager entityManager;
     private final RedisService redisService;
 
-    private static final String COMMENT_LIKE_NUM_KEY_PREFIX = "comment:like:count";
-    private static final String COMMENT_LIKED_SET_KEY_PREFIX = "user:%s:liked_comments";
+    private static final String COMMENT_LIKE_NUM_KEY_PREFIX = LikeTarget.COMMENT.getLikeCountKeyPrefix();
     private static final Long POST_CACHE_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 90;
 
     @Override
@@ -39,29 +36,9 @@ public class CommentLikeHandler implements LikeHandler {
     }
 
     @Override
-    public boolean isAlreadyLiked(Long commentId, Long userId) {
-        return redisService.isMemberOfSet(buildUserLikedSetKey(userId), commentId.toString());
-    }
-
-    @Override
-    public void addLike(Long commentId, Long userId) {
-        User userRef = entityManager.getReference(User.class, userId);
-        Comment commentRef = entityManager.getReference(Comment.class, commentId);
-
-        CommentLike commentLike = CommentLike.builder().user(userRef).comment(commentRef).build();
-        commentLikeRepository.save(commentLike);
-
-        redisService.addSetElement(buildUserLikedSetKey(userId), commentId);
-        redisService.incrementValue(COMMENT_LIKE_NUM_KEY_PREFIX, commentId.toString(), 1L);
-    }
-
-    @Override
-    public void removeLike(Long commentId, Long userId) {
-        Optional<CommentLike> commentLikeOP = commentLikeRepository.findByUserIdAndCommentId(userId, commentId);
-        commentLikeOP.ifPresent(commentLikeRepository::delete);
-
-        redisService.removeSetElement(buildUserLikedSetKey(userId), commentId.toString());
-        redisService.decrementValue(COMMENT_LIKE_NUM_KEY_PREFIX, commentId.toString(), 1L);
+    public boolean toggleLike(Long commentId, Long userId) {
+        return redisService.toggleSetMemberWithCounter(buildUserLikedSetKey(userId), COMMENT_LIKE_NUM_KEY_PREFIX, commentId.toString(),
+                LikeTarget.COMMENT.getDirtyKey(), LikeTarget.COMMENT.getMembershipDirtyKey(), LikeKey.toMember(commentId, userId));
     }
 
     @Override
@@ -76,8 +53,9 @@ public class CommentLikeHandler implements LikeHandler {
     }
 
     @Override
-    public String buildLockKey(Long commentId) {
-        return "comment:" + commentId + ":like:lock";
+    public Map<Long, Long> getLikeCounts(List<Long> commentIds) {
+        return redisService.getValuesInLongOrLoad(COMMENT_LIKE_NUM_KEY_PREFIX, commentIds,
+                missedIds -> toLikeCountMap(missedIds, commentRepository.countLikesByCommentIds(missedIds)), POST_CACHE_EXPIRATION_MS);
     }
 
     @Override
@@ -86,7 +64,7 @@ public class CommentLikeHandler implements LikeHandler {
     }
 
     private String buildUserLikedSetKey(Long userId) {
-        return String.format(COMMENT_LIKED_SET_KEY_PREFIX, userId);
+        return LikeTarget.COMMENT.buildLikedSetKey(userId);
     }
 
     private Long findOwnerId(Long commentId) {
@@ -1,20 +1,22 @@
 package com.hong.forapw.domain.like.handler;
 
+import java.util.List;
+import java.util.Map;
+
 public interface LikeHandler {
     void initCount(Long targetId);
 
     void validateBeforeLike(Long targetId, Long userId);
 
-    boolean isAlreadyLiked(Long targetId, Long userId);
-
-    void addLike(Long targetId, Long userId);
-
-    void removeLike(Long targetId, Long userId);
+    boolean toggleLike(Long targetId, Long userId);
 
     Long getLikeCount(Long targetId);
 
-    String buildLockKey(Long targetId);
+    Map<Long, Long> getLikeCounts(List<Long> targetIds);
 
     void clear(Long targetId);
-}
 
+    default void clearAll(List<Long> targetIds) {
+        targetIds.forEach(this::clear);
+    }
+}
@@ -2,29 +2,26 @@ package com.hong.forapw.domain.like.handler;
 
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
-import com.hong.forapw.domain.post.entity.Post;
-import com.hong.forapw.domain.post.entity.PostLike;
-import com.hong.forapw.domain.user.entity.User;
-import com.hong.forapw.domain.post.repository.PostLikeRepository;
 import com.hong.forapw.domain.post.repository.PostRepository;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.like.model.LikeKey;
 import com.hong.forapw.integration.redis.RedisService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+
+import static com.hong.forapw.domain.like.LikeMapper.toLikeCountMap;
 
 @Component
 @RequiredArgsConstructor
 public class PostLikeHandler implements LikeHandler {
 
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final EntityManager entityManager;
     private final RedisService redisService;
 
-    private static final String POST_LIKE_NUM_KEY_PREFIX = "post:like:count";
-    private static final String POST_LIKED_SET_KEY_PREFIX = "user:%s:liked_posts";
+    private static final String POST_LIKE_NUM_KEY_PREFIX = LikeTarget.POST.getLikeCountKeyPrefix();
     private static final Long POST_CACHE_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 90;
 
     @Override
@@ -39,29 +36,9 @@ public class PostLikeHandler implements LikeHandler {
     }
 
     @Override
-    public boolean isAlreadyLiked(Long postId, Long userId) {
-        return redisService.isMemberOfSet(buildUserLikedSetKey(userId), postId.toString());
-    }
-
-    @Override
-    public void addLike(Long postId, Long userId) {
-        User userRef = entityManager.getReference(User.class, userId);
-        Post postRef = entityManager.getReference(Post.class, postId);
-
-        PostLike postLike = PostLike.builder().user(userRef).post(postRef).build();
-        postLikeRepository.save(postLike);
-
-        redisService.addSetElement(buildUserLikedSetKey(userId), postId);
-        redisService.incrementValue(POST_LIKE_NUM_KEY_PREFIX, postId.toString(), 1L);
-    }
-
-    @Override
-    public void removeLike(Long postId, Long userId) {
-        Optional<PostLike> postLikeOP = postLikeRepository.findByUserIdAndPostId(userId, postId);
-        postLikeOP.ifPresent(postLikeRepository::delete);
-
-        redisService.removeSetElement(buildUserLikedSetKey(userId), postId.toString());
-        redisService.decrementValue(POST_LIKE_NUM_KEY_PREFIX, postId.toString(), 1L);
+    public boolean toggleLike(Long postId, Long userId) {
+        return redisService.toggleSetMemberWithCounter(buildUserLikedSetKey(userId), POST_LIKE_NUM_KEY_PREFIX, postId.toString(),
+                LikeTarget.POST.getDirtyKey(), LikeTarget.POST.getMembershipDirtyKey(), LikeKey.toMember(postId, userId));
     }
 
     @Override
@@ -75,8 +52,9 @@ public class PostLikeHandler implements LikeHandler {
     }
 
     @Override
-    public String buildLockKey(Long postId) {
-        return "post:" + postId + ":like:lock";
+    public Map<Long, Long> getLikeCounts(List<Long> postIds) {
+        return redisService.getValuesInLongOrLoad(POST_LIKE_NUM_KEY_PREFIX, postIds,
+                missedIds -> toLikeCountMap(missedIds, postRepository.countLikesByPostIds(missedIds)), POST_CACHE_EXPIRATION_MS);
     }
 
     @Override
@@ -85,7 +63,7 @@ public class PostLikeHandler implements LikeHandler {
     }
 
     private String buildUserLikedSetKey(Long userId) {
-        return String.format(POST_LIKED_SET_KEY_PREFIX, userId);
+        return LikeTarget.POST.buildLikedSetKey(userId);
     }
 
     private Long findOwnerId(Long postId) {
@@ -0,0 +1,4 @@
+package com.hong.forapw.domain.like.model;
+
+public record LikeCountDTO(Long targetId, Long likeCount) {
+}
@@ -0,0 +1,22 @@
+package com.hong.forapw.domain.like.model;
+
+import com.hong.forapw.domain.like.LikeTarget;
+
+public record LikeKey(LikeTarget target, Long targetId, Long userId) {
+
+    private static final String MEMBER_DELIMITER = ":";
+
+    // Redis ZSet 멤버로 쓰는 "userId:targetId" 형식
+    public static String toMember(Long targetId, Long userId) {
+        return userId + MEMBER_DELIMITER + targetId;
+    }
+
+    public static LikeKey fromMember(LikeTarget target, String member) {
+        int delimiterIndex = member.indexOf(MEMBER_DELIMITER);
+        return new LikeKey(target, Long.valueOf(member.substring(delimiterIndex + 1)), Long.valueOf(member.substring(0, delimiterIndex)));
+    }
+
+    public String toMember() {
+        return toMember(targetId, userId);
+    }
+}
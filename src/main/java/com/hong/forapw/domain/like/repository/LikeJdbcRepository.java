@@ -0,0 +1,84 @@
+package com.hong.forapw.domain.like.repository;
+
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.like.model.LikeKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// JPA는 IDENTITY 전략에서 insert 배치를 지원하지 않으므로, 좋아요 일괄 반영은 JDBC 배치로 처리한다
+@Repository
+@RequiredArgsConstructor
+public class LikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+
+    // 이미 존재하는 좋아요나, 그 사이 삭제된 대상은 무시한다
+    public void batchInsert(LikeTarget target, List<LikeKey> likeKeys) {
+        String sql = "INSERT IGNORE INTO " + target.getTableName() +
+                " (user_id, " + target.getTargetColumnName() + ", created_date, updated_date) VALUES (?, ?, NOW(), NOW())";
+
+        jdbcTemplate.batchUpdate(sql, likeKeys, BATCH_SIZE, (ps, likeKey) -> {
+            ps.setLong(1, likeKey.userId());
+            ps.setLong(2, likeKey.targetId());
+        });
+    }
+
+    public void batchDelete(LikeTarget target, List<LikeKey> likeKeys) {
+        String sql = "DELETE FROM " + target.getTableName() +
+                " WHERE user_id = ? AND " + target.getTargetColumnName() + " = ?";
+
+        jdbcTemplate.batchUpdate(sql, likeKeys, BATCH_SIZE, (ps, likeKey) -> {
+            ps.setLong(1, likeKey.userId());
+            ps.setLong(2, likeKey.targetId());
+        });
+    }
+
+    // 지정한 대상들의 좋아요 수. 좋아요가 없는 대상은 결과에 포함되지 않는다
+    // 구간(BETWEEN)이 아닌 IN으로 조회해, 비용이 id 간격이 아니라 대상 수에 비례하도록 한다
+    public Map<Long, Long> countLikes(LikeTarget target, List<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String column = target.getTargetColumnName();
+        String sql = "SELECT " + column + ", COUNT(*) FROM " + target.getTableName() +
+                " WHERE " + column + " IN (" + String.join(", ", Collections.nCopies(targetIds.size(), "?")) + ") GROUP BY " + column;
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            likeCounts.put(rs.getLong(1), rs.getLong(2));
+        }, targetIds.toArray());
+        return likeCounts;
+    }
+
+    // 지정한 (유저, 대상) 쌍 중 DB에 좋아요가 있는 것들
+    public Set<LikeKey> findExistingLikes(LikeTarget target, List<LikeKey> likeKeys) {
+        if (likeKeys.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String column = target.getTargetColumnName();
+        String sql = "SELECT user_id, " + column + " FROM " + target.getTableName() +
+                " WHERE (user_id, " + column + ") IN (" + String.join(", ", Collections.nCopies(likeKeys.size(), "(?, ?)")) + ")";
+
+        Object[] params = likeKeys.stream()
+                .flatMap(likeKey -> Stream.of(likeKey.userId(), likeKey.targetId()))
+                .toArray();
+        Set<LikeKey> existingLikes = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            existingLikes.add(new LikeKey(target, rs.getLong(2), rs.getLong(1)));
+        }, params);
+        return existingLikes;
+    }
+}
@@ -26,6 +26,7 @@ public class PostController {
     private final PostService postService;
     private final LikeService likeService;
     private static final String SORT_BY_ID = "id";
+    private static final String DEFAULT_CURSOR_SIZE = "5";
 
     @PostMapping("/posts")
     public ResponseEntity<?> createPost(@RequestBody @Valid PostRequest.CreatePostDTO requestDTO, @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -88,6 +89,43 @@ public class PostController {
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
+    // 무한 스크롤용 커서 기반 조회 (OFFSET/COUNT 없이 다음 페이지 여부만 반환)
+    @GetMapping("/posts/adoption/cursor")
+    public ResponseEntity<?> findAdoptionPostListByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size) {
+        PostResponse.FindPostCursorDTO responseDTO = postService.findPostsByTypeWithCursor(PostType.ADOPTION, cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/fostering/cursor")
+    public ResponseEntity<?> findFosteringPostListByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size) {
+        PostResponse.FindPostCursorDTO responseDTO = postService.findPostsByTypeWithCursor(PostType.FOSTERING, cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/question/cursor")
+    public ResponseEntity<?> findQuestionListByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size) {
+        PostResponse.FindQnaCursorDTO responseDTO = postService.findQuestionsWithCursor(cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/myPost/cursor")
+    public ResponseEntity<?> findMyPostsByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PostResponse.FindMyPostCursorDTO responseDTO = postService.findMyPostsWithCursor(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/myQuestion/cursor")
+    public ResponseEntity<?> findMyQuestionsByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PostResponse.FindQnaCursorDTO responseDTO = postService.findMyQuestionsWithCursor(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/posts/myComment/cursor")
+    public ResponseEntity<?> findMyCommentListByCursor(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PostResponse.FindMyCommentCursorDTO responseDTO = postService.findMyCommentsWithCursor(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
     @GetMapping("/posts/{postId}")
     public ResponseEntity<?> findPostById(@PathVariable Long postId, @AuthenticationPrincipal CustomUserDetails userDetails) {
         PostResponse.FindPostByIdDTO responseDTO = postService.findPostById(postId, userDetails.getUser().getId());
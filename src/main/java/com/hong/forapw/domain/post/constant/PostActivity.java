@@ -0,0 +1,20 @@
+package com.hong.forapw.domain.post.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인기글 점수에 반영되는 활동과 가중치 (조회 0.001, 댓글 1, 좋아요 5)
+// 취소 활동(댓글 삭제, 좋아요 취소)은 원래 활동이 더했던 만큼만 뺀다. 가중치는 원래 활동과 같다
+@AllArgsConstructor
+@Getter
+public enum PostActivity {
+
+    VIEW(0.001, false),
+    COMMENT(1.0, false),
+    COMMENT_DELETE(1.0, true),
+    LIKE(5.0, false),
+    LIKE_CANCEL(5.0, true);
+
+    private final double weight;
+    private final boolean cancel;
+}
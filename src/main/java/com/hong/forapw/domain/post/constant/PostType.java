@@ -22,4 +22,14 @@ public enum PostType {
     public boolean isQuestion() {
         return this == QUESTION;
     }
-}
\ No newline at end of file
+
+    // 통합 검색에 노출되는 게시글 타입
+    public boolean isSearchable() {
+        return this == ADOPTION || this == FOSTERING || this == QUESTION;
+    }
+
+    // 인기글 랭킹 대상 게시글 타입
+    public boolean isRanked() {
+        return this == ADOPTION || this == FOSTERING;
+    }
+}
@@ -16,7 +16,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comment_tb")
+@Table(name = "comment_tb", indexes = {
+        @Index(name = "idx_comment_user_created", columnList = "user_id, created_date, id")
+})
 @SQLDelete(sql = "UPDATE comment_tb SET removed_at = NOW() WHERE id=?")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -17,7 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "post_tb")
+@Table(name = "post_tb", indexes = {
+        @Index(name = "idx_post_type_created", columnList = "post_type, created_date, id"),
+        @Index(name = "idx_post_user_type_created", columnList = "user_id, post_type, created_date, id")
+})
 @SQLDelete(sql = "UPDATE post_tb SET removed_at = NOW() WHERE id=?")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -0,0 +1,24 @@
+package com.hong.forapw.domain.post.model;
+
+import com.hong.forapw.domain.post.constant.PostActivity;
+import com.hong.forapw.domain.post.constant.PostType;
+
+import java.time.LocalDateTime;
+
+// 게시글 조회/댓글/좋아요 이벤트. 트랜잭션이 커밋된 뒤에 인기글 랭킹에 반영된다
+// postType을 모르는 곳(좋아요)에서는 null로 보내고, 리스너가 조회한다
+// 취소 활동은 원래 활동의 시각(댓글 작성 시각)이나, 그 시각을 찾을 수 있는 유저(좋아요한 유저)를 함께 보낸다
+public record PostActivityEvent(Long postId, PostType postType, PostActivity activity, Long userId, LocalDateTime activityDate) {
+
+    public static PostActivityEvent of(Long postId, PostType postType, PostActivity activity) {
+        return new PostActivityEvent(postId, postType, activity, null, null);
+    }
+
+    public static PostActivityEvent of(Long postId, PostActivity activity, Long userId) {
+        return new PostActivityEvent(postId, null, activity, userId, null);
+    }
+
+    public static PostActivityEvent of(Long postId, PostActivity activity, LocalDateTime activityDate) {
+        return new PostActivityEvent(postId, null, activity, null, activityDate);
+    }
+}
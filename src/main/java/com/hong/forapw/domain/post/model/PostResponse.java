@@ -25,6 +25,18 @@ public class PostResponse {
     public record FindMyCommentListDTO(List<MyCommentDTO> comments, boolean isLastPage) {
     }
 
+    public record FindPostCursorDTO(List<PostDTO> posts, String nextCursor, boolean hasNext) {
+    }
+
+    public record FindMyPostCursorDTO(List<MyPostDTO> posts, String nextCursor, boolean hasNext) {
+    }
+
+    public record FindQnaCursorDTO(List<QnaDTO> questions, String nextCursor, boolean hasNext) {
+    }
+
+    public record FindMyCommentCursorDTO(List<MyCommentDTO> comments, String nextCursor, boolean hasNext) {
+    }
+
     public record PostDTO(Long id,
                           String nickName,
                           String title,
@@ -15,10 +15,11 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 
     Optional<CommentLike> findByUserIdAndCommentId(Long userId, Long commentId);
 
+    // 해당 게시글의 댓글 중 유저가 좋아요한 댓글 id (유저의 전체 좋아요 이력을 가져오지 않도록 게시글로 범위를 제한)
     @Query("SELECT c.id FROM CommentLike cl " +
             "JOIN cl.comment c " +
-            "JOIN cl.user u WHERE u.id = :userId")
-    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
+            "WHERE cl.user.id = :userId AND c.post.id = :postId")
+    List<Long> findCommentIdsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
     @Modifying
     @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM Comment c WHERE c.post.id = :postId)")
@@ -1,9 +1,11 @@
 package com.hong.forapw.domain.post.repository;
 
+import com.hong.forapw.domain.like.model.LikeCountDTO;
 import com.hong.forapw.domain.post.entity.Comment;
 import com.hong.forapw.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -35,8 +37,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE c.id = :commentId AND c.removedAt IS NULL")
     Optional<Long> findUserIdById(@Param("commentId") Long commentId);
 
-    // 모든 댓글과 대댓글을 한 번에 가져오기
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId")
+    // 모든 댓글과 대댓글을 한 번에 가져오기 (id 순이라 부모 댓글이 항상 대댓글보다 먼저 온다)
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.id ASC")
     @EntityGraph(attributePaths = {"user", "parent"})
     List<Comment> findByPostIdWithUserAndParentAndRemoved(@Param("postId") Long postId);
 
@@ -46,15 +48,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE u.id = :userId AND c.removedAt IS NULL")
     Page<Comment> findByUserIdWithPost(@Param("userId") Long userId, Pageable pageable);
 
-    // date 이후의 댓글이 존재 => 마지막 대댓글이 아니다
-    @Query("SELECT COUNT(c) > 0 FROM Comment c " +
-            "JOIN c.parent p " +
-            "WHERE p.id = :parentId AND c.createdDate > :date AND c.removedAt IS NULL")
-    boolean existsByParentIdAndDateAfter(Long parentId, LocalDateTime date);
+    @EntityGraph(attributePaths = {"post"})
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.user.id = :userId AND c.removedAt IS NULL " +
+            "AND (c.createdDate < :createdDate OR (c.createdDate = :createdDate AND c.id < :id)) " +
+            "ORDER BY c.createdDate DESC, c.id DESC")
+    Slice<Comment> findByUserIdWithPostBefore(@Param("userId") Long userId, @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
 
     @Query("SELECT COUNT(cl) FROM CommentLike cl WHERE cl.comment.id = :commentId")
     Long countLikesByCommentId(@Param("commentId") Long commentId);
 
+    @Query("SELECT new com.hong.forapw.domain.like.model.LikeCountDTO(cl.comment.id, COUNT(cl)) " +
+            "FROM CommentLike cl " +
+            "WHERE cl.comment.id IN :commentIds GROUP BY cl.comment.id")
+    List<LikeCountDTO> countLikesByCommentIds(@Param("commentIds") List<Long> commentIds);
+
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.createdDate >= :date AND c.removedAt IS NULL")
     Long countALlWithinDate(LocalDateTime date);
 
@@ -23,4 +23,8 @@ public interface PopularPostRepository extends JpaRepository<PopularPost, Long>
     @Modifying
     @Query("DELETE FROM PopularPost p WHERE p.post.id = :postId")
     void deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PopularPost p WHERE p.postType = :postType")
+    void deleteByPostType(@Param("postType") PostType postType);
 }
@@ -0,0 +1,62 @@
+package com.hong.forapw.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 조회수처럼 여러 게시글의 값을 한 번에 덮어쓰는 작업은 엔티티를 올리지 않고 JDBC로 처리한다
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int CHUNK_SIZE = 500;
+
+    // 청크마다 UPDATE ... SET read_cnt = CASE id WHEN ? THEN ? ... END WHERE id IN (...) 한 문장으로 반영한다
+    public int updateReadCounts(Map<Long, Long> readCounts) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(readCounts.entrySet());
+        int updatedRows = 0;
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            updatedRows += updateReadCountChunk(entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size())));
+        }
+        return updatedRows;
+    }
+
+    public Map<Long, Long> findReadCounts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String sql = "SELECT id, read_cnt FROM post_tb WHERE id IN (" + buildPlaceholders(postIds.size()) + ")";
+        Map<Long, Long> readCounts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            readCounts.put(rs.getLong("id"), rs.getLong("read_cnt"));
+        }, postIds.toArray());
+        return readCounts;
+    }
+
+    private int updateReadCountChunk(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE post_tb SET read_cnt = CASE id");
+        List<Object> params = new ArrayList<>(chunk.size() * 3);
+        chunk.forEach(entry -> {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        });
+        sql.append(" ELSE read_cnt END WHERE id IN (").append(buildPlaceholders(chunk.size())).append(")");
+        chunk.forEach(entry -> params.add(entry.getKey()));
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    private String buildPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
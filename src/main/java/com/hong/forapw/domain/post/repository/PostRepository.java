@@ -1,11 +1,14 @@
 package com.hong.forapw.domain.post.repository;
 
+import com.hong.forapw.domain.like.model.LikeCountDTO;
 import com.hong.forapw.domain.post.model.PostTypeCountDTO;
 import com.hong.forapw.domain.post.entity.Post;
 import com.hong.forapw.domain.post.constant.PostType;
 import com.hong.forapw.domain.user.entity.User;
+import com.hong.forapw.domain.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -54,24 +57,29 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "FROM post_tb p " +
             "JOIN user_tb u ON p.user_id = u.id " +
             "LEFT JOIN post_image_tb pi ON pi.post_id = p.id " +
-            "WHERE MATCH(p.title) AGAINST(:title IN BOOLEAN MODE) " +
-            "AND p.post_type IN ('ADOPTION', 'FOSTERING', 'QUESTION') " +
+            "WHERE p.id IN :postIds " +
             "AND p.removed_at IS NULL " +
             "GROUP BY p.id",
-            countQuery = "SELECT COUNT(DISTINCT p.id) " +
-                    "FROM post_tb p " +
-                    "JOIN user_tb u ON p.user_id = u.id " +
-                    "LEFT JOIN post_image_tb pi ON pi.post_id = p.id " +
-                    "WHERE MATCH(p.title) AGAINST(:title IN BOOLEAN MODE) " +
-                    "AND p.post_type IN ('ADOPTION', 'FOSTERING', 'QUESTION') " +
-                    "AND p.removed_at IS NULL",
             nativeQuery = true)
-    Page<Object[]> findByTitleContaining(@Param("title") String title, Pageable pageable);
+    List<Object[]> findSearchRowsByIds(@Param("postIds") List<Long> postIds);
+
+    @Query("SELECT new com.hong.forapw.domain.search.SearchDocument(p.id, p.title) FROM Post p " +
+            "WHERE p.postType IN (com.hong.forapw.domain.post.constant.PostType.ADOPTION, com.hong.forapw.domain.post.constant.PostType.FOSTERING, com.hong.forapw.domain.post.constant.PostType.QUESTION) " +
+            "AND p.removedAt IS NULL")
+    List<SearchDocument> findSearchDocuments();
 
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p FROM Post p WHERE p.postType = :postType AND p.removedAt IS NULL")
     Page<Post> findByPostTypeWithUser(@Param("postType") PostType postType, Pageable pageable);
 
+    // 키셋 페이지네이션: (createdDate, id)가 커서보다 앞선 행만 읽는다. COUNT 쿼리 없이 size + 1건으로 다음 페이지 여부를 판단
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.postType = :postType AND p.removedAt IS NULL " +
+            "AND (p.createdDate < :createdDate OR (p.createdDate = :createdDate AND p.id < :id)) " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    Slice<Post> findByPostTypeWithUserBefore(@Param("postType") PostType postType, @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p FROM Post p " +
             "JOIN p.parent pr " +
@@ -84,6 +92,13 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "WHERE u.id = :userId AND p.postType IN :postTypes AND p.removedAt IS NULL")
     Page<Post> findPostsByUserIdAndTypesWithUser(@Param("userId") Long userId, @Param("postTypes") List<PostType> postTypes, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.user.id = :userId AND p.postType IN :postTypes AND p.removedAt IS NULL " +
+            "AND (p.createdDate < :createdDate OR (p.createdDate = :createdDate AND p.id < :id)) " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    Slice<Post> findPostsByUserIdAndTypesWithUserBefore(@Param("userId") Long userId, @Param("postTypes") List<PostType> postTypes, @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p.parent FROM Post p " +
             "JOIN p.user u " +
@@ -99,6 +114,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.id = :postId AND p.removedAt IS NULL")
     Optional<Post> findByIdWithUserAndParent(@Param("postId") Long postId);
 
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT p FROM Post p WHERE p.id IN :postIds AND p.removedAt IS NULL")
+    List<Post> findByIdsWithUser(@Param("postIds") List<Long> postIds);
+
     @Query("SELECT p FROM Post p WHERE p.createdDate > :date AND p.removedAt IS NULL")
     List<Post> findPostIdsWithinDate(LocalDateTime date);
 
@@ -116,6 +135,11 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = :postId")
     Long countLikesByPostId(@Param("postId") Long postId);
 
+    @Query("SELECT new com.hong.forapw.domain.like.model.LikeCountDTO(pl.post.id, COUNT(pl)) " +
+            "FROM PostLike pl " +
+            "WHERE pl.post.id IN :postIds GROUP BY pl.post.id")
+    List<LikeCountDTO> countLikesByPostIds(@Param("postIds") List<Long> postIds);
+
     @Modifying
     @Query("UPDATE Post p SET p.answerNum = p.answerNum + 1 WHERE p.id = :postId")
     void incrementAnswerNum(@Param("postId") Long postId);
@@ -0,0 +1,216 @@
+package com.hong.forapw.domain.post.service;
+
+import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.post.constant.PostActivity;
+import com.hong.forapw.domain.post.constant.PostType;
+import com.hong.forapw.domain.post.entity.PopularPost;
+import com.hong.forapw.domain.post.entity.Post;
+import com.hong.forapw.domain.post.model.PostActivityEvent;
+import com.hong.forapw.domain.post.repository.PopularPostRepository;
+import com.hong.forapw.domain.post.repository.PostRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시글 타입별 인기글 랭킹 (Redis ZSet)
+// 조회/댓글/좋아요가 일어날 때마다 시간 감쇠(반감기 12시간)가 적용된 점수를 바로 더하고, 목록은 상위 k개를 그대로 읽는다
+// 주기적인 정리(compact)는 감쇠 기준 시각을 옮기며 낮은 점수를 걸러내고, 상위 글을 popular_post_tb에 스냅샷으로 남긴다 (Redis가 비었을 때의 대체 데이터)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularPostRankingService {
+
+    private final RedisService redisService;
+    private final PostRepository postRepository;
+    private final PopularPostRepository popularPostRepository;
+    private final PostCacheService postCacheService;
+    private final LikeService likeService;
+
+    private static final String RANKING_KEY_PREFIX = "popularPost:ranking";
+    private static final String RANKING_EPOCH_KEY = "popularPost:ranking:epoch"; // 모든 타입이 같은 기준 시각을 써서 타입 간 점수 비교가 가능
+    private static final long HALF_LIFE_MS = 1000L * 60 * 60 * 12;
+    private static final String LIKE_TIME_KEY_PREFIX = "popularPost:likedAt";
+    private static final long LIKE_TIME_EXP = HALF_LIFE_MS * 14; // 이보다 오래된 좋아요의 기여분은 1/16000 미만이라 빼지 않아도 된다
+    private static final double MIN_SCORE = 0.01;
+    private static final long MAX_RANKING_SIZE = 500;
+    private static final int SEED_DAYS = 3;
+    private static final int SNAPSHOT_SIZE = 5;
+    private static final List<PostType> RANKED_POST_TYPES = Arrays.stream(PostType.values())
+            .filter(PostType::isRanked)
+            .toList();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostActivity(PostActivityEvent event) {
+        PostType postType = Optional.ofNullable(event.postType())
+                .or(() -> postRepository.findPostTypeById(event.postId()))
+                .orElse(null);
+        if (postType == null || !postType.isRanked()) {
+            return;
+        }
+
+        try {
+            applyActivity(event, postType);
+        } catch (RuntimeException e) {
+            log.warn("인기글 점수 반영 실패, postId={}, activity={}", event.postId(), event.activity(), e);
+        }
+    }
+
+    private void applyActivity(PostActivityEvent event, PostType postType) {
+        String rankingKey = buildRankingKey(postType);
+        String member = event.postId().toString();
+        PostActivity activity = event.activity();
+
+        // 좋아요는 유저별 활동 시각을 남겨 두고, 취소 시 그 시각에 더했던 만큼만 뺀다
+        if (event.userId() != null) {
+            String likeTimeKey = buildLikeTimeKey(event.postId(), event.userId());
+            if (activity.isCancel()) {
+                redisService.cancelDecayedScore(rankingKey, RANKING_EPOCH_KEY, likeTimeKey, member, activity.getWeight(), HALF_LIFE_MS);
+            } else {
+                redisService.incrementDecayedScore(rankingKey, RANKING_EPOCH_KEY, likeTimeKey, member, activity.getWeight(), HALF_LIFE_MS, LIKE_TIME_EXP);
+            }
+        } else if (activity.isCancel()) {
+            if (event.activityDate() != null) {
+                long activityTimeMillis = event.activityDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                redisService.cancelDecayedScore(rankingKey, RANKING_EPOCH_KEY, member, activity.getWeight(), activityTimeMillis, HALF_LIFE_MS);
+            }
+        } else {
+            redisService.incrementDecayedScore(rankingKey, RANKING_EPOCH_KEY, member, activity.getWeight(), HALF_LIFE_MS);
+        }
+    }
+
+    // 같은 활동이 count번 일어난 만큼 점수를 더한다 (조회수처럼 모아서 반영하는 경우)
+    public void addActivity(Long postId, PostType postType, PostActivity activity, long count) {
+        if (postType == null || !postType.isRanked() || activity.isCancel()) {
+            return;
+        }
+
+        try {
+            redisService.incrementDecayedScore(buildRankingKey(postType), RANKING_EPOCH_KEY, postId.toString(), activity.getWeight() * count, HALF_LIFE_MS);
+        } catch (RuntimeException e) {
+            log.warn("인기글 점수 반영 실패, postId={}, activity={}", postId, activity, e);
+        }
+    }
+
+    public boolean hasRanking(PostType postType) {
+        return redisService.getSortedSetSize(buildRankingKey(postType)) > 0;
+    }
+
+    public List<Long> findTopPostIds(PostType postType, long offset, int count) {
+        return redisService.getTopSortedSetMembersWithScores(buildRankingKey(postType), offset, count).keySet().stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 랭킹 대상 타입 전체에서 점수 순 상위 count개
+    // 게시글은 자기 타입의 ZSet 하나에만 있으므로 합칠 점수가 없고, 타입별 ZSet은 같은 기준 시각을 쓰므로 점수를 그대로 비교한다
+    public List<Long> findTopPostIds(int count) {
+        Map<Long, Double> scores = new HashMap<>();
+        RANKED_POST_TYPES.forEach(postType -> redisService.getTopSortedSetMembersWithScores(buildRankingKey(postType), 0, count)
+                .forEach((postId, score) -> scores.put(Long.valueOf(postId), score)));
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(count)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 랭킹 순서를 유지한 채 게시글을 읽는다. 그 사이 삭제되었거나 블라인드 처리된 글은 제외
+    public List<Post> findPostsInRankOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Post> postById = postRepository.findByIdsWithUser(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(postById::get)
+                .filter(post -> post != null && !post.isScreened())
+                .toList();
+    }
+
+    public void removePost(Long postId) {
+        RANKED_POST_TYPES.forEach(postType -> redisService.removeSortedSetMember(buildRankingKey(postType), postId.toString()));
+    }
+
+    @Transactional
+    public void compact() {
+        List<String> rankingKeys = RANKED_POST_TYPES.stream()
+                .map(this::buildRankingKey)
+                .toList();
+        redisService.rebaseDecayedScores(RANKING_EPOCH_KEY, rankingKeys, HALF_LIFE_MS, MIN_SCORE, MAX_RANKING_SIZE);
+
+        RANKED_POST_TYPES.forEach(postType -> {
+            if (!hasRanking(postType)) {
+                seedRanking(postType);
+            }
+            savePopularPostSnapshot(postType);
+        });
+    }
+
+    // Redis가 비어 있으면(초기 배포, 장애 후 복구) 최근 게시글의 누적 활동으로 점수를 다시 만든다
+    // 방금 기준 시각을 현재로 옮겼으므로, 작성 후 흐른 시간만큼만 감쇠시키면 된다
+    private void seedRanking(PostType postType) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Post> posts = postRepository.findByDateAndType(now.minusDays(SEED_DAYS), now, postType);
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+        Map<Long, Long> likeCounts = likeService.getLikeCounts(LikeTarget.POST, postIds);
+        Map<Long, Long> viewCounts = postCacheService.getPostViewCounts(posts);
+
+        Map<String, Double> scores = new HashMap<>();
+        posts.forEach(post -> {
+            double activityScore = viewCounts.getOrDefault(post.getId(), 0L) * PostActivity.VIEW.getWeight()
+                    + post.getCommentNum() * PostActivity.COMMENT.getWeight()
+                    + likeCounts.getOrDefault(post.getId(), 0L) * PostActivity.LIKE.getWeight();
+            double elapsedMillis = Duration.between(post.getCreatedDate(), now).toMillis();
+            scores.put(post.getId().toString(), activityScore * Math.pow(2, -elapsedMillis / HALF_LIFE_MS));
+        });
+
+        redisService.addSortedSetMembers(buildRankingKey(postType), scores);
+        log.info("인기글 랭킹 초기화, type={}, posts={}", postType, scores.size());
+    }
+
+    private void savePopularPostSnapshot(PostType postType) {
+        Map<String, Double> topScores = redisService.getTopSortedSetMembersWithScores(buildRankingKey(postType), 0, SNAPSHOT_SIZE);
+        List<Post> topPosts = findPostsInRankOrder(topScores.keySet().stream()
+                .map(Long::valueOf)
+                .toList());
+        if (topPosts.isEmpty()) {
+            return;
+        }
+
+        popularPostRepository.deleteByPostType(postType);
+        topPosts.forEach(post -> {
+            post.updateHotPoint(topScores.get(post.getId().toString()));
+            popularPostRepository.save(PopularPost.builder()
+                    .post(post)
+                    .postType(postType)
+                    .build());
+        });
+    }
+
+    private String buildLikeTimeKey(Long postId, Long userId) {
+        return LIKE_TIME_KEY_PREFIX + ":" + postId + ":" + userId;
+    }
+
+    private String buildRankingKey(PostType postType) {
+        return RANKING_KEY_PREFIX + ":" + postType.name();
+    }
+}
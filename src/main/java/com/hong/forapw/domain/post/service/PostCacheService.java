@@ -1,10 +1,14 @@
 package com.hong.forapw.domain.post.service;
 
+import com.hong.forapw.domain.like.LikeTarget;
 import com.hong.forapw.domain.post.entity.Post;
 import com.hong.forapw.integration.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class PostCacheService {
@@ -15,10 +19,10 @@ public class PostCacheService {
     private static final Long POST_CACHE_EXPIRATION = 1000L * 60 * 60 * 24 * 90;
     /** 공지사항 읽음 상태 캐싱 기간 (1년) */
     private static final Long NOTICE_READ_EXPIRATION = 60L * 60 * 24 * 360;
-    private static final String REDIS_POST_LIKE_COUNT_KEY_PREFIX = "post:like:count:";
-    private static final String REDIS_COMMENT_LIKE_COUNT_KEY_PREFIX = "comment:like:count:";
+    private static final String REDIS_POST_LIKE_COUNT_KEY_PREFIX = LikeTarget.POST.getLikeCountKeyPrefix();
+    private static final String REDIS_COMMENT_LIKE_COUNT_KEY_PREFIX = LikeTarget.COMMENT.getLikeCountKeyPrefix();
     private static final String REDIS_POST_READ_KEY_PREFIX = "user:readPosts:";
-    private static final String REDIS_POST_VIEW_COUNT_KEY_PREFIX = "postViewNum:";
+    static final String REDIS_POST_VIEW_COUNT_KEY_PREFIX = "postViewNum:";
 
     public void initializePostCache(Long postId) {
         redisService.storeValue(REDIS_POST_LIKE_COUNT_KEY_PREFIX, postId.toString(), "0", POST_CACHE_EXPIRATION);
@@ -36,20 +40,13 @@ public class PostCacheService {
         }
     }
 
-    public void incrementPostViewCount(Long postId) {
-        redisService.incrementValue(REDIS_POST_VIEW_COUNT_KEY_PREFIX, postId.toString(), 1L);
-    }
-
-    public Long getPostViewCount(Long postId, Post post) {
-        Long viewCount = redisService.getValueInLongWithNull(REDIS_POST_VIEW_COUNT_KEY_PREFIX, postId.toString());
-        if (viewCount == null) {
-            viewCount = post.getReadCnt();
-            redisService.storeValue(REDIS_POST_VIEW_COUNT_KEY_PREFIX, postId.toString(), viewCount.toString(), POST_CACHE_EXPIRATION);
-        }
-        return viewCount;
-    }
-
-    public Long getPostViewCount(Post post) {
-        return redisService.getValueInLongWithNull(REDIS_POST_VIEW_COUNT_KEY_PREFIX, post.getId().toString());
+    // Redis에 없는 게시글은 DB에 동기화된 조회수를 쓴다
+    public Map<Long, Long> getPostViewCounts(List<Post> posts) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+        Map<Long, Long> viewCounts = redisService.getValuesInLong(REDIS_POST_VIEW_COUNT_KEY_PREFIX, postIds);
+        posts.forEach(post -> viewCounts.putIfAbsent(post.getId(), post.getReadCnt()));
+        return viewCounts;
     }
 }
@@ -1,13 +1,18 @@
 package com.hong.forapw.domain.post.service;
 
+import com.hong.forapw.domain.search.SearchIndexEvent;
+import com.hong.forapw.domain.search.SearchTarget;
+import com.hong.forapw.domain.post.constant.PostActivity;
 import com.hong.forapw.domain.post.constant.PostType;
 import com.hong.forapw.domain.post.entity.Comment;
 import com.hong.forapw.domain.post.entity.PopularPost;
 import com.hong.forapw.domain.post.entity.Post;
 import com.hong.forapw.domain.post.entity.PostImage;
+import com.hong.forapw.domain.post.model.PostActivityEvent;
 import com.hong.forapw.domain.post.model.PostRequest;
 import com.hong.forapw.domain.post.model.PostResponse;
 import com.hong.forapw.common.exceptions.CustomException;
+import com.hong.forapw.common.model.KeysetCursor;
 import com.hong.forapw.common.exceptions.ExceptionCode;
 import com.hong.forapw.domain.post.PostMapper;
 import com.hong.forapw.domain.alarm.constant.AlarmType;
@@ -21,10 +26,15 @@ import com.hong.forapw.domain.user.repository.UserRepository;
 import com.hong.forapw.domain.alarm.AlarmService;
 import com.hong.forapw.integration.s3.S3Service;
 import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +46,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.hong.forapw.domain.post.PostMapper.*;
+import static com.hong.forapw.common.utils.PaginationUtils.createCursorPageable;
 
 @Service
 @RequiredArgsConstructor
@@ -51,13 +62,17 @@ public class PostService {
     private final PopularPostRepository popularPostRepository;
     private final UserRepository userRepository;
     private final PostCacheService postCacheService;
+    private final PopularPostRankingService popularPostRankingService;
+    private final PostViewCountService postViewCountService;
     private final LikeService likeService;
     private final S3Service s3Service;
     private final AlarmService alarmService;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String POST_SCREENED = "이 게시글은 커뮤니티 규정을 위반하여 숨겨졌습니다.";
     private static final String COMMENT_DELETED = "삭제된 댓글 입니다.";
+    private static final String SORT_BY_HOT_POINT = "post.hotPoint";
 
     @Transactional
     public PostResponse.CreatePostDTO createPost(PostRequest.CreatePostDTO requestDTO, Long userId) {
@@ -69,6 +84,7 @@ public class PostService {
         postRepository.save(post);
 
         postCacheService.initializePostCache(post.getId());
+        publishSearchIndexEvent(post);
 
         return new PostResponse.CreatePostDTO(post.getId());
     }
@@ -94,22 +110,44 @@ public class PostService {
     @Transactional(readOnly = true)
     public PostResponse.FindPostListDTO findPostsByType(Pageable pageable, PostType postType) {
         Page<Post> postPage = postRepository.findByPostTypeWithUser(postType, pageable);
+        Map<Long, Long> likeCounts = findPostLikeCounts(postPage.getContent());
+
         List<PostResponse.PostDTO> postDTOS = postPage.getContent().stream()
-                .map(post -> toPostDTO(post, likeService.getPostLikeCount(post.getId())))
+                .map(post -> toPostDTO(post, likeCounts.get(post.getId())))
                 .toList();
 
         return new PostResponse.FindPostListDTO(postDTOS, postPage.isLast());
     }
 
+    // 실시간 랭킹(Redis)에서 상위 글을 바로 읽고, 랭킹이 비어 있으면 마지막 스냅샷(popular_post_tb)을 사용
     @Transactional(readOnly = true)
     public PostResponse.FindPostListDTO findPopularPostsByType(Pageable pageable, PostType postType) {
-        Page<PopularPost> popularPostPage = popularPostRepository.findByPostTypeWithPost(postType, pageable);
-        List<PostResponse.PostDTO> postDTOS = popularPostPage.getContent().stream()
+        if (!postType.isRanked() || !popularPostRankingService.hasRanking(postType)) {
+            return findPopularPostSnapshot(pageable, postType);
+        }
+
+        List<Long> rankedPostIds = popularPostRankingService.findTopPostIds(postType, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean isLastPage = rankedPostIds.size() <= pageable.getPageSize();
+        List<Post> popularPosts = popularPostRankingService.findPostsInRankOrder(rankedPostIds.subList(0, Math.min(rankedPostIds.size(), pageable.getPageSize())));
+
+        return new PostResponse.FindPostListDTO(toPostDTOs(popularPosts), isLastPage);
+    }
+
+    private PostResponse.FindPostListDTO findPopularPostSnapshot(Pageable pageable, PostType postType) {
+        Pageable snapshotPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, SORT_BY_HOT_POINT));
+        Page<PopularPost> popularPostPage = popularPostRepository.findByPostTypeWithPost(postType, snapshotPageable);
+        List<Post> popularPosts = popularPostPage.getContent().stream()
                 .map(PopularPost::getPost)
-                .map(post -> toPostDTO(post, likeService.getPostLikeCount(post.getId())))
                 .toList();
 
-        return new PostResponse.FindPostListDTO(postDTOS, popularPostPage.isLast());
+        return new PostResponse.FindPostListDTO(toPostDTOs(popularPosts), popularPostPage.isLast());
+    }
+
+    private List<PostResponse.PostDTO> toPostDTOs(List<Post> posts) {
+        Map<Long, Long> likeCounts = findPostLikeCounts(posts);
+        return posts.stream()
+                .map(post -> toPostDTO(post, likeCounts.get(post.getId())))
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -126,8 +164,10 @@ public class PostService {
     public PostResponse.FindMyPostListDTO findMyPosts(Long userId, Pageable pageable) {
         List<PostType> postTypes = List.of(PostType.ADOPTION, PostType.FOSTERING);
         Page<Post> postPage = postRepository.findPostsByUserIdAndTypesWithUser(userId, postTypes, pageable);
+        Map<Long, Long> likeCounts = findPostLikeCounts(postPage.getContent());
+
         List<PostResponse.MyPostDTO> postDTOS = postPage.getContent().stream()
-                .map(post -> toMyPostDTO(post, likeService.getPostLikeCount(post.getId())))
+                .map(post -> toMyPostDTO(post, likeCounts.get(post.getId())))
                 .toList();
 
         return new PostResponse.FindMyPostListDTO(postDTOS, postPage.isLast());
@@ -165,6 +205,68 @@ public class PostService {
         return new PostResponse.FindMyCommentListDTO(myCommentDTOS, myCommentPage.isLast());
     }
 
+    @Transactional(readOnly = true)
+    public PostResponse.FindPostCursorDTO findPostsByTypeWithCursor(PostType postType, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Post> postSlice = postRepository.findByPostTypeWithUserBefore(postType, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        Map<Long, Long> likeCounts = findPostLikeCounts(postSlice.getContent());
+
+        List<PostResponse.PostDTO> postDTOS = postSlice.getContent().stream()
+                .map(post -> toPostDTO(post, likeCounts.get(post.getId())))
+                .toList();
+
+        return new PostResponse.FindPostCursorDTO(postDTOS, KeysetCursor.encodeNext(postSlice, this::toKeysetCursor), postSlice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse.FindQnaCursorDTO findQuestionsWithCursor(String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Post> questionSlice = postRepository.findByPostTypeWithUserBefore(PostType.QUESTION, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        List<PostResponse.QnaDTO> qnaDTOS = questionSlice.getContent().stream()
+                .map(PostMapper::toQnaDTO)
+                .toList();
+
+        return new PostResponse.FindQnaCursorDTO(qnaDTOS, KeysetCursor.encodeNext(questionSlice, this::toKeysetCursor), questionSlice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse.FindMyPostCursorDTO findMyPostsWithCursor(Long userId, String cursor, int size) {
+        List<PostType> postTypes = List.of(PostType.ADOPTION, PostType.FOSTERING);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Post> postSlice = postRepository.findPostsByUserIdAndTypesWithUserBefore(userId, postTypes, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        Map<Long, Long> likeCounts = findPostLikeCounts(postSlice.getContent());
+
+        List<PostResponse.MyPostDTO> postDTOS = postSlice.getContent().stream()
+                .map(post -> toMyPostDTO(post, likeCounts.get(post.getId())))
+                .toList();
+
+        return new PostResponse.FindMyPostCursorDTO(postDTOS, KeysetCursor.encodeNext(postSlice, this::toKeysetCursor), postSlice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse.FindQnaCursorDTO findMyQuestionsWithCursor(Long userId, String cursor, int size) {
+        List<PostType> postTypes = List.of(PostType.QUESTION);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Post> questionSlice = postRepository.findPostsByUserIdAndTypesWithUserBefore(userId, postTypes, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        List<PostResponse.QnaDTO> qnaDTOS = questionSlice.getContent().stream()
+                .map(PostMapper::toQnaDTO)
+                .toList();
+
+        return new PostResponse.FindQnaCursorDTO(qnaDTOS, KeysetCursor.encodeNext(questionSlice, this::toKeysetCursor), questionSlice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse.FindMyCommentCursorDTO findMyCommentsWithCursor(Long userId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Slice<Comment> myCommentSlice = commentRepository.findByUserIdWithPostBefore(userId, keysetCursor.date(), keysetCursor.longId(), createCursorPageable(size));
+        List<PostResponse.MyCommentDTO> myCommentDTOS = myCommentSlice.getContent().stream()
+                .map(PostMapper::toMyCommentDTO)
+                .toList();
+
+        String nextCursor = KeysetCursor.encodeNext(myCommentSlice, comment -> KeysetCursor.of(comment.getCreatedDate(), comment.getId()));
+        return new PostResponse.FindMyCommentCursorDTO(myCommentDTOS, nextCursor, myCommentSlice.hasNext());
+    }
+
     @Transactional(readOnly = true)
     public PostResponse.FindPostByIdDTO findPostById(Long postId, Long userId) {
         Post post = postRepository.findByIdWithUser(postId).orElseThrow(
@@ -173,11 +275,11 @@ public class PostService {
         validatePost(post);
 
         List<Comment> comments = commentRepository.findByPostIdWithUserAndParentAndRemoved(postId);
-        List<Long> likedCommentIds = commentLikeRepository.findCommentIdsByUserId(userId);
+        Set<Long> likedCommentIds = likeService.findLikedIds(LikeTarget.COMMENT, userId, comments.stream().map(Comment::getId).toList());
         List<PostResponse.CommentDTO> commentDTOS = convertToCommentDTO(comments, likedCommentIds);
         List<PostResponse.PostImageDTO> postImageDTOS = toPostImageDTOs(post);
 
-        postCacheService.incrementPostViewCount(postId);
+        postViewCountService.increment(postId, post.getPostType());
         postCacheService.markNoticePostAsRead(post, userId, postId);
 
         return new PostResponse.FindPostByIdDTO(post.getUser().getNickname(), post.getUser().getProfileURL(), post.getTitle(), post.getContent(), post.getCreatedDate(), post.getCommentNum(), likeService.getPostLikeCount(postId), post.isOwner(userId), isPostLiked(postId, userId), postImageDTOS, commentDTOS);
@@ -194,7 +296,7 @@ public class PostService {
         List<PostResponse.AnswerDTO> answerDTOS = toAnswerDTOs(answers, userId);
         List<PostResponse.PostImageDTO> qnaImageDTOS = toPostImageDTOs(qna);
 
-        postCacheService.incrementPostViewCount(qnaId);
+        postViewCountService.increment(qnaId, qna.getPostType());
 
         return new PostResponse.FindQnaByIdDTO(qna.getWriterNickName(), qna.getWriterProfileURL(), qna.getTitle(), qna.getContent(), qna.getCreatedDate(), qnaImageDTOS, answerDTOS, qna.isOwner(userId));
     }
@@ -218,6 +320,7 @@ public class PostService {
         validateAccessorAuthorization(user, post.getWriterId());
 
         post.updateContent(requestDTO.title(), requestDTO.content());
+        publishSearchIndexEvent(post);
 
         removeUnretainedImages(requestDTO.retainedImageIds(), postId);
         saveNewPostImages(requestDTO.newImages(), post);
@@ -233,9 +336,11 @@ public class PostService {
         postLikeRepository.deleteAllByPostId(postId);
         commentLikeRepository.deleteByPostId(postId);
         popularPostRepository.deleteByPostId(postId);
+        popularPostRankingService.removePost(postId);
         postImageRepository.deleteByPostId(postId);
         commentRepository.deleteByPostId(postId); // soft-delete
         postRepository.delete(post); // soft-delete
+        eventPublisher.publishEvent(SearchIndexEvent.remove(SearchTarget.POST, postId));
     }
 
     @Transactional
@@ -264,6 +369,7 @@ public class PostService {
         incrementCommentCount(postId);
         postCacheService.initializeCommentCache(comment.getId());
         notifyNewComment(requestDTO.content(), postId, post.getPostType(), post.getWriterId());
+        eventPublisher.publishEvent(PostActivityEvent.of(postId, post.getPostType(), PostActivity.COMMENT));
 
         return new PostResponse.CreateCommentDTO(comment.getId());
     }
@@ -282,6 +388,7 @@ public class PostService {
         incrementCommentCount(postId);
         postCacheService.initializeCommentCache(reply.getId());
         notifyNewReply(requestDTO.content(), postId, parentComment);
+        eventPublisher.publishEvent(PostActivityEvent.of(postId, parentComment.getPost().getPostType(), PostActivity.COMMENT));
 
         return new PostResponse.CreateCommentDTO(reply.getId());
     }
@@ -310,6 +417,7 @@ public class PostService {
         commentLikeRepository.deleteAllByCommentId(commentId);
 
         adjustCommentCountOnDeletion(comment, postId);
+        eventPublisher.publishEvent(PostActivityEvent.of(postId, PostActivity.COMMENT_DELETE, comment.getCreatedDate()));
     }
 
     @Transactional
@@ -326,12 +434,6 @@ public class PostService {
         reportRepository.save(report);
     }
 
-    @Transactional
-    public void refreshPopularPostsWithinRange(LocalDateTime start, LocalDateTime end, PostType postType) {
-        List<Post> posts = postRepository.findByDateAndType(start, end, postType);
-        processPopularPosts(posts, postType);
-    }
-
     private void validatePostRequest(PostRequest.CreatePostDTO requestDTO) {
         if (requestDTO.type() == PostType.ANSWER) {
             throw new CustomException(ExceptionCode.NOT_QUESTION_TYPE);
@@ -402,8 +504,15 @@ public class PostService {
         }
     }
 
+    private Map<Long, Long> findPostLikeCounts(List<Post> posts) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+        return likeService.getLikeCounts(LikeTarget.POST, postIds);
+    }
+
     private boolean isPostLiked(Long postId, Long userId) {
-        return postLikeRepository.existsByPostIdAndUserId(postId, userId);
+        return likeService.isLiked(LikeTarget.POST, postId, userId);
     }
 
     private void validateQna(Post qna) {
@@ -536,54 +645,6 @@ public class PostService {
         }
     }
 
-    private void processPopularPosts(List<Post> posts, PostType postType) {
-        posts.forEach(this::updatePostHotPoint);
-
-        List<Post> popularPosts = selectPopularPosts(posts);
-        fillPopularPostsIfNecessary(posts, popularPosts);
-        savePopularPosts(popularPosts, postType);
-    }
-
-    private void updatePostHotPoint(Post post) {
-        double hotPoint = calculateHotPoint(post);
-        post.updateHotPoint(hotPoint);
-    }
-
-    private double calculateHotPoint(Post post) {
-        double viewPoints = postCacheService.getPostViewCount(post.getId(), post) * 0.001;
-        double commentPoints = post.getCommentNum();
-        double likePoints = likeService.getPostLikeCount(post.getId()) * 5;
-        return viewPoints + commentPoints + likePoints;
-    }
-
-    private List<Post> selectPopularPosts(List<Post> posts) {
-        return posts.stream()
-                .filter(post -> post.getHotPoint() > 10.0)
-                .collect(Collectors.toList());
-    }
-
-    private void fillPopularPostsIfNecessary(List<Post> allPosts, List<Post> popularPosts) {
-        if (popularPosts.size() >= 5) return;
-        List<Post> remainingPosts = allPosts.stream()
-                .filter(post -> !popularPosts.contains(post))
-                .sorted(Comparator.comparingDouble(Post::getHotPoint).reversed())
-                .toList();
-
-        popularPosts.addAll(remainingPosts.stream()
-                .limit(5 - popularPosts.size())
-                .toList());
-    }
-
-    private void savePopularPosts(List<Post> popularPosts, PostType postType) {
-        popularPosts.forEach(post -> {
-            PopularPost popularPost = PopularPost.builder()
-                    .post(post)
-                    .postType(postType)
-                    .build();
-            popularPostRepository.save(popularPost);
-        });
-    }
-
     private void validateAccessorAuthorization(User accessor, Long writerId) {
         if (accessor.isAdmin()) {
             return;
@@ -610,36 +671,61 @@ public class PostService {
         }
     }
 
-    private List<PostResponse.CommentDTO> convertToCommentDTO(List<Comment> comments, List<Long> likedCommentIds) {
+    // 이미 읽어온 댓글 목록만으로 트리를 만든다. 좋아요 수는 한 번에 조회하고, 마지막 대댓글 여부도 메모리에서 판단
+    private List<PostResponse.CommentDTO> convertToCommentDTO(List<Comment> comments, Set<Long> likedCommentIds) {
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> commentIds = new ArrayList<>(comments.size());
+        Map<Long, LocalDateTime> lastAliveReplyDates = new HashMap<>(); // 부모 댓글 id -> 삭제되지 않은 마지막 대댓글의 작성 시각
+        comments.forEach(comment -> {
+            commentIds.add(comment.getId());
+            if (!comment.isNotReply() && !comment.isDeleted()) {
+                lastAliveReplyDates.merge(comment.getParentId(), comment.getCreatedDate(), (prev, cur) -> cur.isAfter(prev) ? cur : prev);
+            }
+        });
+        Map<Long, Long> likeCounts = likeService.getLikeCounts(LikeTarget.COMMENT, commentIds);
+
         List<PostResponse.CommentDTO> parentComments = new ArrayList<>();
         Map<Long, PostResponse.CommentDTO> parentCommentMap = new HashMap<>(); // ParentComment Id로 빠르게 ParentComment를 찾을 용도
-
         comments.forEach(comment -> {
-            Long likeCount = likeService.getCommentLikeCount(comment.getId());
+            Long likeCount = likeCounts.getOrDefault(comment.getId(), 0L);
+            boolean isLiked = likedCommentIds.contains(comment.getId());
             if (comment.isNotReply()) { // 부모 댓글
-                PostResponse.CommentDTO parentCommentDTO = toParentCommentDTO(comment, likeCount, likedCommentIds.contains(comment.getId()));
+                PostResponse.CommentDTO parentCommentDTO = toParentCommentDTO(comment, likeCount, isLiked);
                 parentComments.add(parentCommentDTO);
                 parentCommentMap.put(comment.getId(), parentCommentDTO);
             } else { // 답변 댓글
-                addReplyToParentComment(comment, parentCommentMap, likedCommentIds, likeCount);
+                addReplyToParentComment(comment, parentCommentMap, lastAliveReplyDates, isLiked, likeCount);
             }
         });
 
         return parentComments;
     }
 
-    private void addReplyToParentComment(Comment childComment, Map<Long, PostResponse.CommentDTO> parentCommentMap, List<Long> likedCommentIds, Long likeCount) {
-        if (childComment.isDeleted() && isFinalReply(childComment)) {
+    private void addReplyToParentComment(Comment childComment, Map<Long, PostResponse.CommentDTO> parentCommentMap, Map<Long, LocalDateTime> lastAliveReplyDates, boolean isLiked, Long likeCount) {
+        if (childComment.isDeleted() && isFinalReply(childComment, lastAliveReplyDates)) {
             return; // 삭제된 댓글이 마지막 대댓글이면, 보이지 않고. 반면, 마지막 대댓글이 아니면, '삭제된 댓글입니다' 처리
         }
 
         PostResponse.CommentDTO parentCommentDTO = parentCommentMap.get(childComment.getParentId());
-        PostResponse.ReplyDTO childCommentDTO = toReplyDTO(childComment, likedCommentIds.contains(childComment.getId()), likeCount);
+        if (parentCommentDTO == null) {
+            return;
+        }
+
+        PostResponse.ReplyDTO childCommentDTO = toReplyDTO(childComment, isLiked, likeCount);
         parentCommentDTO.replies().add(childCommentDTO);
     }
 
-    private boolean isFinalReply(Comment comment) {
-        return !commentRepository.existsByParentIdAndDateAfter(comment.getParent().getId(), comment.getCreatedDate());
+    // 이후에 작성된 (삭제되지 않은) 대댓글이 없으면 마지막 대댓글
+    private boolean isFinalReply(Comment comment, Map<Long, LocalDateTime> lastAliveReplyDates) {
+        LocalDateTime lastAliveReplyDate = lastAliveReplyDates.get(comment.getParentId());
+        return lastAliveReplyDate == null || !lastAliveReplyDate.isAfter(comment.getCreatedDate());
+    }
+
+    private KeysetCursor toKeysetCursor(Post post) {
+        return KeysetCursor.of(post.getCreatedDate(), post.getId());
     }
 
     private void deleteImagesFromS3(List<Long> retainedImageIds, List<PostImage> postImages) {
@@ -650,4 +736,10 @@ public class PostService {
                     s3Service.deleteObject(objectKey);
                 });
     }
+
+    private void publishSearchIndexEvent(Post post) {
+        if (post.getPostType().isSearchable()) {
+            eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchTarget.POST, post.getId(), post.getTitle()));
+        }
+    }
 }
\ No newline at end of file
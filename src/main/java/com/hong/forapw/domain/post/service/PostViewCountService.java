@@ -0,0 +1,120 @@
+package com.hong.forapw.domain.post.service;
+
+import com.hong.forapw.domain.post.constant.PostActivity;
+import com.hong.forapw.domain.post.constant.PostType;
+import com.hong.forapw.domain.post.repository.PostJdbcRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 버퍼
+// 조회마다 Redis를 호출하지 않고 인스턴스 내 LongAdder에 모았다가, 몇 초마다 증가분만 파이프라인으로 Redis에 더한다
+// Redis에서 바뀐 게시글은 dirty Set에 기록해 두고, DB에는 실제로 조회된 게시글만 청크 단위 UPDATE 한 번으로 반영한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCountService {
+
+    private final RedisService redisService;
+    private final PostJdbcRepository postJdbcRepository;
+    private final PopularPostRankingService popularPostRankingService;
+
+    private final Map<Long, PendingViews> pendingViewsByPost = new ConcurrentHashMap<>();
+
+    private static final String POST_VIEW_COUNT_KEY_PREFIX = PostCacheService.REDIS_POST_VIEW_COUNT_KEY_PREFIX;
+    private static final String DIRTY_POST_VIEW_KEY = "postViewNum:dirty";
+    private static final Long POST_VIEW_COUNT_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 90;
+    private static final Long DIRTY_SET_EXPIRATION_SEC = 60L * 60 * 24 * 7;
+    private static final int DB_FLUSH_CHUNK_SIZE = 500;
+
+    public void increment(Long postId, PostType postType) {
+        pendingViewsByPost.computeIfAbsent(postId, key -> new PendingViews(postType)).views().increment();
+    }
+
+    // 증가분을 Redis 카운터와 인기글 점수에 더한다. 카운터가 만료되어 없으면 DB에 저장된 조회수로 먼저 채운 뒤 더한다
+    @Scheduled(fixedDelay = 3000)
+    public void flushToRedis() {
+        Map<Long, Long> deltas = drainPendingViews();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisService.incrementValuesWithSeed(POST_VIEW_COUNT_KEY_PREFIX, deltas, postJdbcRepository::findReadCounts, POST_VIEW_COUNT_EXPIRATION_MS);
+            redisService.addSetElements(DIRTY_POST_VIEW_KEY, deltas.keySet(), DIRTY_SET_EXPIRATION_SEC);
+        } catch (RuntimeException e) {
+            log.warn("조회수 Redis 반영 실패, 다음 주기에 다시 시도합니다. posts={}", deltas.size(), e);
+            deltas.forEach(this::restorePendingViews);
+            return;
+        }
+
+        deltas.forEach((postId, delta) -> Optional.ofNullable(pendingViewsByPost.get(postId))
+                .ifPresent(pendingViews -> popularPostRankingService.addActivity(postId, pendingViews.postType(), PostActivity.VIEW, delta)));
+    }
+
+    // dirty Set에서 꺼낸 게시글의 Redis 조회수를 DB에 덮어쓴다 (절대값이라 중복 반영돼도 안전)
+    @Scheduled(fixedDelay = 60000)
+    public void flushToDatabase() {
+        List<Long> postIds;
+        do {
+            postIds = redisService.popSetMembers(DIRTY_POST_VIEW_KEY, DB_FLUSH_CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                Map<Long, Long> viewCounts = redisService.getValuesInLong(POST_VIEW_COUNT_KEY_PREFIX, postIds);
+                postJdbcRepository.updateReadCounts(viewCounts);
+            } catch (RuntimeException e) {
+                log.warn("조회수 DB 반영 실패, 다음 주기에 다시 시도합니다. posts={}", postIds.size(), e);
+                redisService.addSetElements(DIRTY_POST_VIEW_KEY, postIds, DIRTY_SET_EXPIRATION_SEC);
+                return;
+            }
+        } while (postIds.size() == DB_FLUSH_CHUNK_SIZE);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushToRedis();
+    }
+
+    // 한 주기 동안 조회가 없었던 게시글은 버퍼에서 제거해 메모리가 계속 늘어나지 않게 한다
+    private Map<Long, Long> drainPendingViews() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViewsByPost.forEach((postId, pendingViews) -> {
+            long delta = pendingViews.views().sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else if (pendingViewsByPost.remove(postId, pendingViews)) {
+                long lateViews = pendingViews.views().sumThenReset(); // 제거 직전에 들어온 조회는 버리지 않는다
+                if (lateViews > 0) {
+                    pendingViewsByPost.computeIfAbsent(postId, key -> new PendingViews(pendingViews.postType())).views().add(lateViews);
+                }
+            }
+        });
+        return deltas;
+    }
+
+    // 이번 주기에 조회가 있었던 게시글은 drain에서 제거되지 않으므로 항상 버퍼에 남아 있다
+    private void restorePendingViews(Long postId, long views) {
+        Optional.ofNullable(pendingViewsByPost.get(postId))
+                .ifPresent(pendingViews -> pendingViews.views().add(views));
+    }
+
+    private record PendingViews(PostType postType, LongAdder views) {
+
+        private PendingViews(PostType postType) {
+            this(postType, new LongAdder());
+        }
+    }
+}
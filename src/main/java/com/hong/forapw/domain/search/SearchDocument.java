@@ -0,0 +1,5 @@
+package com.hong.forapw.domain.search;
+
+// 검색 색인 대상 문서 (id와 색인할 텍스트)
+public record SearchDocument(Long id, String text) {
+}
@@ -0,0 +1,18 @@
+package com.hong.forapw.domain.search;
+
+// 검색 대상의 생성/수정/삭제 이벤트. 트랜잭션이 커밋된 뒤에 색인에 반영된다
+// text가 null이면 삭제를 뜻한다
+public record SearchIndexEvent(SearchTarget target, Long id, String text) {
+
+    public static SearchIndexEvent upsert(SearchTarget target, Long id, String text) {
+        return new SearchIndexEvent(target, id, text);
+    }
+
+    public static SearchIndexEvent remove(SearchTarget target, Long id) {
+        return new SearchIndexEvent(target, id, null);
+    }
+
+    public boolean isRemoval() {
+        return text == null;
+    }
+}
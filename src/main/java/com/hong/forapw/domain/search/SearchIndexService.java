@@ -0,0 +1,76 @@
+package com.hong.forapw.domain.search;
+
+import com.hong.forapw.domain.group.repository.GroupRepository;
+import com.hong.forapw.domain.post.repository.PostRepository;
+import com.hong.forapw.domain.search.index.InvertedIndex;
+import com.hong.forapw.domain.shelter.ShelterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글/그룹/보호소 검색용 인메모리 역색인
+// 이 인스턴스에서 일어난 변경은 커밋 직후 이벤트로 바로 반영하고,
+// 다른 인스턴스에서 일어난 변경과 보호소(수집 때마다 검색 대상 여부가 바뀜)는 주기적인 전체 재색인으로 맞춘다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexService {
+
+    private final PostRepository postRepository;
+    private final GroupRepository groupRepository;
+    private final ShelterRepository shelterRepository;
+
+    private final Map<SearchTarget, InvertedIndex> indexes = new ConcurrentHashMap<>();
+
+    private static final long REBUILD_INTERVAL_MS = 1000L * 60 * 10;
+
+    @Scheduled(fixedDelay = REBUILD_INTERVAL_MS, initialDelay = REBUILD_INTERVAL_MS)
+    public void rebuildAll() {
+        for (SearchTarget target : SearchTarget.values()) {
+            rebuild(target);
+        }
+    }
+
+    // 새 색인을 따로 만든 뒤 통째로 교체하므로, 재색인 중에도 검색은 기존 색인으로 처리된다
+    public void rebuild(SearchTarget target) {
+        InvertedIndex index = new InvertedIndex();
+        findDocuments(target).forEach(document -> index.upsert(document.id(), document.text()));
+
+        indexes.put(target, index);
+        log.info("{} 검색 색인 재구성 완료: {}건", target, index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSearchIndexEvent(SearchIndexEvent event) {
+        InvertedIndex index = getIndex(event.target());
+        if (event.isRemoval()) {
+            index.remove(event.id());
+            return;
+        }
+
+        index.upsert(event.id(), event.text());
+    }
+
+    public List<Long> search(SearchTarget target, String keyword, Pageable pageable) {
+        return getIndex(target).search(keyword, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    private InvertedIndex getIndex(SearchTarget target) {
+        return indexes.computeIfAbsent(target, key -> new InvertedIndex());
+    }
+
+    private List<SearchDocument> findDocuments(SearchTarget target) {
+        return switch (target) {
+            case POST -> postRepository.findSearchDocuments();
+            case GROUP -> groupRepository.findSearchDocuments();
+            case SHELTER -> shelterRepository.findSearchDocuments();
+        };
+    }
+}
@@ -1,7 +1,8 @@
 package com.hong.forapw.domain.search;
 
 import com.hong.forapw.domain.meeting.model.GroupMeetingCountDTO;
-import com.hong.forapw.integration.redis.RedisService;
+import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
 import com.hong.forapw.domain.group.entity.Group;
 import com.hong.forapw.domain.post.constant.PostType;
 import com.hong.forapw.domain.shelter.Shelter;
@@ -15,8 +16,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,22 +34,22 @@ public class SearchService {
     private final PostRepository postRepository;
     private final GroupRepository groupRepository;
     private final MeetingRepository meetingRepository;
-    private final RedisService redisService;
-
-    private static final String POST_LIKE_NUM_KEY_PREFIX = "postLikeNum";
-    private static final Long POST_EXP = 1000L * 60 * 60 * 24 * 90; // 세 달
+    private final LikeService likeService;
+    private final SearchIndexService searchIndexService;
+    private final Executor searchExecutor;
 
+    // 세 대상을 동시에 검색하고 모아서 응답한다 (scatter-gather)
     public SearchResponse.SearchAllDTO searchAll(String keyword, Pageable pageable) {
-        List<SearchResponse.ShelterDTO> shelterDTOS = searchShelterList(keyword, pageable);
-        List<SearchResponse.PostDTO> postDTOS = searchPostList(keyword, pageable);
-        List<SearchResponse.GroupDTO> groupDTOS = searchGroupList(keyword, pageable);
+        CompletableFuture<List<SearchResponse.ShelterDTO>> shelterFuture = CompletableFuture.supplyAsync(() -> searchShelterList(keyword, pageable), searchExecutor);
+        CompletableFuture<List<SearchResponse.PostDTO>> postFuture = CompletableFuture.supplyAsync(() -> searchPostList(keyword, pageable), searchExecutor);
+        CompletableFuture<List<SearchResponse.GroupDTO>> groupFuture = CompletableFuture.supplyAsync(() -> searchGroupList(keyword, pageable), searchExecutor);
 
-        return new SearchResponse.SearchAllDTO(shelterDTOS, postDTOS, groupDTOS);
+        return new SearchResponse.SearchAllDTO(shelterFuture.join(), postFuture.join(), groupFuture.join());
     }
 
     public List<SearchResponse.ShelterDTO> searchShelterList(String keyword, Pageable pageable) {
-        String formattedKeyword = formatKeywordForFullTextSearch(keyword);
-        List<Shelter> shelters = shelterRepository.findByNameContaining(formattedKeyword, pageable).getContent();
+        List<Long> shelterIds = searchIndexService.search(SearchTarget.SHELTER, keyword, pageable);
+        List<Shelter> shelters = sortByIds(shelterRepository.findAllById(shelterIds), Shelter::getId, shelterIds);
 
         return shelters.stream()
                 .map(shelter -> new SearchResponse.ShelterDTO(shelter.getId(), shelter.getName()))
@@ -51,29 +57,40 @@ public class SearchService {
     }
 
     public List<SearchResponse.PostDTO> searchPostList(String keyword, Pageable pageable) {
-        String formattedKeyword = formatKeywordForFullTextSearch(keyword);
-        List<Object[]> posts = postRepository.findByTitleContaining(formattedKeyword, pageable).getContent();
+        List<Long> postIds = searchIndexService.search(SearchTarget.POST, keyword, pageable);
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object[]> posts = sortByIds(postRepository.findSearchRowsByIds(postIds), row -> toLong(row[0]), postIds);
+        Map<Long, Long> likeCountByPostId = likeService.getLikeCounts(LikeTarget.POST, postIds);
 
         return posts.stream()
                 .map(row -> {
-                    Long likeNum = getCachedLikeNum(((Long) row[0]));
+                    Long postId = toLong(row[0]);
+                    Long likeNum = likeCountByPostId.getOrDefault(postId, 0L);
                     return new SearchResponse.PostDTO(
-                            (Long) row[0],  // postId
+                            postId,
                             PostType.valueOf((String) row[4]),  // postType (String을 PostType으로 변환)
                             (String) row[1],  // title
                             (String) row[2],  // content
                             ((Timestamp) row[3]).toLocalDateTime(),  // createdDate (Timestamp를 LocalDateTime으로 변환)
                             (String) row[5],  // imageUrl
                             (String) row[7],   // nickName
-                            (Long) row[8], // commentNum
+                            toLong(row[8]), // commentNum
                             likeNum);
                 })
                 .collect(Collectors.toList());
     }
 
+    // 네이티브 쿼리의 숫자 컬럼은 드라이버/컬럼 타입에 따라 Integer, BigInteger 등으로 올 수 있다
+    private Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
     public List<SearchResponse.GroupDTO> searchGroupList(String keyword, Pageable pageable) {
-        String formattedKeyword = formatKeywordForFullTextSearch(keyword);
-        List<Group> groups = groupRepository.findByNameContaining(formattedKeyword, pageable).getContent();
+        List<Long> matchedGroupIds = searchIndexService.search(SearchTarget.GROUP, keyword, pageable);
+        List<Group> groups = sortByIds(groupRepository.findAllById(matchedGroupIds), Group::getId, matchedGroupIds);
 
         List<Long> groupIds = extractGroupIds(groups);
         Map<Long, Long> meetingCountByGroupId = getMeetingCountsByGroupIds(groupIds); // <groupId, meetingCount>
@@ -112,28 +129,13 @@ public class SearchService {
         );
     }
 
-    /**
-     * 키워드를 스페이스로 분리하고 각 단어에 +와 *를 추가
-     */
-    private String formatKeywordForFullTextSearch(String keyword) {
-        String[] words = keyword.split("\\s+");
-        StringBuilder modifiedKeyword = new StringBuilder();
-
-        for (String word : words) {
-            modifiedKeyword.append("+").append(word).append("* ").append(" ");
-        }
-
-        return modifiedKeyword.toString().trim();
-    }
-
-    private Long getCachedLikeNum(Long key) {
-        Long likeNum = redisService.getValueInLongWithNull(SearchService.POST_LIKE_NUM_KEY_PREFIX, key.toString());
-
-        if (likeNum == null) {
-            likeNum = postRepository.countLikesByPostId(key);
-            redisService.storeValue(SearchService.POST_LIKE_NUM_KEY_PREFIX, key.toString(), likeNum.toString(), POST_EXP);
-        }
-
-        return likeNum;
+    // IN 조회 결과를 검색 색인이 돌려준 순위대로 다시 정렬한다
+    private <T> List<T> sortByIds(List<T> entities, Function<T, Long> idExtractor, List<Long> rankedIds) {
+        Map<Long, T> entityById = entities.stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity()));
+        return rankedIds.stream()
+                .map(entityById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,5 @@
+package com.hong.forapw.domain.search;
+
+public enum SearchTarget {
+    POST, GROUP, SHELTER
+}
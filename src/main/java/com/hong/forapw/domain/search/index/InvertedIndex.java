@@ -0,0 +1,134 @@
+package com.hong.forapw.domain.search.index;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 문서 id -> 텍스트를 색인하는 인메모리 역색인. 검색어의 모든 term을 포함한 문서만 BM25 점수순으로 돌려준다
+// 게시글 작성/수정/삭제마다 부분 갱신되므로 읽기/쓰기를 ReadWriteLock으로 나눈다
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // term -> (docId -> term frequency)
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>(); // docId -> (term -> term frequency)
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void upsert(Long docId, String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        List<String> terms = SearchAnalyzer.analyzeForIndex(text);
+        terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(docId);
+            if (terms.isEmpty()) {
+                return;
+            }
+
+            termFrequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(docId, frequency));
+            documents.put(docId, termFrequencies);
+            documentLengths.put(docId, terms.size());
+            totalLength += terms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long docId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수가 같으면 id 오름차순 (기존 검색 API의 기본 정렬)
+    public List<Long> search(String keyword, long offset, int limit) {
+        List<String> queryTerms = SearchAnalyzer.analyzeForQuery(keyword).stream()
+                .distinct()
+                .toList();
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size)); // 가장 희귀한 term의 문서부터 후보로 삼는다
+
+            double averageLength = (double) totalLength / documents.size();
+            List<ScoredDocument> scoredDocuments = new ArrayList<>();
+            for (Long docId : termPostings.get(0).keySet()) {
+                double score = score(docId, termPostings, averageLength);
+                if (score > 0) {
+                    scoredDocuments.add(new ScoredDocument(docId, score));
+                }
+            }
+
+            return scoredDocuments.stream()
+                    .sorted(Comparator.comparingDouble(ScoredDocument::score).reversed().thenComparing(ScoredDocument::docId))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(ScoredDocument::docId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 하나의 term이라도 없으면 0 (AND 검색)
+    private double score(Long docId, List<Map<Long, Integer>> termPostings, double averageLength) {
+        int documentLength = documentLengths.get(docId);
+        double score = 0;
+        for (Map<Long, Integer> posting : termPostings) {
+            Integer frequency = posting.get(docId);
+            if (frequency == null) {
+                return 0;
+            }
+
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            score += idf * (frequency * (K1 + 1)) / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+        }
+        return score;
+    }
+
+    private void removeDocument(Long docId) {
+        Map<String, Integer> termFrequencies = documents.remove(docId);
+        if (termFrequencies == null) {
+            return;
+        }
+
+        termFrequencies.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(docId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= documentLengths.remove(docId);
+    }
+
+    private record ScoredDocument(Long docId, double score) {
+    }
+}
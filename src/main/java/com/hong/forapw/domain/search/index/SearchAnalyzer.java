@@ -0,0 +1,58 @@
+package com.hong.forapw.domain.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 한국어는 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않아서, 글자 bigram으로 색인한다 (Lucene의 CJKBigram 방식)
+// "강아지입양" -> 강아, 아지, 지입, 입양. 검색어도 같은 방식으로 쪼개므로 부분 문자열 검색처럼 동작한다
+// 한 글자 검색어를 위해 unigram도 함께 색인한다
+public final class SearchAnalyzer {
+
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchAnalyzer() {
+    }
+
+    public static List<String> analyzeForIndex(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                terms.add(token.substring(i, i + 1));
+                if (i + 1 < token.length()) {
+                    terms.add(token.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    // 두 글자 이상인 단어는 bigram만, 한 글자 단어는 unigram으로 검색한다
+    public static List<String> analyzeForQuery(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            if (token.length() == 1) {
+                terms.add(token);
+                continue;
+            }
+
+            for (int i = 0; i + 1 < token.length(); i++) {
+                terms.add(token.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return DELIMITER_PATTERN.splitAsStream(normalized)
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -37,6 +37,10 @@ public class Shelter {
     @Column
     private Double longitude;
 
+    // 현재 위/경도를 구할 때 사용한 주소. careAddr와 다르면 다시 지오코딩한다
+    @Column
+    private String geocodedAddr;
+
     @Column
     private Long animalCnt = 0L;
 
@@ -1,5 +1,6 @@
 package com.hong.forapw.domain.shelter;
 
+import com.hong.forapw.domain.shelter.model.EncodedResponse;
 import com.hong.forapw.domain.shelter.model.ShelterResponse;
 import com.hong.forapw.security.CustomUserDetails;
 import com.hong.forapw.common.utils.ApiUtils;
@@ -8,7 +9,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +25,9 @@ import java.util.Optional;
 public class ShelterController {
 
     private final ShelterService shelterService;
+    private final ShelterSnapshotService shelterSnapshotService;
     private static final String SORT_BY_DATE = "createdDate";
+    private static final int MAX_NEARBY_SHELTERS = 100;
 
     // 테스트 시에만 API를 열어둠
     @GetMapping("/shelters/import")
@@ -31,9 +37,22 @@ public class ShelterController {
     }
 
     @GetMapping("/shelters")
-    public ResponseEntity<?> findShelterList() {
-        ShelterResponse.FindShelterListDTO responseDTO = shelterService.findActiveShelters();
-        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.CREATED, responseDTO));
+    public ResponseEntity<byte[]> findShelterList(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toSnapshotResponse(shelterSnapshotService.getActiveShelters(), ifNoneMatch);
+    }
+
+    @GetMapping("/shelters/nearby")
+    public ResponseEntity<?> findNearbyShelters(@RequestParam double lat, @RequestParam double lng,
+                                                @RequestParam(defaultValue = "10") double radius, @RequestParam(defaultValue = "20") int limit) {
+        ShelterResponse.FindShelterListDTO responseDTO = shelterService.findNearbyShelters(lat, lng, radius, Math.min(limit, MAX_NEARBY_SHELTERS));
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    // 거리 제한 없이 가까운 순으로 limit개 (반경 안에 보호소가 없는 지역용)
+    @GetMapping("/shelters/nearest")
+    public ResponseEntity<?> findNearestShelters(@RequestParam double lat, @RequestParam double lng, @RequestParam(defaultValue = "20") int limit) {
+        ShelterResponse.FindShelterListDTO responseDTO = shelterService.findNearestShelters(lat, lng, Math.min(limit, MAX_NEARBY_SHELTERS));
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/shelters/{shelterId}/info")
@@ -50,9 +69,22 @@ public class ShelterController {
     }
 
     @GetMapping("/shelters/addr")
-    public ResponseEntity<?> findShelterListWithAddr() {
-        ShelterResponse.FindShelterListWithAddr responseDTO = shelterService.findShelterListWithAddress();
-        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    public ResponseEntity<byte[]> findShelterListWithAddr(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toSnapshotResponse(shelterSnapshotService.getSheltersByAddress(), ifNoneMatch);
+    }
+
+    private ResponseEntity<byte[]> toSnapshotResponse(EncodedResponse encodedResponse, String ifNoneMatch) {
+        if (encodedResponse.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(encodedResponse.eTag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(encodedResponse.eTag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encodedResponse.body());
     }
 
     private Long getUserIdSafely(CustomUserDetails userDetails) {
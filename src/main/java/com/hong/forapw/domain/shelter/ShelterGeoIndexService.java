@@ -0,0 +1,38 @@
+package com.hong.forapw.domain.shelter;
+
+import com.hong.forapw.domain.shelter.model.ShelterGeoIndex;
+import com.hong.forapw.domain.shelter.model.ShelterResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 지도 화면의 근처 보호소 조회용 인메모리 공간 인덱스
+// 보호소 좌표/동물 수는 하루 한 번 수집 때만 바뀌므로, 스냅샷을 통째로 다시 만들어 교체한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShelterGeoIndexService {
+
+    private final ShelterRepository shelterRepository;
+
+    private volatile ShelterGeoIndex shelterGeoIndex = ShelterGeoIndex.empty();
+
+    private static final long REFRESH_INTERVAL_MS = 1000L * 60 * 30; // 다른 인스턴스에서 수집한 결과도 반영되도록 주기적으로 갱신
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void rebuild() {
+        List<ShelterResponse.ShelterDTO> shelterDTOs = shelterRepository.findAllWithAnimalAndLatitude().stream()
+                .map(ShelterMapper::toShelterDTO)
+                .toList();
+
+        shelterGeoIndex = ShelterGeoIndex.build(shelterDTOs);
+        log.info("보호소 공간 인덱스 갱신 완료: {}개", shelterGeoIndex.size());
+    }
+
+    public ShelterGeoIndex getShelterGeoIndex() {
+        return shelterGeoIndex;
+    }
+}
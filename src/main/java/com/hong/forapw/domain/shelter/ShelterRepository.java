@@ -1,7 +1,6 @@
 package com.hong.forapw.domain.shelter;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.hong.forapw.domain.search.SearchDocument;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -24,23 +23,32 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
 
     List<Shelter> findByAnimalCntGreaterThan(Long animalCnt);
 
-    @Query(value = "SELECT * FROM shelter_tb WHERE MATCH(name, care_addr) AGAINST(:keyword IN BOOLEAN MODE) AND animal_cnt > 0 AND latitude IS NOT NULL AND is_duplicate = false",
-            countQuery = "SELECT COUNT(*) FROM shelter_tb WHERE MATCH(name, care_addr) AGAINST(:keyword IN BOOLEAN MODE) AND animal_cnt > 0 AND latitude IS NOT NULL",
-            nativeQuery = true)
-    Page<Shelter> findByNameContaining(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT s FROM Shelter s WHERE s.animalCnt > 0 AND s.careAddr IS NOT NULL " +
+            "AND (s.latitude IS NULL OR s.geocodedAddr IS NULL OR s.geocodedAddr <> s.careAddr)")
+    List<Shelter> findSheltersToGeocode();
+
+    @Query("SELECT new com.hong.forapw.domain.search.SearchDocument(s.id, CONCAT(s.name, ' ', COALESCE(s.careAddr, ''))) FROM Shelter s " +
+            "WHERE s.animalCnt > 0 AND s.latitude IS NOT NULL AND s.isDuplicate = false")
+    List<SearchDocument> findSearchDocuments();
 
     @EntityGraph(attributePaths = {"regionCode"})
     @Query("SELECT s FROM Shelter s")
     List<Shelter> findAllWithRegionCode();
 
-    @Query(value = "SELECT s.*" +
+    // 공간 인덱스가 준비되지 않았을 때의 대체 경로. 위/경도 범위(bounding box)로 먼저 거른 뒤에만 거리 계산/정렬을 한다
+    @Query(value = "SELECT s.* " +
             "FROM shelter_tb s " +
-            "JOIN region_code_tb rc ON s.region_code_id = rc.id " +
-            "WHERE s.animal_cnt >= 1 " +
-            "ORDER BY (6371 * ACOS(COS(RADIANS(:lat)) * COS(RADIANS(s.latitude)) " +
+            "WHERE s.animal_cnt > 0 AND s.is_duplicate = false " +
+            "AND s.latitude BETWEEN :minLat AND :maxLat " +
+            "AND s.longitude BETWEEN :minLon AND :maxLon " +
+            "ORDER BY (6371 * ACOS(LEAST(1, COS(RADIANS(:lat)) * COS(RADIANS(s.latitude)) " +
             "* COS(RADIANS(s.longitude) - RADIANS(:lon)) + SIN(RADIANS(:lat)) " +
-            "* SIN(RADIANS(s.latitude)))) ASC", nativeQuery = true)
-    List<Shelter> findNearestShelters(@Param("lat") double lat, @Param("lon") double lon);
+            "* SIN(RADIANS(s.latitude))))) ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Shelter> findNearestSheltersInBox(@Param("lat") double lat, @Param("lon") double lon,
+                                           @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                           @Param("minLon") double minLon, @Param("maxLon") double maxLon,
+                                           @Param("limit") int limit);
 
     @Query("SELECT s FROM Shelter s WHERE s.careTel IN " +
             "(SELECT s2.careTel FROM Shelter s2 GROUP BY s2.careTel, s2.latitude, s2.longitude HAVING COUNT(s2.id) > 1)")
@@ -56,10 +64,14 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
     @Query("UPDATE Shelter s SET s.careTel = :careTel, s.careAddr = :careAddr, s.animalCnt = :animalCnt WHERE s.id = :shelterId")
     void updateShelterInfo(@Param("careTel") String careTel, @Param("careAddr") String careAddr, @Param("animalCnt") Long animalCnt, @Param("shelterId") Long shelterId);
 
+    @Modifying
+    @Query("UPDATE Shelter s SET s.animalCnt = (SELECT COUNT(a) FROM Animal a WHERE a.shelter.id = s.id AND a.removedAt IS NULL) WHERE s.id IN :shelterIds")
+    void refreshAnimalCounts(@Param("shelterIds") List<Long> shelterIds);
+
     @Modifying
     @Transactional
-    @Query("UPDATE Shelter s SET s.latitude = :latitude, s.longitude = :longitude WHERE s.id = :shelterId")
-    void updateAddressInfo(@Param("latitude") Double latitude, @Param("longitude") Double longitude, @Param("shelterId") Long shelterId);
+    @Query("UPDATE Shelter s SET s.latitude = :latitude, s.longitude = :longitude, s.geocodedAddr = :geocodedAddr WHERE s.id = :shelterId")
+    void updateAddressInfo(@Param("latitude") Double latitude, @Param("longitude") Double longitude, @Param("geocodedAddr") String geocodedAddr, @Param("shelterId") Long shelterId);
 
     @Modifying
     @Transactional
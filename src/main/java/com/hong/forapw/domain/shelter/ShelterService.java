@@ -1,7 +1,5 @@
 package com.hong.forapw.domain.shelter;
 
-import com.hong.forapw.domain.animal.model.AnimalDTO;
-import com.hong.forapw.domain.animal.model.AnimalJsonResponse;
 import com.hong.forapw.common.exceptions.CustomException;
 import com.hong.forapw.common.exceptions.ExceptionCode;
 import com.hong.forapw.common.utils.JsonParser;
@@ -13,11 +11,14 @@ import com.hong.forapw.domain.region.entity.RegionCode;
 import com.hong.forapw.domain.animal.repository.AnimalRepository;
 import com.hong.forapw.domain.animal.repository.FavoriteAnimalRepository;
 import com.hong.forapw.domain.region.RegionCodeRepository;
-import com.hong.forapw.integration.redis.RedisService;
+import com.hong.forapw.integration.openapi.CrawlReport;
+import com.hong.forapw.integration.openapi.OpenApiCrawler;
+import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
 import com.hong.forapw.integration.geocoding.model.Coordinates;
-import com.hong.forapw.integration.geocoding.service.GeocodingService;
-import com.hong.forapw.integration.geocoding.service.GoogleGeocodingService;
+import com.hong.forapw.integration.geocoding.service.CachedGeocodingService;
 import com.hong.forapw.domain.shelter.model.ShelterDTO;
+import com.hong.forapw.domain.shelter.model.ShelterGeoIndex;
 import com.hong.forapw.domain.shelter.model.ShelterResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,18 +27,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
-import java.time.Duration;
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.hong.forapw.common.utils.DateTimeUtils.YEAR_HOUR_DAY_FORMAT;
 import static com.hong.forapw.common.utils.PaginationUtils.isLastPage;
 import static com.hong.forapw.common.utils.UriUtils.buildShelterOpenApiURI;
 import static com.hong.forapw.domain.shelter.ShelterMapper.toAnimalDTO;
@@ -53,10 +52,12 @@ public class ShelterService {
     private final RegionCodeRepository regionCodeRepository;
     private final AnimalRepository animalRepository;
     private final FavoriteAnimalRepository favoriteAnimalRepository;
-    private final RedisService redisService;
-    private final WebClient webClient;
+    private final LikeService likeService;
+    private final OpenApiCrawler openApiCrawler;
     private final JsonParser jsonParser;
-    private final GoogleGeocodingService googleService;
+    private final CachedGeocodingService cachedGeocodingService;
+    private final ShelterGeoIndexService shelterGeoIndexService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${openAPI.service-key2}")
     private String serviceKey;
@@ -64,33 +65,42 @@ public class ShelterService {
     @Value("${openAPI.shelter.uri}")
     private String baseUrl;
 
-    private static final String ANIMAL_LIKE_NUM_KEY_PREFIX = "animalLikeNum";
-    private static final Long ANIMAL_EXP = 1000L * 60 * 60 * 24 * 90; // 세 달
+    private static final double KM_PER_LATITUDE_DEGREE = 111.045;
 
     @Transactional
     @Scheduled(cron = "0 0 6 * * MON")
     public void updateNewShelters() {
-        List<Long> savedShelterIds = shelterRepository.findAllIds(); // 이미 저장되어 있는 보호소는 배제
+        Set<Long> savedShelterIds = new HashSet<>(shelterRepository.findAllIds()); // 이미 저장되어 있는 보호소는 배제
         List<RegionCode> regionCodes = regionCodeRepository.findAll();
 
+        CrawlReport crawlReport = openApiCrawler.startReport("shelter");
         Flux.fromIterable(regionCodes)
-                .delayElements(Duration.ofMillis(50))
-                .flatMap(regionCode -> fetchShelterDataFromApi(regionCode, savedShelterIds))
+                .flatMap(regionCode -> fetchShelterDataFromApi(regionCode, savedShelterIds, crawlReport), openApiCrawler.getConcurrency())
                 .collectList()
                 .doOnNext(shelterRepository::saveAll)
                 .doOnError(error -> log.error("보호소 데이터 패치 실패: {}", error.getMessage()))
+                .doFinally(signal -> crawlReport.logSummary())
                 .subscribe();
     }
 
-    @Transactional
-    public void updateShelterData(List<AnimalJsonResponse> animalJsonResponses) {
-        for (AnimalJsonResponse response : animalJsonResponses) {
-            Shelter shelter = response.shelter();
-            String animalJson = response.animalJson();
-            updateShelterByAnimalData(animalJson, shelter);
+    // 주소가 바뀌었거나 아직 좌표가 없는 보호소만 지오코딩한다
+    // 외부 API 조회를 기다리는 동안 커넥션을 잡지 않도록, 좌표를 모두 구한 뒤 짧은 트랜잭션에서 반영한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateShelterAddresses() {
+        List<Shelter> shelters = shelterRepository.findSheltersToGeocode();
+        if (shelters.isEmpty()) {
+            return;
         }
 
-        updateShelterAddressByGoogle();
+        List<String> careAddrs = shelters.stream()
+                .map(Shelter::getCareAddr)
+                .distinct()
+                .toList();
+        Map<String, Coordinates> coordinatesByAddr = cachedGeocodingService.resolveAll(careAddrs);
+
+        transactionTemplate.executeWithoutResult(status -> shelters.forEach(shelter -> Optional.ofNullable(coordinatesByAddr.get(shelter.getCareAddr()))
+                .ifPresent(coordinates -> shelterRepository.updateAddressInfo(coordinates.lat(), coordinates.lng(), shelter.getCareAddr(), shelter.getId()))));
+        log.info("보호소 위/경도 갱신 완료. 대상 주소: {}개, 성공: {}개", careAddrs.size(), coordinatesByAddr.size());
     }
 
     public ShelterResponse.FindShelterListDTO findActiveShelters() {
@@ -103,6 +113,36 @@ public class ShelterService {
         return new ShelterResponse.FindShelterListDTO(shelterDTOS);
     }
 
+    public ShelterResponse.FindShelterListDTO findNearbyShelters(double lat, double lng, double radiusKm, int limit) {
+        ShelterGeoIndex shelterGeoIndex = shelterGeoIndexService.getShelterGeoIndex();
+        if (!shelterGeoIndex.isEmpty()) {
+            return new ShelterResponse.FindShelterListDTO(shelterGeoIndex.findWithinRadius(lat, lng, radiusKm, limit));
+        }
+
+        // 인덱스가 아직 만들어지지 않은 경우 (기동 직후 등)
+        double latDelta = radiusKm / KM_PER_LATITUDE_DEGREE;
+        double lngDelta = latDelta / Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        List<ShelterResponse.ShelterDTO> shelterDTOS = shelterRepository.findNearestSheltersInBox(lat, lng, lat - latDelta, lat + latDelta, lng - lngDelta, lng + lngDelta, limit).stream()
+                .map(ShelterMapper::toShelterDTO)
+                .toList();
+
+        return new ShelterResponse.FindShelterListDTO(shelterDTOS);
+    }
+
+    public ShelterResponse.FindShelterListDTO findNearestShelters(double lat, double lng, int limit) {
+        ShelterGeoIndex shelterGeoIndex = shelterGeoIndexService.getShelterGeoIndex();
+        if (!shelterGeoIndex.isEmpty()) {
+            return new ShelterResponse.FindShelterListDTO(shelterGeoIndex.findNearest(lat, lng, limit));
+        }
+
+        // 인덱스가 아직 만들어지지 않은 경우 (기동 직후 등), 범위 제한 없이 DB에서 정렬
+        List<ShelterResponse.ShelterDTO> shelterDTOS = shelterRepository.findNearestSheltersInBox(lat, lng, -90, 90, -180, 180, limit).stream()
+                .map(ShelterMapper::toShelterDTO)
+                .toList();
+
+        return new ShelterResponse.FindShelterListDTO(shelterDTOS);
+    }
+
     public ShelterResponse.FindShelterInfoByIdDTO findShelterInfoById(Long shelterId) {
         Shelter shelter = shelterRepository.findById(shelterId).orElseThrow(
                 () -> new CustomException(ExceptionCode.SHELTER_NOT_FOUND)
@@ -112,12 +152,17 @@ public class ShelterService {
     }
 
     public ShelterResponse.FindShelterAnimalsByIdDTO findAnimalsByShelter(Long shelterId, Long userId, String type, Pageable pageable) {
-        List<Long> userLikedAnimalIds = findUserLikedAnimalIds(userId);
+        Set<Long> userLikedAnimalIds = new HashSet<>(findUserLikedAnimalIds(userId));
 
         Page<Animal> animalPage = animalRepository.findByShelterIdAndType(AnimalType.fromString(type), shelterId, pageable);
+        List<Long> animalIds = animalPage.getContent().stream()
+                .map(Animal::getId)
+                .toList();
+        Map<Long, Long> likeCountByAnimalId = likeService.getLikeCounts(LikeTarget.ANIMAL, animalIds);
+
         List<ShelterResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
                 .map(animal -> {
-                    Long likeNum = getCachedLikeNum(animal.getId());
+                    Long likeNum = likeCountByAnimalId.getOrDefault(animal.getId(), 0L);
                     boolean isLikedAnimal = userLikedAnimalIds.contains(animal.getId());
                     return toAnimalDTO(animal, isLikedAnimal, likeNum);
                 })
@@ -127,7 +172,7 @@ public class ShelterService {
     }
 
     public ShelterResponse.FindShelterListWithAddr findShelterListWithAddress() {
-        List<Shelter> shelters = shelterRepository.findAll();
+        List<Shelter> shelters = shelterRepository.findAllWithRegionCode();
 
         Map<Province, Map<District, List<Shelter>>> groupedShelters = groupSheltersByProvinceAndDistrict(shelters);
         Map<String, List<ShelterResponse.DistrictDTO>> responseMap = createShlelterResponseMap(groupedShelters);
@@ -135,64 +180,11 @@ public class ShelterService {
         return new ShelterResponse.FindShelterListWithAddr(responseMap);
     }
 
-    private void updateShelterByAnimalData(String animalJson, Shelter shelter) {
-        jsonParser.parse(animalJson, AnimalDTO.class).ifPresent(
-                animalDTO -> updateShelterWithAnimalData(animalDTO, shelter)
-        );
-    }
-
-    private void updateShelterWithAnimalData(AnimalDTO animalData, Shelter shelter) {
-        findFirstAnimalItem(animalData)
-                .ifPresent(firstAnimalItem -> shelterRepository.updateShelterInfo(
-                        firstAnimalItem.careTel(), firstAnimalItem.careAddr(), countActiveAnimals(animalData), shelter.getId())
-                );
-    }
-
-    private Optional<AnimalDTO.ItemDTO> findFirstAnimalItem(AnimalDTO animalDTO) {
-        return Optional.ofNullable(animalDTO)
-                .map(AnimalDTO::response)
-                .map(AnimalDTO.ResponseDTO::body)
-                .map(AnimalDTO.BodyDTO::items)
-                .map(AnimalDTO.ItemsDTO::item)
-                .filter(items -> !items.isEmpty())
-                .map(items -> items.get(0));
-    }
-
-    private long countActiveAnimals(AnimalDTO animalDTO) {
-        LocalDate currentDate = LocalDate.now().minusDays(1);
-        return animalDTO.response().body().items().item().stream()
-                .filter(animal -> isAnimalNoticeNotExpired(animal, currentDate))
-                .count();
-    }
-
-    private boolean isAnimalNoticeNotExpired(AnimalDTO.ItemDTO animal, LocalDate currentDate) {
-        return LocalDate.parse(animal.noticeEdt(), YEAR_HOUR_DAY_FORMAT).isAfter(currentDate);
-    }
-
-    private void updateShelterAddressByGoogle() {
-        updateShelterAddress(googleService);
-    }
-
-    private void updateShelterAddress(GeocodingService geocodingService) {
-        List<Shelter> shelters = shelterRepository.findByAnimalCntGreaterThan(0L);
-        for (Shelter shelter : shelters) {
-            try {
-                Coordinates coordinates = geocodingService.getCoordinates(shelter.getCareAddr());
-                shelterRepository.updateAddressInfo(coordinates.lat(), coordinates.lng(), shelter.getId());
-            } catch (Exception e) {
-                log.warn("보호소의 위/경도 업데이트 실패 ,shelter {}: {}", shelter.getId(), e.getMessage());
-            }
-        }
-    }
-
-    private Flux<Shelter> fetchShelterDataFromApi(RegionCode regionCode, List<Long> savedShelterIds) {
+    private Flux<Shelter> fetchShelterDataFromApi(RegionCode regionCode, Set<Long> savedShelterIds, CrawlReport crawlReport) {
         try {
             URI uri = buildShelterOpenApiURI(baseUrl, serviceKey, regionCode.getUprCd(), regionCode.getOrgCd());
-            return webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .retry(3)
+            String targetId = regionCode.getUprCd() + "-" + regionCode.getOrgCd();
+            return openApiCrawler.fetchString(uri, targetId, crawlReport)
                     .flatMapMany(response -> convertResponseToNewShelter(response, regionCode, savedShelterIds))
                     .onErrorResume(e -> Flux.empty());
         } catch (Exception e) {
@@ -201,7 +193,7 @@ public class ShelterService {
         }
     }
 
-    private Flux<Shelter> convertResponseToNewShelter(String response, RegionCode regionCode, List<Long> savedShelterIds) {
+    private Flux<Shelter> convertResponseToNewShelter(String response, RegionCode regionCode, Set<Long> savedShelterIds) {
         return Mono.fromCallable(() -> parseJsonToItemDTO(response))
                 .flatMapMany(Flux::fromIterable)
                 .filter(itemDTO -> isNewShelter(itemDTO, savedShelterIds))
@@ -226,7 +218,7 @@ public class ShelterService {
                 .orElse(Collections.emptyList());
     }
 
-    private boolean isNewShelter(ShelterDTO.itemDTO itemDTO, List<Long> existShelterIds) {
+    private boolean isNewShelter(ShelterDTO.itemDTO itemDTO, Set<Long> existShelterIds) {
         return !existShelterIds.contains(itemDTO.careRegNo());
     }
 
@@ -238,16 +230,6 @@ public class ShelterService {
                 .build();
     }
 
-    private Long getCachedLikeNum(Long key) {
-        Long likeNum = redisService.getValueInLongWithNull(ShelterService.ANIMAL_LIKE_NUM_KEY_PREFIX, key.toString());
-        if (likeNum == null) {
-            likeNum = animalRepository.countLikesByAnimalId(key);
-            redisService.storeValue(ShelterService.ANIMAL_LIKE_NUM_KEY_PREFIX, key.toString(), likeNum.toString(), ANIMAL_EXP);
-        }
-
-        return likeNum;
-    }
-
 
      // Shelter 리스트를 Province와 District 기준으로 그룹화
     private Map<Province, Map<District, List<Shelter>>> groupSheltersByProvinceAndDistrict(List<Shelter> shelters) {
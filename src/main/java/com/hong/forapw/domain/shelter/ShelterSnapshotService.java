@@ -0,0 +1,67 @@
+package com.hong.forapw.domain.shelter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.forapw.common.utils.ApiUtils;
+import com.hong.forapw.domain.shelter.model.EncodedResponse;
+import com.hong.forapw.domain.shelter.model.ShelterSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 보호소 목록(지도용, 지역별 트리) 응답을 JSON 바이트로 미리 만들어 두고 그대로 내려준다
+// 정상 상태에서는 요청마다 DB 조회나 직렬화가 일어나지 않는다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShelterSnapshotService {
+
+    private final ShelterService shelterService;
+    private final ObjectMapper objectMapper;
+
+    private volatile ShelterSnapshot shelterSnapshot;
+
+    private static final long REFRESH_INTERVAL_MS = 1000L * 60 * 30; // 다른 인스턴스의 수집, 주간 보호소 수집 결과도 반영되도록 주기적으로 갱신
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void rebuild() {
+        // 기존 응답 형식을 그대로 유지한다 (지도용 목록은 body의 code가 201)
+        EncodedResponse activeShelters = encode(ApiUtils.success(HttpStatus.CREATED, shelterService.findActiveShelters()));
+        EncodedResponse sheltersByAddress = encode(ApiUtils.success(HttpStatus.OK, shelterService.findShelterListWithAddress()));
+
+        shelterSnapshot = new ShelterSnapshot(activeShelters, sheltersByAddress);
+        log.info("보호소 목록 스냅샷 갱신 완료. ETag: {}, {}", activeShelters.eTag(), sheltersByAddress.eTag());
+    }
+
+    public EncodedResponse getActiveShelters() {
+        return getSnapshot().activeShelters();
+    }
+
+    public EncodedResponse getSheltersByAddress() {
+        return getSnapshot().sheltersByAddress();
+    }
+
+    // 기동 직후 스냅샷이 만들어지기 전에 요청이 들어오면 그 자리에서 한 번 만든다
+    private ShelterSnapshot getSnapshot() {
+        ShelterSnapshot snapshot = shelterSnapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (shelterSnapshot == null) {
+                    rebuild();
+                }
+                snapshot = shelterSnapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private EncodedResponse encode(ApiUtils.ApiResult<?> apiResult) {
+        try {
+            return EncodedResponse.of(objectMapper.writeValueAsBytes(apiResult));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보호소 목록 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hong.forapw.domain.shelter.model;
+
+import org.springframework.util.DigestUtils;
+
+import java.util.Arrays;
+
+// 미리 직렬화해 둔 응답 본문과 그 ETag
+public record EncodedResponse(byte[] body, String eTag) {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_TAG = "*";
+
+    public static EncodedResponse of(byte[] body) {
+        return new EncodedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    // If-None-Match는 약한 비교를 쓴다. 쉼표로 나열된 태그 중 하나라도 같거나 "*"이면 일치 (RFC 9110 13.1.2)
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals(ANY_TAG) || stripWeakPrefix(tag).equals(eTag));
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,138 @@
+package com.hong.forapw.domain.shelter.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 활성 보호소 좌표에 대한 불변 k-d 트리
+// 위/경도를 단위 구 위의 3차원 좌표로 바꿔 두면 직선(현) 거리가 대원 거리와 단조 관계라서,
+// 유클리드 k-d 트리 탐색만으로 정확한 최근접/반경 결과를 O(log n)에 얻을 수 있다 (경도 180도 경계, 극지방 문제도 없음)
+public final class ShelterGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int DIMENSIONS = 3;
+
+    private final ShelterResponse.ShelterDTO[] shelters;
+    private final double[] coordinates; // 노드 i의 좌표는 coordinates[i * 3 .. i * 3 + 2]
+
+    private ShelterGeoIndex(ShelterResponse.ShelterDTO[] shelters, double[] coordinates) {
+        this.shelters = shelters;
+        this.coordinates = coordinates;
+    }
+
+    public static ShelterGeoIndex empty() {
+        return new ShelterGeoIndex(new ShelterResponse.ShelterDTO[0], new double[0]);
+    }
+
+    // 각 구간의 중앙값을 기준으로 축을 돌아가며 정렬해, 배열 자체가 트리가 되도록 배치한다 (구간 [lo, hi)의 루트는 (lo + hi) / 2)
+    public static ShelterGeoIndex build(List<ShelterResponse.ShelterDTO> shelterDTOs) {
+        ShelterResponse.ShelterDTO[] shelters = shelterDTOs.stream()
+                .filter(shelter -> shelter.lat() != null && shelter.lng() != null)
+                .toArray(ShelterResponse.ShelterDTO[]::new);
+        arrange(shelters, 0, shelters.length, 0);
+
+        double[] coordinates = new double[shelters.length * DIMENSIONS];
+        for (int i = 0; i < shelters.length; i++) {
+            System.arraycopy(toUnitVector(shelters[i].lat(), shelters[i].lng()), 0, coordinates, i * DIMENSIONS, DIMENSIONS);
+        }
+        return new ShelterGeoIndex(shelters, coordinates);
+    }
+
+    public boolean isEmpty() {
+        return shelters.length == 0;
+    }
+
+    public int size() {
+        return shelters.length;
+    }
+
+    // 가까운 순으로 최대 limit개
+    public List<ShelterResponse.ShelterDTO> findNearest(double lat, double lng, int limit) {
+        return search(lat, lng, limit, Double.MAX_VALUE);
+    }
+
+    // 반경 radiusKm 이내를 가까운 순으로 최대 limit개
+    public List<ShelterResponse.ShelterDTO> findWithinRadius(double lat, double lng, double radiusKm, int limit) {
+        double chordLength = 2 * Math.sin(Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI) / 2);
+        return search(lat, lng, limit, chordLength * chordLength);
+    }
+
+    private List<ShelterResponse.ShelterDTO> search(double lat, double lng, int limit, double maxSquaredDistance) {
+        if (limit <= 0 || isEmpty()) {
+            return List.of();
+        }
+
+        double[] target = toUnitVector(lat, lng);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::squaredDistance).reversed());
+        searchNode(0, shelters.length, 0, target, limit, maxSquaredDistance, candidates);
+
+        List<Candidate> sortedCandidates = new ArrayList<>(candidates);
+        sortedCandidates.sort(Comparator.comparingDouble(Candidate::squaredDistance));
+        return sortedCandidates.stream()
+                .map(candidate -> shelters[candidate.index()])
+                .toList();
+    }
+
+    private void searchNode(int lo, int hi, int depth, double[] target, int limit, double maxSquaredDistance, PriorityQueue<Candidate> candidates) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        double squaredDistance = squaredDistance(mid, target);
+        if (squaredDistance <= maxSquaredDistance) {
+            candidates.offer(new Candidate(mid, squaredDistance));
+            if (candidates.size() > limit) {
+                candidates.poll();
+            }
+        }
+
+        int axis = depth % DIMENSIONS;
+        double axisDiff = target[axis] - coordinates[mid * DIMENSIONS + axis];
+        boolean isLeftNearer = axisDiff < 0;
+        searchNode(isLeftNearer ? lo : mid + 1, isLeftNearer ? mid : hi, depth + 1, target, limit, maxSquaredDistance, candidates);
+
+        // 분할 평면까지의 거리가 현재 후보보다 멀면 반대쪽 서브트리는 볼 필요가 없다
+        double pruneBound = (candidates.size() < limit) ? maxSquaredDistance : Math.min(maxSquaredDistance, candidates.peek().squaredDistance());
+        if (axisDiff * axisDiff <= pruneBound) {
+            searchNode(isLeftNearer ? mid + 1 : lo, isLeftNearer ? hi : mid, depth + 1, target, limit, maxSquaredDistance, candidates);
+        }
+    }
+
+    private double squaredDistance(int index, double[] target) {
+        double sum = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            double diff = coordinates[index * DIMENSIONS + axis] - target[axis];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static void arrange(ShelterResponse.ShelterDTO[] shelters, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        int axis = depth % DIMENSIONS;
+        Arrays.sort(shelters, lo, hi, Comparator.comparingDouble(shelter -> toUnitVector(shelter.lat(), shelter.lng())[axis]));
+
+        int mid = (lo + hi) >>> 1;
+        arrange(shelters, lo, mid, depth + 1);
+        arrange(shelters, mid + 1, hi, depth + 1);
+    }
+
+    private static double[] toUnitVector(double lat, double lng) {
+        double latRad = Math.toRadians(lat);
+        double lngRad = Math.toRadians(lng);
+        return new double[]{
+                Math.cos(latRad) * Math.cos(lngRad),
+                Math.cos(latRad) * Math.sin(lngRad),
+                Math.sin(latRad)
+        };
+    }
+
+    private record Candidate(int index, double squaredDistance) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.hong.forapw.domain.shelter.model;
+
+// 보호소 목록 API 응답의 불변 스냅샷. 수집이 끝날 때마다 통째로 새로 만들어 교체한다
+public record ShelterSnapshot(EncodedResponse activeShelters, EncodedResponse sheltersByAddress) {
+}
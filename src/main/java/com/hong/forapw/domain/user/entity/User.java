@@ -69,6 +69,10 @@ public class User extends BaseEntity {
     @Column(name = "removed_at")
     private LocalDateTime removedAt;
 
+    // 방문자 집계 배치(UserJdbcRepository)에서만 갱신한다. 엔티티 저장 시 덮어쓰지 않도록 JPA 쓰기에서 제외
+    @Column(name = "last_visit_date", insertable = false, updatable = false)
+    private LocalDateTime lastVisitDate;
+
     @Builder
     public User(Long id, UserStatus status, String name, String nickName, String email, String password, UserRole role, String profileURL, Province province, District district, String subDistrict, AuthProvider authProvider, boolean isMarketingAgreed) {
         this.id = id;
@@ -0,0 +1,40 @@
+package com.hong.forapw.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 마지막 방문 시각처럼 여러 유저에 같은 값을 한 번에 쓰는 작업은 엔티티를 올리지 않고 JDBC로 처리한다
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이미 더 최근 방문이 반영된 유저는 건드리지 않는다
+    public int updateLastVisitDates(List<Long> userIds, LocalDateTime visitDate) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE user_tb SET last_visit_date = ? WHERE id IN (" + buildPlaceholders(userIds.size()) + ")" +
+                " AND (last_visit_date IS NULL OR last_visit_date < ?)";
+        Timestamp timestamp = Timestamp.valueOf(visitDate);
+
+        List<Object> params = new ArrayList<>(userIds.size() + 2);
+        params.add(timestamp);
+        params.addAll(userIds);
+        params.add(timestamp);
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    private String buildPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -22,6 +22,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.removedAt IS NULL")
     List<User> findAllNonWithdrawn();
 
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    Long findMaxId();
+
     @Query("SELECT u.nickname FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
     Optional<String> findNickname(@Param("id") Long id);
 
@@ -13,7 +13,6 @@ import com.hong.forapw.domain.user.entity.UserStatus;
 import com.hong.forapw.domain.alarm.repository.AlarmRepository;
 import com.hong.forapw.domain.animal.repository.FavoriteAnimalRepository;
 import com.hong.forapw.admin.repository.LoginAttemptRepository;
-import com.hong.forapw.admin.repository.VisitRepository;
 import com.hong.forapw.domain.chat.repository.ChatUserRepository;
 import com.hong.forapw.domain.group.repository.FavoriteGroupRepository;
 import com.hong.forapw.domain.group.repository.GroupUserRepository;
@@ -27,7 +26,6 @@ import com.hong.forapw.domain.user.repository.UserStatusRepository;
 import com.hong.forapw.integration.email.model.BlankTemplate;
 import com.hong.forapw.integration.email.model.EmailVerificationTemplate;
 import com.hong.forapw.integration.email.model.TemplateModel;
-import com.hong.forapw.integration.rabbitmq.RabbitMqUtils;
 import com.hong.forapw.integration.email.EmailService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -65,10 +63,8 @@ public class UserService {
     private final PostRepository postRepository;
     private final LoginAttemptRepository loginAttemptRepository;
     private final UserStatusRepository userStatusRepository;
-    private final VisitRepository visitRepository;
     private final FavoriteAnimalRepository favoriteAnimalRepository;
     private final FavoriteGroupRepository favoriteGroupRepository;
-    private final RabbitMqUtils rabbitMqUtils;
     private final EmailService emailService;
     private final UserCacheService userCacheService;
     private final JwtUtils jwtUtils;
@@ -76,8 +72,6 @@ public class UserService {
     private static final String MAIL_TEMPLATE_FOR_CODE = "verification_code_email.html";
     private static final String MAIL_TEMPLATE_FOR_LOCK_ACCOUNT = "lock_account.html";
     private static final String ALL_CHARS = "!@#$%^&*0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-    private static final String USER_QUEUE_PREFIX = "user.";
-    private static final String ALARM_EXCHANGE = "alarm.exchange";
     private static final String USER_AGENT_HEADER = "User-Agent";
     private static final String UNKNOWN = "unknown";
     private static final String[] IP_HEADER_CANDIDATES = {"X-Forwarded-For", "Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP", "HTTP_X_FORWARDED_FOR"};
@@ -115,7 +109,6 @@ public class UserService {
         userRepository.save(user);
 
         setUserStatus(user);
-        setAlarmQueue(user);
     }
 
     @Transactional
@@ -127,7 +120,6 @@ public class UserService {
         userRepository.save(user);
 
         setUserStatus(user);
-        setAlarmQueue(user);
     }
 
     @Async
@@ -385,14 +377,6 @@ public class UserService {
         }
     }
 
-    private void setAlarmQueue(User user) {
-        String queueName = USER_QUEUE_PREFIX + user.getId();
-        String listenerId = USER_QUEUE_PREFIX + user.getId();
-
-        rabbitMqUtils.bindDirectExchangeToQueue(ALARM_EXCHANGE, queueName);
-        rabbitMqUtils.registerAlarmListener(listenerId, queueName);
-    }
-
     private void checkIsGroupCreator(User user) {
         groupUserRepository.findAllByUser(user)
                 .stream()
@@ -447,7 +431,6 @@ public class UserService {
 
     private void deleteUserRelatedData(Long userId) {
         alarmRepository.deleteByUserId(userId);
-        visitRepository.deleteByUserId(userId);
         loginAttemptRepository.deleteByUserId(userId);
     }
 
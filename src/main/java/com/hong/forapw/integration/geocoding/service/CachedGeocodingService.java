@@ -0,0 +1,86 @@
+package com.hong.forapw.integration.geocoding.service;
+
+import com.hong.forapw.integration.geocoding.model.Coordinates;
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 정규화한 주소 단위로 좌표를 Redis에 저장해 두고, 캐시에 없는 주소만 외부 API로 조회한다
+// 카카오를 먼저 시도하고, 실패하거나 결과가 없으면 구글로 넘어간다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CachedGeocodingService {
+
+    private final KakaoGeocodingService kakaoService;
+    private final GoogleGeocodingService googleService;
+    private final RedisService redisService;
+
+    private static final String GEOCODE_KEY_PREFIX = "geocode";
+    private static final Long GEOCODE_EXP = 1000L * 60 * 60 * 24 * 180; // 6개월
+    private static final int GEOCODING_CONCURRENCY = 8;
+    private static final Duration GEOCODING_TIMEOUT = Duration.ofSeconds(5);
+    private static final Pattern PARENTHESES_PATTERN = Pattern.compile("\\(.*?\\)");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final String COORDINATE_DELIMITER = ",";
+
+    // 좌표를 얻지 못한 주소는 결과 Map에 포함되지 않는다
+    // 외부 API 응답을 기다리며 블로킹하므로 트랜잭션 밖에서 호출한다
+    public Map<String, Coordinates> resolveAll(Collection<String> addresses) {
+        return Flux.fromIterable(addresses)
+                .flatMap(address -> resolve(address).map(coordinates -> Map.entry(address, coordinates)), GEOCODING_CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    private Mono<Coordinates> resolve(String address) {
+        String normalizedAddress = normalizeAddress(address);
+        return Mono.fromCallable(() -> findCachedCoordinates(normalizedAddress))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> geocodeWithFailover(normalizedAddress)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(coordinates -> cacheCoordinates(normalizedAddress, coordinates))))
+                .onErrorResume(e -> {
+                    log.warn("주소의 위/경도 조회 실패, address {}: {}", address, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Coordinates> geocodeWithFailover(String address) {
+        return kakaoService.getCoordinates(address)
+                .timeout(GEOCODING_TIMEOUT)
+                .onErrorResume(e -> {
+                    log.debug("카카오 지오코딩 실패, 구글로 재시도합니다. address {}: {}", address, e.getMessage());
+                    return googleService.getCoordinates(address).timeout(GEOCODING_TIMEOUT);
+                });
+    }
+
+    private Coordinates findCachedCoordinates(String address) {
+        String cachedValue = redisService.getValueInString(GEOCODE_KEY_PREFIX, address);
+        if (cachedValue == null) {
+            return null;
+        }
+
+        String[] latLng = cachedValue.split(COORDINATE_DELIMITER);
+        return new Coordinates(Double.parseDouble(latLng[0]), Double.parseDouble(latLng[1]));
+    }
+
+    private void cacheCoordinates(String address, Coordinates coordinates) {
+        redisService.storeValue(GEOCODE_KEY_PREFIX, address, coordinates.lat() + COORDINATE_DELIMITER + coordinates.lng(), GEOCODE_EXP);
+    }
+
+    // 괄호 안의 참고 항목(동 이름, 건물명 등)과 중복 공백을 제거한다. 같은 주소의 표기 차이로 캐시가 갈리지 않도록 한다
+    private String normalizeAddress(String address) {
+        String withoutParentheses = PARENTHESES_PATTERN.matcher(address).replaceAll(" ");
+        return WHITESPACE_PATTERN.matcher(withoutParentheses).replaceAll(" ").trim();
+    }
+}
@@ -1,7 +1,8 @@
 package com.hong.forapw.integration.geocoding.service;
 
 import com.hong.forapw.integration.geocoding.model.Coordinates;
+import reactor.core.publisher.Mono;
 
 public interface GeocodingService {
-    Coordinates getCoordinates(String address);
+    Mono<Coordinates> getCoordinates(String address);
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 
@@ -24,20 +25,18 @@ public class GoogleGeocodingService implements GeocodingService {
     private final WebClient webClient;
 
     @Override
-    public Coordinates getCoordinates(String address) {
-        URI geocodingUri = buildGoogleGeocodingURI(address, googleGeoCodingURI, googleAPIKey);
-        GoogleMapDTO.MapDTO geocodingResponse = fetchGeocodingData(geocodingUri);
-
-        return extractCoordinates(geocodingResponse);
+    public Mono<Coordinates> getCoordinates(String address) {
+        return Mono.fromCallable(() -> buildGoogleGeocodingURI(address, googleGeoCodingURI, googleAPIKey))
+                .flatMap(this::fetchGeocodingData)
+                .map(this::extractCoordinates);
     }
 
-    private GoogleMapDTO.MapDTO fetchGeocodingData(URI uri) {
+    private Mono<GoogleMapDTO.MapDTO> fetchGeocodingData(URI uri) {
         return webClient.get()
                 .uri(uri)
                 .retrieve()
                 .bodyToMono(GoogleMapDTO.MapDTO.class)
-                .blockOptional()
-                .orElseThrow(() -> new RuntimeException("구글맵 API가 null을 반환하거나 잘못된 형식을 반환함."));
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("구글맵 API가 null을 반환하거나 잘못된 형식을 반환함.")));
     }
 
     private Coordinates extractCoordinates(GoogleMapDTO.MapDTO geocodingResponse) {
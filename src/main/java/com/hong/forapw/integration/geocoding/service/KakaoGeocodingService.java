@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 
@@ -24,21 +25,19 @@ public class KakaoGeocodingService implements GeocodingService {
     private final WebClient webClient;
 
     @Override
-    public Coordinates getCoordinates(String address) {
-        URI geocodingUri = buildKakaoGeocodingURI(address, kakaoGeoCodingURI);
-        KakaoMapDTO.MapDTO geocodingResponse = fetchGeocodingData(geocodingUri);
-
-        return extractCoordinates(geocodingResponse);
+    public Mono<Coordinates> getCoordinates(String address) {
+        return Mono.fromCallable(() -> buildKakaoGeocodingURI(address, kakaoGeoCodingURI))
+                .flatMap(this::fetchGeocodingData)
+                .map(this::extractCoordinates);
     }
 
-    private KakaoMapDTO.MapDTO fetchGeocodingData(URI uri) {
+    private Mono<KakaoMapDTO.MapDTO> fetchGeocodingData(URI uri) {
         return webClient.get()
                 .uri(uri)
                 .header("Authorization", "KakaoAK " + kakaoAPIKey)
                 .retrieve()
                 .bodyToMono(KakaoMapDTO.MapDTO.class)
-                .blockOptional()
-                .orElseThrow(() -> new RuntimeException("카카오맵 API가 null을 반환하거나 잘못된 형식을 반환함."));
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("카카오맵 API가 null을 반환하거나 잘못된 형식을 반환함.")));
     }
 
     private Coordinates extractCoordinates(KakaoMapDTO.MapDTO kakaoMapDTO) {
@@ -0,0 +1,76 @@
+package com.hong.forapw.integration.openapi;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 한 번의 수집 작업에 대한 결과 요약 (요청 지연 분포, 재시도 횟수, 대상별 실패 사유)
+@Slf4j
+public class CrawlReport {
+
+    private static final long[] LATENCY_BUCKET_BOUNDS_MS = {100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final String crawlName;
+    private final long startedAtNanos = System.nanoTime();
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_BOUNDS_MS.length + 1];
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final Map<String, String> failuresByTarget = new ConcurrentHashMap<>();
+
+    CrawlReport(String crawlName) {
+        this.crawlName = crawlName;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    void recordLatency(Duration latency) {
+        long latencyMs = latency.toMillis();
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS_MS.length && latencyMs > LATENCY_BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    void recordSuccess() {
+        successCount.increment();
+    }
+
+    void recordRetry() {
+        retryCount.increment();
+    }
+
+    // 같은 대상이 여러 번 실패로 기록돼도 마지막 사유 하나만 남는다
+    public void recordFailure(String targetId, Throwable error) {
+        failuresByTarget.put(targetId, String.valueOf(error.getMessage()));
+    }
+
+    public Map<String, String> getFailuresByTarget() {
+        return Collections.unmodifiableMap(failuresByTarget);
+    }
+
+    public void logSummary() {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAtNanos);
+        log.info("[{}] 수집 완료. 소요 시간: {}초, 성공: {}건, 실패: {}건, 재시도: {}회, 응답 지연 분포: {}",
+                crawlName, elapsed.toSeconds(), successCount.sum(), failuresByTarget.size(), retryCount.sum(), formatLatencyHistogram());
+
+        failuresByTarget.forEach((targetId, reason) -> log.warn("[{}] 수집 실패 대상 {}: {}", crawlName, targetId, reason));
+    }
+
+    private String formatLatencyHistogram() {
+        StringBuilder histogram = new StringBuilder();
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            String label = (i < LATENCY_BUCKET_BOUNDS_MS.length) ? "<=" + LATENCY_BUCKET_BOUNDS_MS[i] + "ms" : ">" + LATENCY_BUCKET_BOUNDS_MS[i - 1] + "ms";
+            histogram.append(label).append('=').append(latencyBuckets[i].sum());
+            if (i < latencyBuckets.length - 1) {
+                histogram.append(", ");
+            }
+        }
+        return histogram.toString();
+    }
+}
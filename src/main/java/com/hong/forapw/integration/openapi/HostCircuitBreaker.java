@@ -0,0 +1,77 @@
+package com.hong.forapw.integration.openapi;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 호스트별 서킷 브레이커. 연속 실패가 임계치에 닿으면 일정 시간 호출을 차단하고,
+// 차단 시간이 지나면 호출 하나만 시험으로 허용해(half-open) 성공하면 닫히고 실패하면 곧바로 다시 열린다
+// 시험 호출이 결과를 남기지 못하고 끝난 경우(취소 등)에도 막히지 않도록, 차단 시간이 한 번 더 지나면 다음 시험 호출을 허용한다
+class HostCircuitBreaker {
+
+    private static final long NO_PROBE = Long.MIN_VALUE;
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, HostState> hostStates = new ConcurrentHashMap<>();
+
+    HostCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    HostCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    boolean isCallPermitted(String host) {
+        HostState hostState = hostStates.get(host);
+        if (hostState == null || hostState.consecutiveFailures.get() < failureThreshold) {
+            return true;
+        }
+
+        long now = nanoClock.getAsLong();
+        if (now - hostState.openedAtNanos < openDurationNanos) {
+            return false;
+        }
+
+        long probeStartedAt = hostState.probeStartedAtNanos.get();
+        boolean isProbeAvailable = probeStartedAt == NO_PROBE || now - probeStartedAt >= openDurationNanos;
+        return isProbeAvailable && hostState.probeStartedAtNanos.compareAndSet(probeStartedAt, now);
+    }
+
+    void recordSuccess(String host) {
+        HostState hostState = hostStates.get(host);
+        if (hostState != null) {
+            hostState.consecutiveFailures.set(0);
+            hostState.probeStartedAtNanos.set(NO_PROBE);
+        }
+    }
+
+    void recordFailure(String host) {
+        HostState hostState = hostStates.computeIfAbsent(host, key -> new HostState());
+        if (hostState.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            hostState.openedAtNanos = nanoClock.getAsLong();
+        }
+        hostState.probeStartedAtNanos.set(NO_PROBE);
+    }
+
+    // 결과 없이 끝난 호출(취소)이 시험 호출이었다면 다음 호출이 시험할 수 있게 풀어 준다
+    void releaseProbe(String host) {
+        HostState hostState = hostStates.get(host);
+        if (hostState != null) {
+            hostState.probeStartedAtNanos.set(NO_PROBE);
+        }
+    }
+
+    private class HostState {
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong probeStartedAtNanos = new AtomicLong(NO_PROBE);
+        private volatile long openedAtNanos = nanoClock.getAsLong() - openDurationNanos;
+    }
+}
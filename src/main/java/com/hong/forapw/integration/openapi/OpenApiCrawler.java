@@ -0,0 +1,133 @@
+package com.hong.forapw.integration.openapi;
+
+import com.hong.forapw.common.exceptions.CustomException;
+import com.hong.forapw.common.exceptions.ExceptionCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+// 공공데이터 API 수집용 공통 클라이언트
+// 모든 호출(재시도 포함)은 토큰 버킷을 거치고, 429/5xx/네트워크 오류는 지수 백오프 + 지터로 재시도하며,
+// 같은 호스트에서 연속으로 실패하면 서킷을 열어 남은 요청은 바로 실패시킨다
+@Component
+public class OpenApiCrawler {
+
+    private final WebClient webClient;
+    private final OpenApiCrawlerProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final HostCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+    private final Counter rejectedCounter;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>(); // host:result -> Timer
+
+    public OpenApiCrawler(WebClient webClient, OpenApiCrawlerProperties properties, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.rateLimiter = new TokenBucketRateLimiter(properties.getPermitsPerSecond(), properties.getBurstCapacity());
+        this.circuitBreaker = new HostCircuitBreaker(properties.getCircuitFailureThreshold(), properties.getCircuitOpenDuration());
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("openapi.crawl.retries").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("openapi.crawl.circuit.rejected").register(meterRegistry);
+    }
+
+    public CrawlReport startReport(String crawlName) {
+        return new CrawlReport(crawlName);
+    }
+
+    public int getConcurrency() {
+        return properties.getConcurrency();
+    }
+
+    public Mono<DataBuffer> fetchDataBuffer(URI uri, String targetId, CrawlReport report) {
+        return fetch(uri, targetId, report, responseSpec -> DataBufferUtils.join(responseSpec.bodyToFlux(DataBuffer.class)));
+    }
+
+    public Mono<String> fetchString(URI uri, String targetId, CrawlReport report) {
+        return fetch(uri, targetId, report, responseSpec -> responseSpec.bodyToMono(String.class));
+    }
+
+    private <T> Mono<T> fetch(URI uri, String targetId, CrawlReport report, Function<WebClient.ResponseSpec, Mono<T>> bodyExtractor) {
+        String host = uri.getHost();
+        return Mono.defer(() -> attempt(uri, host, report, bodyExtractor))
+                .retryWhen(createRetrySpec(report))
+                .doOnNext(body -> report.recordSuccess())
+                .doOnError(error -> report.recordFailure(targetId, error));
+    }
+
+    private <T> Mono<T> attempt(URI uri, String host, CrawlReport report, Function<WebClient.ResponseSpec, Mono<T>> bodyExtractor) {
+        if (!circuitBreaker.isCallPermitted(host)) {
+            rejectedCounter.increment();
+            return Mono.error(new CustomException(ExceptionCode.OPEN_API_CIRCUIT_OPEN));
+        }
+
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    return bodyExtractor.apply(webClient.get().uri(uri).retrieve())
+                            .doOnSuccess(body -> {
+                                recordLatency(host, report, startedAt, "success");
+                                circuitBreaker.recordSuccess(host);
+                            })
+                            .doOnError(error -> {
+                                recordLatency(host, report, startedAt, "failure");
+                                // 재시도 대상이 아닌 오류(4xx)는 호스트가 응답하고 있다는 뜻이므로 서킷 입장에서는 성공이다
+                                if (isRetryable(error)) {
+                                    circuitBreaker.recordFailure(host);
+                                } else {
+                                    circuitBreaker.recordSuccess(host);
+                                }
+                            });
+                }))
+                .doOnCancel(() -> circuitBreaker.releaseProbe(host));
+    }
+
+    private void recordLatency(String host, CrawlReport report, long startedAt, String result) {
+        Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+        report.recordLatency(latency);
+        latencyTimers.computeIfAbsent(host + ":" + result, key -> Timer.builder("openapi.crawl.latency")
+                        .tag("host", host)
+                        .tag("result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(latency);
+    }
+
+    private Retry createRetrySpec(CrawlReport report) {
+        return Retry.backoff(properties.getMaxRetries(), properties.getMinBackoff())
+                .maxBackoff(properties.getMaxBackoff())
+                .jitter(properties.getJitterFactor())
+                .filter(this::isRetryable)
+                .doBeforeRetry(retrySignal -> {
+                    retryCounter.increment();
+                    report.recordRetry();
+                })
+                .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
+    }
+
+    // 쿼터 초과(429)와 서버 오류(5xx), 연결/타임아웃 오류만 재시도한다. 나머지 4xx는 재시도해도 결과가 같다
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || responseException.getStatusCode().is5xxServerError();
+        }
+
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hong.forapw.integration.openapi;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "openapi.crawler")
+public class OpenApiCrawlerProperties {
+    private double permitsPerSecond = 20; // 공공데이터 API 초당 호출 한도
+    private int burstCapacity = 20;
+    private int concurrency = 8;
+    private int maxRetries = 3;
+    private Duration minBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+    private double jitterFactor = 0.5;
+    private int circuitFailureThreshold = 5; // 연속 실패 횟수가 이 값을 넘으면 해당 호스트 호출을 잠시 차단
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,49 @@
+package com.hong.forapw.integration.openapi;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// 토큰 버킷. 토큰이 없으면 스레드를 막지 않고, 다음 토큰이 채워질 시각까지 지연시킨 Mono를 돌려준다
+// 토큰을 미리 예약(음수 잔량)하는 방식이라 동시에 요청이 몰려도 호출 간격이 일정하게 유지된다
+class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    TokenBucketRateLimiter(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        this.permitsPerNano = permitsPerSecond / Duration.ofSeconds(1).toNanos();
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.storedPermits = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            Duration waitTime = reserve();
+            return waitTime.isZero() ? Mono.empty() : Mono.delay(waitTime).then();
+        });
+    }
+
+    private synchronized Duration reserve() {
+        long now = nanoClock.getAsLong();
+        storedPermits = Math.min(capacity, storedPermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        storedPermits -= 1;
+        if (storedPermits >= 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos((long) (-storedPermits / permitsPerNano));
+    }
+}
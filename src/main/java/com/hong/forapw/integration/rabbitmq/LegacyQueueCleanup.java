@@ -0,0 +1,52 @@
+package com.hong.forapw.integration.rabbitmq;
+
+import com.hong.forapw.domain.chat.repository.ChatRoomRepository;
+import com.hong.forapw.domain.user.repository.UserRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.stereotype.Component;
+
+// 채팅은 chat.partition.N, 알람은 alarm.persist/alarm.node.* 큐를 쓴다
+// 예전에 채팅방/유저마다 만들던 room.{id}, user.{id} 큐는 더 이상 소비되지 않으므로 한 번 지운다
+// 삭제된 채팅방/탈퇴한 유저의 큐도 남아있을 수 있어, 지금까지 발급된 최대 id까지 모두 시도한다
+// 메시지가 남아있는 큐는 지우지 않고 로그만 남긴다. 마커 키로 여러 인스턴스 중 한 곳에서 한 번만 실행되게 한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyQueueCleanup {
+
+    private final AmqpAdmin amqpAdmin;
+    private final RedisService redisService;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+
+    private static final String MIGRATION_KEY_PREFIX = "migration";
+    private static final String MIGRATION_ID = "legacyRoomAndUserQueues";
+    private static final String LEGACY_ROOM_QUEUE_PREFIX = "room.";
+    private static final String LEGACY_USER_QUEUE_PREFIX = "user.";
+
+    public void run() {
+        if (!redisService.storeValueIfAbsent(MIGRATION_KEY_PREFIX, MIGRATION_ID, "done")) {
+            return;
+        }
+
+        deleteLegacyQueues(LEGACY_ROOM_QUEUE_PREFIX, chatRoomRepository.findMaxId());
+        deleteLegacyQueues(LEGACY_USER_QUEUE_PREFIX, userRepository.findMaxId());
+    }
+
+    private void deleteLegacyQueues(String queuePrefix, long maxId) {
+        int skippedCount = 0;
+        for (long id = 1; id <= maxId; id++) {
+            try {
+                amqpAdmin.deleteQueue(queuePrefix + id, false, true);
+            } catch (AmqpException e) {
+                log.warn("메시지가 남아있어 이전 큐를 지우지 않았습니다: {}", queuePrefix + id);
+                skippedCount++;
+            }
+        }
+        log.info("사용하지 않는 큐 정리 완료. prefix: {}, 대상: {}개, 남겨둔 큐: {}개", queuePrefix, maxId, skippedCount);
+    }
+}
@@ -1,9 +1,12 @@
 package com.hong.forapw.integration.rabbitmq;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -11,16 +14,34 @@ import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.CachingConnectionFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
 public class RabbitMqConfig implements RabbitListenerConfigurer {
 
     private final ConnectionFactory connectionFactory;
+    private CachingConnectionFactory confirmConnectionFactory;
+
+    public static final String CHAT_EXCHANGE = "chat.exchange";
+    public static final String CHAT_PARTITION_QUEUE_PREFIX = "chat.partition.";
+    public static final int CHAT_PARTITION_COUNT = 16;
+    public static final String ALARM_EXCHANGE = "alarm.exchange";
+    public static final String ALARM_FANOUT_EXCHANGE = "alarm.fanout";
+    public static final String ALARM_PERSIST_QUEUE = "alarm.persist";
+    public static final String ALARM_DEAD_LETTER_EXCHANGE = "alarm.dlx";
+    public static final String ALARM_PERSIST_DLQ = "alarm.persist.dlq";
+    private static final String ALARM_NODE_QUEUE_PREFIX = "alarm.node.";
+    private static final int ALARM_BATCH_SIZE = 100;
+    private static final int CHAT_BATCH_SIZE = 200;
 
     @Bean
     public RabbitAdmin rabbitAdmin() {
@@ -36,6 +57,31 @@ public class RabbitMqConfig implements RabbitListenerConfigurer {
         return rabbitTemplate;
     }
 
+    // 채팅 알람을 묶어서 발행한 뒤 confirm을 한 번에 기다리기 위한 템플릿
+    // SIMPLE confirm은 발행 전용 연결에만 켜고, 다른 템플릿과 리스너가 쓰는 기본 ConnectionFactory는 건드리지 않는다
+    @Bean
+    public RabbitTemplate confirmRabbitTemplate(CachingConnectionFactoryConfigurer connectionFactoryConfigurer) {
+        if (!(connectionFactory instanceof AbstractConnectionFactory abstractConnectionFactory)) {
+            throw new IllegalStateException("confirm 발행용 연결을 만들 수 없는 ConnectionFactory: " + connectionFactory.getClass());
+        }
+
+        confirmConnectionFactory = new CachingConnectionFactory(abstractConnectionFactory.getRabbitConnectionFactory());
+        connectionFactoryConfigurer.configure(confirmConnectionFactory);
+        confirmConnectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+
+        final RabbitTemplate rabbitTemplate = new RabbitTemplate(confirmConnectionFactory);
+        rabbitTemplate.setMessageConverter(jackson2JsonMessageConverter());
+        return rabbitTemplate;
+    }
+
+    // ConnectionFactory 타입 빈으로 등록하면 스프링 부트의 기본 ConnectionFactory가 생성되지 않으므로, 직접 닫는다
+    @PreDestroy
+    public void destroyConfirmConnectionFactory() {
+        if (confirmConnectionFactory != null) {
+            confirmConnectionFactory.destroy();
+        }
+    }
+
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory() {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
@@ -50,6 +96,54 @@ public class RabbitMqConfig implements RabbitListenerConfigurer {
         return factory;
     }
 
+    // 채팅 파티션 큐는 파티션당 컨슈머 하나로 처리해 같은 채팅방의 메시지 순서를 보장한다
+    // 메시지는 최대 CHAT_BATCH_SIZE개 또는 20ms 동안 모아서 처리하고, 배치 저장이 끝난 뒤에 한꺼번에 ack 한다
+    @Bean
+    public SimpleRabbitListenerContainerFactory chatPartitionListenerContainerFactory() {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jackson2JsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setTaskExecutor(chatPartitionExecutor());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(CHAT_BATCH_SIZE);
+        factory.setPrefetchCount(CHAT_BATCH_SIZE);
+        factory.setReceiveTimeout(20L);
+        factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+        return factory;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor chatPartitionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CHAT_PARTITION_COUNT);
+        executor.setMaxPoolSize(CHAT_PARTITION_COUNT * 2); // 컨슈머 재시작 시 이전 스레드가 정리되기 전까지의 여유분
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("chat-partition-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 알람 저장은 메시지를 묶어서 한 번에 처리한다
+    @Bean
+    public SimpleRabbitListenerContainerFactory alarmBatchListenerContainerFactory() {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jackson2JsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(ALARM_BATCH_SIZE);
+        factory.setReceiveTimeout(1000L); // 배치가 다 차지 않아도 1초 뒤에는 처리
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(3);
+        factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+        return factory;
+    }
+
     @Bean
     public RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry() {
         return new RabbitListenerEndpointRegistry();
@@ -75,13 +169,74 @@ public class RabbitMqConfig implements RabbitListenerConfigurer {
     // 채팅을 위한 Exchange
     @Bean
     DirectExchange chatExchange() {
-        return new DirectExchange("chat.exchange");
+        return new DirectExchange(CHAT_EXCHANGE);
+    }
+
+    // 채팅방은 id 해시로 고정된 개수의 파티션 큐에 나뉘어 들어간다
+    // single active consumer로 여러 노드 중 한 컨슈머만 파티션을 소비해 노드 간에도 순서가 유지된다
+    @Bean
+    Declarables chatPartitionDeclarables() {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int partition = 0; partition < CHAT_PARTITION_COUNT; partition++) {
+            String queueName = CHAT_PARTITION_QUEUE_PREFIX + partition;
+            Queue queue = QueueBuilder.durable(queueName)
+                    .singleActiveConsumer()
+                    .build();
+
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(chatExchange()).with(queueName)); // routingKey는 큐 이름과 동일하게 사용
+        }
+        return new Declarables(declarables);
     }
 
     // 알람을 위한 Exchange
     @Bean
     DirectExchange alarmExchange() {
-        return new DirectExchange("alarm.exchange");
+        return new DirectExchange(ALARM_EXCHANGE);
+    }
+
+    // 저장된 알람을 모든 노드에 전달하기 위한 Exchange
+    @Bean
+    FanoutExchange alarmFanoutExchange() {
+        return new FanoutExchange(ALARM_FANOUT_EXCHANGE);
+    }
+
+    // 모든 노드가 공유하는 알람 저장 큐 (경쟁 소비)
+    @Bean
+    Queue alarmPersistQueue() {
+        return new Queue(ALARM_PERSIST_QUEUE, true);
+    }
+
+    @Bean
+    Binding alarmPersistBinding() {
+        return BindingBuilder.bind(alarmPersistQueue()).to(alarmExchange()).with(ALARM_PERSIST_QUEUE);
+    }
+
+    // 저장할 수 없는 알람(수신자 탈퇴, 변환 불가 등)을 모아두는 큐. 원인을 확인한 뒤 수동으로 처리한다
+    @Bean
+    DirectExchange alarmDeadLetterExchange() {
+        return new DirectExchange(ALARM_DEAD_LETTER_EXCHANGE);
+    }
+
+    @Bean
+    Queue alarmPersistDeadLetterQueue() {
+        return new Queue(ALARM_PERSIST_DLQ, true);
+    }
+
+    @Bean
+    Binding alarmPersistDeadLetterBinding() {
+        return BindingBuilder.bind(alarmPersistDeadLetterQueue()).to(alarmDeadLetterExchange()).with(ALARM_PERSIST_DLQ);
+    }
+
+    // 노드마다 하나씩 생기는 전달용 큐. 노드가 내려가면 함께 삭제되고, 재연결 시 RabbitAdmin이 다시 선언한다
+    @Bean
+    Queue alarmNodeQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(ALARM_NODE_QUEUE_PREFIX));
+    }
+
+    @Bean
+    Binding alarmNodeBinding() {
+        return BindingBuilder.bind(alarmNodeQueue()).to(alarmFanoutExchange());
     }
 
     @Override
@@ -3,11 +3,9 @@ package com.hong.forapw.integration.rabbitmq;
 import com.hong.forapw.domain.alarm.model.AlarmRequest;
 import com.hong.forapw.domain.chat.model.ChatRequest;
 import com.hong.forapw.domain.alarm.entity.Alarm;
-import com.hong.forapw.domain.alarm.constant.AlarmType;
 import com.hong.forapw.domain.chat.entity.Message;
 import com.hong.forapw.domain.user.entity.User;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public class RabbitMqMapper {
@@ -15,7 +13,7 @@ public class RabbitMqMapper {
     private RabbitMqMapper() {
     }
 
-    public static Message buildMessage(ChatRequest.MessageDTO messageDTO, List<String> objectURLs) {
+    public static Message buildMessage(ChatRequest.MessageDTO messageDTO, List<String> objectURLs, Long sequence) {
         return Message.builder()
                 .id(messageDTO.messageId())
                 .nickName(messageDTO.nickName())
@@ -27,6 +25,7 @@ public class RabbitMqMapper {
                 .chatRoomId(messageDTO.chatRoomId())
                 .senderId(messageDTO.senderId())
                 .metadata(messageDTO.linkMetadata())
+                .sequence(sequence)
                 .build();
     }
 
@@ -38,13 +37,4 @@ public class RabbitMqMapper {
                 .alarmType(alarmDTO.alarmType())
                 .build();
     }
-
-    public static AlarmRequest.AlarmDTO toAlarmDTO(User user, String content, String redirectURL) {
-        return new AlarmRequest.AlarmDTO(
-                user.getId(),
-                content,
-                redirectURL,
-                LocalDateTime.now(),
-                AlarmType.CHATTING);
-    }
 }
@@ -4,35 +4,40 @@ import com.hong.forapw.domain.alarm.AlarmService;
 import com.hong.forapw.domain.alarm.model.AlarmRequest;
 import com.hong.forapw.domain.alarm.model.AlarmResponse;
 import com.hong.forapw.domain.alarm.repository.EmitterRepository;
+import com.hong.forapw.domain.chat.ChatCacheService;
+import com.hong.forapw.domain.chat.ChatNotificationService;
 import com.hong.forapw.domain.chat.model.ChatRequest;
 import com.hong.forapw.domain.alarm.entity.Alarm;
 import com.hong.forapw.domain.chat.entity.Message;
-import com.hong.forapw.domain.group.constant.GroupRole;
 import com.hong.forapw.domain.user.entity.User;
 import com.hong.forapw.domain.alarm.repository.AlarmRepository;
-import com.hong.forapw.domain.chat.repository.ChatRoomRepository;
-import com.hong.forapw.domain.chat.repository.MessageRepository;
-import com.hong.forapw.domain.user.repository.UserRepository;
+import com.hong.forapw.domain.chat.repository.MessageBatchRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.hong.forapw.domain.alarm.AlarmMapper.toAlarmDTO;
+import static com.hong.forapw.integration.rabbitmq.RabbitMqConfig.*;
 import static com.hong.forapw.integration.rabbitmq.RabbitMqMapper.*;
 
 @Component
@@ -41,45 +46,37 @@ import static com.hong.forapw.integration.rabbitmq.RabbitMqMapper.*;
 public class RabbitMqUtils {
 
     private final AlarmRepository alarmRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final ChatNotificationService chatNotificationService;
+    private final ChatCacheService chatCacheService;
+    private final MessageBatchRepository messageBatchRepository;
     private final RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry;
     private final SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory;
+    private final SimpleRabbitListenerContainerFactory chatPartitionListenerContainerFactory;
+    private final SimpleRabbitListenerContainerFactory alarmBatchListenerContainerFactory;
+    private final Queue alarmPersistQueue;
+    private final Queue alarmNodeQueue;
     private final RabbitTemplate rabbitTemplate;
     private final AmqpAdmin amqpAdmin;
     private final MessageConverter converter;
     private final EntityManager entityManager;
     private final EmitterRepository emitterRepository;
 
-    private static final String CHAT_EXCHANGE = "chat.exchange";
-    private static final String ALARM_EXCHANGE = "alarm.exchange";
-    private static final String ROOM_QUEUE_PREFIX = "room.";
-    private static final String USER_QUEUE_PREFIX = "user.";
+    private static final String ALARM_PERSIST_LISTENER_ID = "alarm.persist";
+    private static final String ALARM_DELIVERY_LISTENER_ID = "alarm.delivery";
     private static final String SSE_EVENT_NAME = "sse";
 
-    @Transactional
+    // 채팅방 수와 상관없이 파티션 수만큼만 리스너를 등록하고, 새 채팅방은 별도 등록 없이 해시된 파티션으로 들어간다
     public void initChatListener() {
-        chatRoomRepository.findAll()
-                .forEach(chatRoom -> {
-                    String queueName = ROOM_QUEUE_PREFIX + chatRoom.getId();
-                    String listenerId = ROOM_QUEUE_PREFIX + chatRoom.getId();
-
-                    bindDirectExchangeToQueue(CHAT_EXCHANGE, queueName);
-                    registerChatListener(listenerId, queueName);
-                });
+        for (int partition = 0; partition < CHAT_PARTITION_COUNT; partition++) {
+            String queueName = CHAT_PARTITION_QUEUE_PREFIX + partition;
+            registerChatListener(queueName, queueName);
+        }
     }
 
-    @Transactional
+    // 유저 수와 상관없이 노드당 저장용 컨슈머 하나, 전달용 컨슈머 하나만 등록한다
     public void initAlarmListener() {
-        userRepository.findAll()
-                .forEach(user -> {
-                    String queueName = USER_QUEUE_PREFIX + user.getId();
-                    String listenerId = USER_QUEUE_PREFIX + user.getId();
-
-                    bindDirectExchangeToQueue(ALARM_EXCHANGE, queueName);
-                    registerAlarmListener(listenerId, queueName);
-                });
+        registerAlarmPersistListener();
+        registerAlarmDeliveryListener();
     }
 
     public void registerDirectExchange(String exchangeName) {
@@ -87,92 +84,166 @@ public class RabbitMqUtils {
         amqpAdmin.declareExchange(fanoutExchange);
     }
 
-    public void bindDirectExchangeToQueue(String exchangeName, String queueName) {
-        DirectExchange directExchange = new DirectExchange(exchangeName);
-
-        Queue queue = new Queue(queueName, true);
-        amqpAdmin.declareQueue(queue);
+    private void registerChatListener(String listenerId, String queueName) {
+        SimpleRabbitListenerEndpoint endpoint = createRabbitListenerEndpoint(listenerId, queueName);
+        endpoint.setBatchListener(true);
+
+        endpoint.setMessageListener(new MessageListener() {
+            @Override
+            public void onMessage(org.springframework.amqp.core.Message message) {
+                onMessageBatch(List.of(message));
+            }
+
+            @Override
+            public void onMessageBatch(List<org.springframework.amqp.core.Message> messages) {
+                List<ChatRequest.MessageDTO> messageDTOs = messages.stream()
+                        .map(RabbitMqUtils.this::convertToMessageDTO)
+                        .toList();
+
+                saveMessages(messageDTOs);
+                chatNotificationService.enqueue(messageDTOs);
+            }
+        });
 
-        Binding binding = BindingBuilder.bind(queue).to(directExchange).with(queueName); // routingKey는 큐 이름과 동일하게 사용
-        amqpAdmin.declareBinding(binding);
+        rabbitListenerEndpointRegistry.registerListenerContainer(endpoint, chatPartitionListenerContainerFactory, true);
     }
 
-    public void registerChatListener(String listenerId, String queueName) {
-        SimpleRabbitListenerEndpoint endpoint = createRabbitListenerEndpoint(listenerId, queueName);
-
-        endpoint.setMessageListener(m -> {
-            ChatRequest.MessageDTO messageDTO = convertToMessageDTO(m);
-            saveMessage(messageDTO);
-            notifyChatRoomUsers(messageDTO);
+    // 알람을 배치로 저장한 뒤, 저장된 알람을 fanout exchange로 모든 노드에 전파한다
+    private void registerAlarmPersistListener() {
+        SimpleRabbitListenerEndpoint endpoint = createRabbitListenerEndpoint(ALARM_PERSIST_LISTENER_ID, alarmPersistQueue.getName());
+        endpoint.setBatchListener(true);
+
+        endpoint.setMessageListener(new MessageListener() {
+            @Override
+            public void onMessage(org.springframework.amqp.core.Message message) {
+                onMessageBatch(List.of(message));
+            }
+
+            @Override
+            public void onMessageBatch(List<org.springframework.amqp.core.Message> messages) {
+                List<Alarm> alarms = saveAlarms(messages);
+                broadcastAlarms(alarms);
+            }
         });
 
-        rabbitListenerEndpointRegistry.registerListenerContainer(endpoint, rabbitListenerContainerFactory, true);
+        rabbitListenerEndpointRegistry.registerListenerContainer(endpoint, alarmBatchListenerContainerFactory, true);
     }
 
-    public void registerAlarmListener(String listenerId, String queueName) {
-        SimpleRabbitListenerEndpoint endpoint = createRabbitListenerEndpoint(listenerId, queueName);
+    // 각 노드는 자신이 들고 있는 SseEmitter에 대해서만 알람을 전송한다
+    private void registerAlarmDeliveryListener() {
+        SimpleRabbitListenerEndpoint endpoint = createRabbitListenerEndpoint(ALARM_DELIVERY_LISTENER_ID, alarmNodeQueue.getName());
 
         endpoint.setMessageListener(message -> {
-            AlarmRequest.AlarmDTO alarmDTO = convertToAlarmDTO(message);
-            Alarm alarm = saveAlarm(alarmDTO);
-            sendAlarmViaSSE(alarm);
+            AlarmResponse.AlarmDeliveryListDTO deliveryListDTO = (AlarmResponse.AlarmDeliveryListDTO) converter.fromMessage(message);
+            deliveryListDTO.deliveries().forEach(this::sendAlarmViaSSE);
         });
 
         rabbitListenerEndpointRegistry.registerListenerContainer(endpoint, rabbitListenerContainerFactory, true);
     }
 
     public void sendChatMessageToRoom(Long chatRoomId, ChatRequest.MessageDTO message) {
-        String routingKey = ROOM_QUEUE_PREFIX + chatRoomId;
+        String routingKey = CHAT_PARTITION_QUEUE_PREFIX + getChatPartition(chatRoomId);
         rabbitTemplate.convertAndSend(CHAT_EXCHANGE, routingKey, message);
     }
 
     public void sendAlarmToUser(Long userId, AlarmRequest.AlarmDTO alarm) {
-        String routingKey = USER_QUEUE_PREFIX + userId;
-        rabbitTemplate.convertAndSend(ALARM_EXCHANGE, routingKey, alarm);
-    }
-
-    public void deleteQueue(String queueName) {
-        amqpAdmin.deleteQueue(queueName);
+        rabbitTemplate.convertAndSend(ALARM_EXCHANGE, ALARM_PERSIST_QUEUE, alarm);
     }
 
     private ChatRequest.MessageDTO convertToMessageDTO(org.springframework.amqp.core.Message m) {
         return (ChatRequest.MessageDTO) converter.fromMessage(m);
     }
 
-    private void saveMessage(ChatRequest.MessageDTO messageDTO) {
-        List<String> objectURLs = Optional.ofNullable(messageDTO.objects())
+    // 채팅방별로 메시지 개수만큼 순번을 한 번에 할당받아, 배치 안의 순서대로 부여한다
+    private void saveMessages(List<ChatRequest.MessageDTO> messageDTOs) {
+        Map<Long, Long> messageCountByRoom = messageDTOs.stream()
+                .collect(Collectors.groupingBy(ChatRequest.MessageDTO::chatRoomId, Collectors.counting()));
+
+        Map<Long, Long> nextSequenceByRoom = new HashMap<>();
+        messageCountByRoom.forEach((chatRoomId, messageCount) ->
+                nextSequenceByRoom.put(chatRoomId, chatCacheService.reserveMessageSequences(chatRoomId, messageCount)));
+
+        List<Message> messages = messageDTOs.stream()
+                .map(messageDTO -> {
+                    Long sequence = nextSequenceByRoom.merge(messageDTO.chatRoomId(), 1L, Long::sum) - 1;
+                    return buildMessage(messageDTO, extractObjectURLs(messageDTO), sequence);
+                })
+                .toList();
+
+        messageBatchRepository.insertAll(messages);
+    }
+
+    private List<String> extractObjectURLs(ChatRequest.MessageDTO messageDTO) {
+        return Optional.ofNullable(messageDTO.objects())
                 .orElse(Collections.emptyList())
                 .stream()
                 .map(ChatRequest.ChatObjectDTO::objectURL)
                 .toList();
+    }
 
-        Message message = buildMessage(messageDTO, objectURLs);
-        messageRepository.save(message);
+    private AlarmRequest.AlarmDTO convertToAlarmDTO(org.springframework.amqp.core.Message message) {
+        return (AlarmRequest.AlarmDTO) converter.fromMessage(message);
     }
 
-    private void notifyChatRoomUsers(ChatRequest.MessageDTO messageDTO) {
-        List<User> users = chatRoomRepository.findUsersByChatRoomIdExcludingRole(messageDTO.chatRoomId(), GroupRole.TEMP);
-        users.forEach(user -> sendAlarmForNewMessage(user, messageDTO));
+    // 한 건이라도 제약 조건을 어기면(수신자 탈퇴 등) saveAll 전체가 롤백되므로, 그때는 한 건씩 다시 저장한다
+    // 저장할 수 없는 알람만 DLQ로 보내고 나머지는 저장해서, 배치 전체가 무한히 재전달되지 않게 한다
+    // DB 장애처럼 일시적인 오류는 그대로 던져서 배치를 다시 받는다
+    private List<Alarm> saveAlarms(List<org.springframework.amqp.core.Message> messages) {
+        List<org.springframework.amqp.core.Message> alarmMessages = new ArrayList<>();
+        List<AlarmRequest.AlarmDTO> alarmDTOs = new ArrayList<>();
+        for (org.springframework.amqp.core.Message message : messages) {
+            try {
+                alarmDTOs.add(convertToAlarmDTO(message));
+                alarmMessages.add(message);
+            } catch (MessageConversionException e) {
+                sendAlarmToDeadLetterQueue(message, e);
+            }
+        }
+
+        try {
+            return alarmRepository.saveAll(buildAlarms(alarmDTOs));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("알람 일괄 저장 실패, {}건을 한 건씩 다시 저장합니다: {}", alarmDTOs.size(), e.getMessage());
+            return saveAlarmsOneByOne(alarmMessages, alarmDTOs);
+        }
     }
 
-    private void sendAlarmForNewMessage(User user, ChatRequest.MessageDTO messageDTO) {
-        String content = "새로운 메시지: " + messageDTO.content();
-        String redirectURL = "/chatting/" + messageDTO.chatRoomId();
+    private List<Alarm> saveAlarmsOneByOne(List<org.springframework.amqp.core.Message> alarmMessages, List<AlarmRequest.AlarmDTO> alarmDTOs) {
+        List<Alarm> savedAlarms = new ArrayList<>();
+        for (int i = 0; i < alarmDTOs.size(); i++) {
+            try {
+                savedAlarms.add(alarmRepository.save(buildAlarms(List.of(alarmDTOs.get(i))).get(0)));
+            } catch (DataIntegrityViolationException e) {
+                sendAlarmToDeadLetterQueue(alarmMessages.get(i), e);
+            }
+        }
+        return savedAlarms;
+    }
 
-        AlarmRequest.AlarmDTO alarmDTO = RabbitMqMapper.toAlarmDTO(user, content, redirectURL);
-        sendAlarmToUser(messageDTO.senderId(), alarmDTO);
+    // 실패한 saveAll에서 id가 채워졌을 수 있으므로, 재시도할 때도 엔티티를 새로 만든다
+    private List<Alarm> buildAlarms(List<AlarmRequest.AlarmDTO> alarmDTOs) {
+        return alarmDTOs.stream()
+                .map(alarmDTO -> buildAlarm(alarmDTO, entityManager.getReference(User.class, alarmDTO.receiverId())))
+                .toList();
     }
 
-    private AlarmRequest.AlarmDTO convertToAlarmDTO(org.springframework.amqp.core.Message message) {
-        return (AlarmRequest.AlarmDTO) converter.fromMessage(message);
+    private void sendAlarmToDeadLetterQueue(org.springframework.amqp.core.Message message, Exception cause) {
+        log.error("저장할 수 없는 알람을 DLQ로 보냅니다: {}", cause.getMessage());
+        rabbitTemplate.send(ALARM_DEAD_LETTER_EXCHANGE, ALARM_PERSIST_DLQ, message);
     }
 
-    private Alarm saveAlarm(AlarmRequest.AlarmDTO alarmDTO) {
-        User receiver = entityManager.getReference(User.class, alarmDTO.receiverId());
-        Alarm alarm = buildAlarm(alarmDTO, receiver);
+    // 저장은 이미 커밋됐으므로, 전파 실패가 배치를 nack시켜 같은 알람이 다시 저장되지 않도록 여기서 삼킨다
+    // 실시간 전송만 빠질 뿐 알람은 DB에 남아 있어 다음 알람 목록 조회에서 보인다
+    private void broadcastAlarms(List<Alarm> alarms) {
+        List<AlarmResponse.AlarmDeliveryDTO> deliveries = alarms.stream()
+                .map(alarm -> new AlarmResponse.AlarmDeliveryDTO(alarm.getReceiverId(), toAlarmDTO(alarm, false)))
+                .toList();
 
-        alarmRepository.save(alarm);
-        return alarm;
+        try {
+            rabbitTemplate.convertAndSend(ALARM_FANOUT_EXCHANGE, "", new AlarmResponse.AlarmDeliveryListDTO(deliveries));
+        } catch (AmqpException e) {
+            log.error("알람 전파 실패, 저장된 알람 {}건은 실시간 전송 없이 유지", alarms.size(), e);
+        }
     }
 
     private SimpleRabbitListenerEndpoint createRabbitListenerEndpoint(String listenerId, String queueName) {
@@ -182,20 +253,18 @@ public class RabbitMqUtils {
         return endpoint;
     }
 
-    private void sendAlarmViaSSE(Alarm alarm) {
-        String receiverId = alarm.getReceiverId().toString();
-        String eventId = createTimestampedId(receiverId);
-
-        Map<String, SseEmitter> emitters = emitterRepository.findEmittersByMemberIdPrefix(receiverId);
-        emitters.forEach((key, emitter) -> emitAlarmToEmitter(emitter, key, alarm, eventId));
-    }
+    private void sendAlarmViaSSE(AlarmResponse.AlarmDeliveryDTO delivery) {
+        String receiverId = delivery.receiverId().toString();
+        Map<String, SseEmitter> emitters = emitterRepository.findEmittersByUserId(receiverId);
+        if (emitters.isEmpty()) {
+            return;
+        }
 
-    private void emitAlarmToEmitter(SseEmitter emitter, String emitterId, Alarm alarm, String eventId) {
-        AlarmResponse.AlarmDTO alarmDTO = toAlarmDTO(alarm, false);
-        emitAlarmEvent(emitter, eventId, emitterId, alarmDTO);
+        String eventId = createTimestampedId(receiverId);
+        emitters.forEach((emitterId, emitter) -> emitAlarmEvent(emitter, receiverId, eventId, emitterId, delivery.alarm()));
     }
 
-    private void emitAlarmEvent(SseEmitter emitter, String eventId, String emitterId, Object data) {
+    private void emitAlarmEvent(SseEmitter emitter, String userId, String eventId, String emitterId, Object data) {
         try {
             emitter.send(SseEmitter.event()
                     .id(eventId)
@@ -204,10 +273,14 @@ public class RabbitMqUtils {
             );
         } catch (IOException e) {
             log.error("SSE 이벤트 전송 실패, emitterId: {}", emitterId, e);
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(userId, emitterId);
         }
     }
 
+    private int getChatPartition(Long chatRoomId) {
+        return Math.floorMod(Long.hashCode(chatRoomId), CHAT_PARTITION_COUNT);
+    }
+
     private String createTimestampedId(String userId) {
         return userId + "_" + System.currentTimeMillis();
     }
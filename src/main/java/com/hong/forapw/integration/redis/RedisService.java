@@ -5,14 +5,24 @@ import com.hong.forapw.common.exceptions.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +31,16 @@ public class RedisService {
     private final StringRedisTemplate redisTemplate;
     private final RedissonClient redissonClient;
 
+    private static final RedisScript<Long> TOGGLE_SET_MEMBER_SCRIPT = RedisScript.of(new ClassPathResource("scripts/toggle-like.lua"), Long.class);
+    private static final RedisScript<Long> INCREMENT_DECAYED_SCORE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/increment-decayed-score.lua"), Long.class);
+    private static final RedisScript<Long> CANCEL_DECAYED_SCORE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/cancel-decayed-score.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SEEDED_COUNTERS_SCRIPT = RedisScript.of(new ClassPathResource("scripts/increment-seeded-counters.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SORTED_SET_MEMBERS_SCRIPT = RedisScript.of(new ClassPathResource("scripts/pop-sorted-set-members.lua"), List.class);
+    private static final RedisScript<Long> REBASE_DECAYED_SCORES_SCRIPT = RedisScript.of(new ClassPathResource("scripts/rebase-decayed-scores.lua"), Long.class);
+    private static final int SCRIPT_KEY_CHUNK_SIZE = 500;
+
     public void storeValue(String type, String id, String value, Long expirationTime) {
         redisTemplate.opsForValue().set(buildKey(type, id), value, expirationTime, TimeUnit.MILLISECONDS);
     }
@@ -29,6 +49,20 @@ public class RedisService {
         redisTemplate.opsForValue().set(buildKey(type, id), value);
     }
 
+    // 여러 값을 하나의 파이프라인으로 저장 (id -> value)
+    public void storeValues(String type, Map<Long, Long> values, Long expirationTime) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((id, value) -> stringConnection.set(buildKey(type, id.toString()), value.toString(),
+                    Expiration.milliseconds(expirationTime), RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
     public void addSetElement(String key, Long value) {
         SetOperations<String, String> setOps = redisTemplate.opsForSet();
         setOps.add(key, String.valueOf(value));
@@ -40,6 +74,16 @@ public class RedisService {
         redisTemplate.expire(key, expirationTime, TimeUnit.SECONDS);
     }
 
+    public void addSetElements(String key, Collection<Long> values, Long expirationTime) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        SetOperations<String, String> setOps = redisTemplate.opsForSet();
+        setOps.add(key, values.stream().map(String::valueOf).toArray(String[]::new));
+        redisTemplate.expire(key, expirationTime, TimeUnit.SECONDS);
+    }
+
     public void addListElement(String key, String value, Long limit) {
         ListOperations<String, String> listOps = redisTemplate.opsForList();
         listOps.leftPush(key, value);
@@ -50,6 +94,14 @@ public class RedisService {
         redisTemplate.opsForValue().increment(buildKey(type, id), value);
     }
 
+    public Long incrementValueAndGet(String type, String id, Long value) {
+        return redisTemplate.opsForValue().increment(buildKey(type, id), value);
+    }
+
+    public boolean storeValueIfAbsent(String type, String id, String value) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(buildKey(type, id), value));
+    }
+
     public void decrementValue(String type, String id, Long value) {
         redisTemplate.opsForValue().decrement(buildKey(type, id), value);
     }
@@ -66,6 +118,133 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
+    // 여러 키를 DEL 한 번으로 삭제
+    public void removeValues(String type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = ids.stream()
+                .map(id -> buildKey(type, id.toString()))
+                .toList();
+        redisTemplate.delete(keys);
+    }
+
+    // 여러 카운터에 증가분을 더한다. 없는(만료된) 카운터는 seedLoader가 돌려준 기준값(없으면 0)으로 먼저 채운 뒤 더한다
+    // 기준값 채우기와 증가는 스크립트 안에서 원자적으로 실행되므로, 다른 인스턴스가 먼저 채웠다면 그 값에 더해진다
+    public Map<Long, Long> incrementValuesWithSeed(String type, Map<Long, Long> deltas, Function<List<Long>, Map<Long, Long>> seedLoader, Long expirationTime) {
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        Map<Long, Long> storedValues = getValuesInLong(type, ids);
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !storedValues.containsKey(id))
+                .toList();
+        Map<Long, Long> seeds = new HashMap<>(seedLoader.apply(missingIds));
+        missingIds.forEach(id -> seeds.putIfAbsent(id, 0L));
+
+        Map<Long, Long> values = incrementSeededCounters(type, ids, deltas, seeds, expirationTime);
+
+        // 확인한 뒤 스크립트 실행 전에 만료된 카운터는 기준값을 읽어 한 번 더 시도한다
+        List<Long> expiredIds = ids.stream()
+                .filter(id -> !values.containsKey(id))
+                .toList();
+        if (!expiredIds.isEmpty()) {
+            seeds.putAll(seedLoader.apply(expiredIds));
+            expiredIds.forEach(id -> seeds.putIfAbsent(id, 0L));
+            values.putAll(incrementSeededCounters(type, expiredIds, deltas, seeds, expirationTime));
+        }
+        return values;
+    }
+
+    private Map<Long, Long> incrementSeededCounters(String type, List<Long> ids, Map<Long, Long> deltas, Map<Long, Long> seeds, Long expirationTime) {
+        Map<Long, Long> values = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SCRIPT_KEY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SCRIPT_KEY_CHUNK_SIZE, ids.size()));
+            List<String> keys = chunk.stream()
+                    .map(id -> buildKey(type, id.toString()))
+                    .toList();
+            List<String> args = new ArrayList<>();
+            args.add(expirationTime.toString());
+            chunk.forEach(id -> {
+                args.add(deltas.get(id).toString());
+                args.add(Optional.ofNullable(seeds.get(id)).map(String::valueOf).orElse(""));
+            });
+
+            List<?> results = redisTemplate.execute(INCREMENT_SEEDED_COUNTERS_SCRIPT, keys, args.toArray());
+            for (int i = 0; results != null && i < chunk.size(); i++) {
+                long value = ((Number) results.get(i)).longValue();
+                if (value >= 0) {
+                    values.put(chunk.get(i), value);
+                }
+            }
+        }
+        return values;
+    }
+
+    // Set에서 최대 count개를 꺼내고 제거한다 (SPOP). 여러 인스턴스가 동시에 꺼내도 겹치지 않는다
+    public List<Long> popSetMembers(String key, long count) {
+        List<String> members = redisTemplate.opsForSet().pop(key, count);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 같은 멤버를 여러 HyperLogLog와 Set에 함께 기록한다 (PFADD/SADD/EXPIRE를 하나의 파이프라인으로)
+    public void addMemberToHyperLogLogsAndSet(List<String> hyperLogLogKeys, String setKey, String member, long expirationSeconds) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            hyperLogLogKeys.forEach(key -> {
+                stringConnection.pfAdd(key, member);
+                stringConnection.expire(key, expirationSeconds);
+            });
+            stringConnection.sAdd(setKey, member);
+            stringConnection.expire(setKey, expirationSeconds);
+            return null;
+        });
+    }
+
+    public long countHyperLogLog(String key) {
+        Long count = redisTemplate.opsForHyperLogLog().size(key);
+        return count != null ? count : 0L;
+    }
+
+    // 여러 Set의 멤버를 하나의 파이프라인으로 조회 (id -> members)
+    public Map<Long, Set<String>> getMembersOfSets(String type, List<Long> ids) {
+        Map<Long, Set<String>> membersById = new HashMap<>();
+        if (ids.isEmpty()) {
+            return membersById;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            ids.forEach(id -> stringConnection.sMembers(buildKey(type, id.toString())));
+            return null;
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (results.get(i) instanceof Set<?> members && !members.isEmpty()) {
+                membersById.put(ids.get(i), members.stream().map(String::valueOf).collect(Collectors.toSet()));
+            }
+        }
+        return membersById;
+    }
+
+    // (key, value) 쌍의 LREM을 하나의 파이프라인으로 실행
+    public void removeListElements(Map<String, List<String>> valuesByKey) {
+        if (valuesByKey.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            valuesByKey.forEach((key, values) -> values.forEach(value -> stringConnection.lRem(key, 0, value)));
+            return null;
+        });
+    }
+
     public void removeListElement(String key, String value) {
         ListOperations<String, String> listOps = redisTemplate.opsForList();
         listOps.remove(key, 0, value);
@@ -75,6 +254,49 @@ public class RedisService {
         redisTemplate.opsForSet().remove(key, member);
     }
 
+    // Set 멤버 여부에 따라 추가/제거하고 카운터를 함께 증감시킨다. 하나의 스크립트로 원자적으로 실행된다
+    // 변경된 id는 dirtyKey(ZSet)에, 변경된 Set과 멤버의 쌍은 membershipDirtyKey(ZSet)에 현재 시각을 score로 기록된다
+    public boolean toggleSetMemberWithCounter(String setKey, String counterType, String id, String dirtyKey, String membershipDirtyKey, String membershipMember) {
+        List<String> keys = List.of(setKey, buildKey(counterType, id), dirtyKey, membershipDirtyKey);
+        Long result = redisTemplate.execute(TOGGLE_SET_MEMBER_SCRIPT, keys, id, String.valueOf(System.currentTimeMillis()), membershipMember);
+        return Long.valueOf(1L).equals(result);
+    }
+
+    // 여러 Set에 대한 SADD/SREM을 하나의 파이프라인으로 실행하고, 실제로 추가되거나 제거된 멤버 수를 돌려준다
+    public long addAndRemoveSetMembers(Map<String, List<String>> additions, Map<String, List<String>> removals) {
+        if (additions.isEmpty() && removals.isEmpty()) {
+            return 0L;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            additions.forEach((key, members) -> stringConnection.sAdd(key, members.toArray(String[]::new)));
+            removals.forEach((key, members) -> stringConnection.sRem(key, members.toArray(String[]::new)));
+            return null;
+        });
+        return results.stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .sum();
+    }
+
+    // SMISMEMBER 한 번으로 ids 중 Set에 들어있는 것만 골라낸다
+    public Set<Long> filterSetMembers(String key, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<Object, Boolean> memberships = redisTemplate.opsForSet().isMember(key, ids.stream().map(String::valueOf).toArray());
+        if (memberships == null) {
+            return Collections.emptySet();
+        }
+
+        return memberships.entrySet().stream()
+                .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                .map(entry -> Long.valueOf(entry.getKey().toString()))
+                .collect(Collectors.toSet());
+    }
+
     public boolean isValueStored(String type, String id) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(buildKey(type, id)));
     }
@@ -93,6 +315,10 @@ public class RedisService {
         return storedValue != null && storedValue.equals(value);
     }
 
+    public boolean isKeyStored(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
     public boolean isMemberOfSet(String key, String member) {
         Boolean result = redisTemplate.opsForSet().isMember(key, member);
         return Boolean.TRUE.equals(result);
@@ -114,6 +340,122 @@ public class RedisService {
                 .orElse(null);
     }
 
+    // MGET으로 한 번에 조회하며, 캐시에 없는 id는 결과 Map에 포함되지 않는다
+    public Map<Long, Long> getValuesInLong(String type, List<Long> ids) {
+        Map<Long, Long> values = new HashMap<>();
+        if (ids.isEmpty()) {
+            return values;
+        }
+
+        List<String> keys = ids.stream()
+                .map(id -> buildKey(type, id.toString()))
+                .toList();
+        List<String> storedValues = Optional.ofNullable(redisTemplate.opsForValue().multiGet(keys))
+                .orElse(Collections.emptyList());
+
+        for (int i = 0; i < storedValues.size(); i++) {
+            String storedValue = storedValues.get(i);
+            if (storedValue != null) {
+                values.put(ids.get(i), Long.valueOf(storedValue));
+            }
+        }
+        return values;
+    }
+
+    // MGET으로 조회하고, 캐시에 없는 id만 loader로 한 번에 읽어 파이프라인으로 채워 넣는다 (read-through)
+    public Map<Long, Long> getValuesInLongOrLoad(String type, List<Long> ids, Function<List<Long>, Map<Long, Long>> loader, Long expirationTime) {
+        Map<Long, Long> values = getValuesInLong(type, ids);
+        List<Long> missedIds = ids.stream()
+                .filter(id -> !values.containsKey(id))
+                .distinct()
+                .toList();
+
+        if (!missedIds.isEmpty()) {
+            Map<Long, Long> loadedValues = loader.apply(missedIds);
+            storeValues(type, loadedValues, expirationTime);
+            values.putAll(loadedValues);
+        }
+
+        return values;
+    }
+
+    // score가 maxScore 이하인 멤버를 최대 count개 꺼내고 ZSet에서 제거한다
+    public Set<String> popSortedSetMembersUpTo(String key, double maxScore, long count) {
+        List<?> members = redisTemplate.execute(POP_SORTED_SET_MEMBERS_SCRIPT, List.of(key), String.valueOf(maxScore), String.valueOf(count));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return members.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    // 시간 감쇠가 적용되는 ZSet 점수 누적. 기준 시각(epochKey)을 공유하는 ZSet끼리는 점수를 바로 비교할 수 있다
+    public void incrementDecayedScore(String key, String epochKey, String member, double weight, long halfLifeMillis) {
+        redisTemplate.execute(INCREMENT_DECAYED_SCORE_SCRIPT, List.of(key, epochKey),
+                member, String.valueOf(weight), String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis));
+    }
+
+    // 나중에 취소될 수 있는 활동은 활동 시각을 activityTimeKey에 남긴다 (cancelDecayedScore에서 사용)
+    public void incrementDecayedScore(String key, String epochKey, String activityTimeKey, String member, double weight, long halfLifeMillis, long activityTimeExpirationMillis) {
+        redisTemplate.execute(INCREMENT_DECAYED_SCORE_SCRIPT, List.of(key, epochKey, activityTimeKey),
+                member, String.valueOf(weight), String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis), String.valueOf(activityTimeExpirationMillis));
+    }
+
+    // 활동 시각에 더했던 만큼만 점수를 뺀다. 멤버가 없으면 아무것도 하지 않는다
+    public void cancelDecayedScore(String key, String epochKey, String member, double weight, long activityTimeMillis, long halfLifeMillis) {
+        redisTemplate.execute(CANCEL_DECAYED_SCORE_SCRIPT, List.of(key, epochKey),
+                member, String.valueOf(weight), String.valueOf(activityTimeMillis), String.valueOf(halfLifeMillis));
+    }
+
+    // activityTimeKey에 남겨 둔 시각을 기준으로 빼고, 그 키를 지운다. 키가 없으면(기록 전 활동, 만료) 아무것도 하지 않는다
+    public void cancelDecayedScore(String key, String epochKey, String activityTimeKey, String member, double weight, long halfLifeMillis) {
+        redisTemplate.execute(CANCEL_DECAYED_SCORE_SCRIPT, List.of(key, epochKey, activityTimeKey),
+                member, String.valueOf(weight), "", String.valueOf(halfLifeMillis));
+    }
+
+    // 기준 시각을 현재로 옮기며 점수를 감쇠시키고, minScore 미만과 maxSize 초과분을 정리한다
+    public void rebaseDecayedScores(String epochKey, List<String> keys, long halfLifeMillis, double minScore, long maxSize) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 1);
+        scriptKeys.add(epochKey);
+        scriptKeys.addAll(keys);
+        redisTemplate.execute(REBASE_DECAYED_SCORES_SCRIPT, scriptKeys,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis), String.valueOf(minScore), String.valueOf(maxSize));
+    }
+
+    // 점수 내림차순으로 offset부터 최대 count개 (순서 유지)
+    public Map<String, Double> getTopSortedSetMembersWithScores(String key, long offset, long count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + count - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Double> membersWithScores = new LinkedHashMap<>();
+        tuples.forEach(tuple -> membersWithScores.put(tuple.getValue(), tuple.getScore()));
+        return membersWithScores;
+    }
+
+    public void addSortedSetMembers(String key, Map<String, Double> scoresByMember) {
+        if (scoresByMember.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = scoresByMember.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(key, tuples);
+    }
+
+    public void removeSortedSetMember(String key, String member) {
+        redisTemplate.opsForZSet().remove(key, member);
+    }
+
+    public long getSortedSetSize(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size != null ? size : 0L;
+    }
+
     public Set<String> getMembersOfSet(String key) {
         SetOperations<String, String> setOps = redisTemplate.opsForSet();
         return setOps.members(key);
@@ -123,6 +465,27 @@ public class RedisService {
         return redisTemplate.keys(pattern);
     }
 
+    // KEYS 대신 SCAN으로 훑으면서 batchSize개씩 UNLINK 한다 (Redis를 블로킹하지 않음). 삭제한 키 수를 반환
+    public long removeKeysByPattern(String pattern, int batchSize) {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        long removedCount = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    removedCount += Optional.ofNullable(redisTemplate.unlink(batch)).orElse(0L);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            removedCount += Optional.ofNullable(redisTemplate.unlink(batch)).orElse(0L);
+        }
+        return removedCount;
+    }
+
     public RLock getLock(String lockKey) {
         return redissonClient.getLock(lockKey);
     }
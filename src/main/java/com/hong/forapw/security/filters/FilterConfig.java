@@ -1,5 +1,6 @@
 package com.hong.forapw.security.filters;
 
+import com.hong.forapw.admin.VisitorStatService;
 import com.hong.forapw.integration.redis.RedisService;
 import com.hong.forapw.common.utils.JwtUtils;
 import org.springframework.context.annotation.Bean;
@@ -14,7 +15,7 @@ public class FilterConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(RedisService redisService, JwtUtils jwtProvider) {
-        return new JwtAuthenticationFilter(redisService, jwtProvider);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(RedisService redisService, JwtUtils jwtProvider, VisitorStatService visitorStatService) {
+        return new JwtAuthenticationFilter(redisService, jwtProvider, visitorStatService);
     }
 }
\ No newline at end of file
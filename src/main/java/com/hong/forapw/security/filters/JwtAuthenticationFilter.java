@@ -4,6 +4,7 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.hong.forapw.admin.VisitorStatService;
 import com.hong.forapw.common.utils.CookieUtils;
 import com.hong.forapw.domain.user.constant.UserRole;
 import com.hong.forapw.domain.user.entity.User;
@@ -23,26 +24,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 
-import static com.hong.forapw.common.utils.DateTimeUtils.DATE_HOUR_FORMAT;
-import static com.hong.forapw.common.utils.DateTimeUtils.formatLocalDateTime;
-
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final RedisService redisService;
     private final JwtUtils jwtProvider;
+    private final VisitorStatService visitorStatService;
 
     private static final String REFRESH_TOKEN = "refreshToken";
     private static final String ACCESS_TOKEN = "accessToken";
     public static final String TOKEN_PREFIX = "Bearer ";
 
-    public JwtAuthenticationFilter(RedisService redisService, JwtUtils jwtProvider) {
+    public JwtAuthenticationFilter(RedisService redisService, JwtUtils jwtProvider, VisitorStatService visitorStatService) {
         this.redisService = redisService;
         this.jwtProvider = jwtProvider;
+        this.visitorStatService = visitorStatService;
     }
 
     @Override
@@ -120,8 +119,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void recordUserVisit(User user) {
-        String visitKey = "visit" + ":" + formatLocalDateTime(LocalDateTime.now(), DATE_HOUR_FORMAT);
-        redisService.addSetElement(visitKey, user.getId());
+        visitorStatService.recordVisit(user.getId());
     }
 
     private void syncRequestResponseCookies(HttpServletRequest request, HttpServletResponse response) {
@@ -0,0 +1,25 @@
+-- 방문 기록을 visit_tb(방문자별 시간 단위 행)에서 visitor_stat_tb(집계) + user_tb.last_visit_date로 옮길 때 한 번만 실행한다
+-- 새 버전 배포 직후(visitor_stat_tb, last_visit_date 컬럼이 생성된 뒤)에 실행하며, 다시 실행해도 결과는 같다
+
+-- 1. 유저별 마지막 방문 시각
+UPDATE user_tb u
+    JOIN (SELECT user_id, MAX(date) AS last_visit_date FROM visit_tb GROUP BY user_id) v ON v.user_id = u.id
+SET u.last_visit_date = v.last_visit_date
+WHERE u.last_visit_date IS NULL OR u.last_visit_date < v.last_visit_date;
+
+-- 2. 시간별 방문자 수 (배포 시각과 겹치는 구간은 큰 값을 남긴다)
+INSERT INTO visitor_stat_tb (period, period_start, visitor_count)
+SELECT 'HOURLY', DATE_FORMAT(date, '%Y-%m-%d %H:00:00'), COUNT(DISTINCT user_id)
+FROM visit_tb
+GROUP BY DATE_FORMAT(date, '%Y-%m-%d %H:00:00')
+ON DUPLICATE KEY UPDATE visitor_count = GREATEST(visitor_count, VALUES(visitor_count));
+
+-- 3. 일별 방문자 수
+INSERT INTO visitor_stat_tb (period, period_start, visitor_count)
+SELECT 'DAILY', DATE(date), COUNT(DISTINCT user_id)
+FROM visit_tb
+GROUP BY DATE(date)
+ON DUPLICATE KEY UPDATE visitor_count = GREATEST(visitor_count, VALUES(visitor_count));
+
+-- 4. 위 결과를 확인한 뒤에는 visit_tb를 더 이상 읽거나 쓰는 코드가 없으므로 삭제해도 된다
+-- DROP TABLE visit_tb;
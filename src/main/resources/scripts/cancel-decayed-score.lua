@@ -0,0 +1,24 @@
+-- KEYS[1]: 점수를 누적한 ZSet, KEYS[2]: 감쇠 기준 시각 (epoch millis), KEYS[3]: (선택) 원래 활동 시각이 저장된 키
+-- ARGV[1]: 멤버, ARGV[2]: 원래 활동의 가중치, ARGV[3]: 원래 활동 시각 (epoch millis, KEYS[3]이 없을 때), ARGV[4]: 반감기 (millis)
+-- 원래 활동이 더했던 값(가중치 * 2^((활동 시각 - 기준 시각) / 반감기))만 뺀다
+-- 현재 시각 기준으로 빼면 나중의 큰 배율로 빠져서, 좋아요 후 취소만으로 점수가 원래보다 낮아진다
+-- 활동 시각을 모르거나 멤버가 이미 정리된 경우에는 아무것도 하지 않고, 점수가 0 이하가 되면 멤버를 제거한다
+local activityTime = tonumber(ARGV[3])
+if #KEYS >= 3 then
+    activityTime = tonumber(redis.call('GET', KEYS[3]))
+    redis.call('DEL', KEYS[3])
+end
+
+local epoch = tonumber(redis.call('GET', KEYS[2]))
+local score = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]))
+if activityTime == nil or epoch == nil or score == nil then
+    return 0
+end
+
+local contribution = tonumber(ARGV[2]) * 2 ^ ((activityTime - epoch) / tonumber(ARGV[4]))
+if score - contribution <= 0 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+else
+    redis.call('ZINCRBY', KEYS[1], -contribution, ARGV[1])
+end
+return 1
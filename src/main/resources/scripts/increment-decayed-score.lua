@@ -0,0 +1,18 @@
+-- KEYS[1]: 점수를 누적할 ZSet, KEYS[2]: 감쇠 기준 시각 (epoch millis), KEYS[3]: (선택) 활동 시각을 남길 키
+-- ARGV[1]: 멤버, ARGV[2]: 가중치, ARGV[3]: 현재 시각 (epoch millis), ARGV[4]: 반감기 (millis), ARGV[5]: KEYS[3]의 만료 시간 (millis)
+-- 기존 점수를 매번 감쇠시키는 대신, 기준 시각 이후 흐른 시간만큼 새 가중치를 키워서 더한다 (forward decay)
+-- 같은 기준 시각을 쓰는 ZSet끼리는 점수를 그대로 비교할 수 있다
+-- 나중에 취소될 수 있는 활동(좋아요)은 활동 시각을 남겨, 취소 시 더했던 만큼만 뺄 수 있게 한다
+local now = tonumber(ARGV[3])
+local epoch = tonumber(redis.call('GET', KEYS[2]))
+if epoch == nil then
+    epoch = now
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+
+local boost = tonumber(ARGV[2]) * 2 ^ ((now - epoch) / tonumber(ARGV[4]))
+redis.call('ZINCRBY', KEYS[1], boost, ARGV[1])
+if #KEYS >= 3 then
+    redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[5])
+end
+return 1
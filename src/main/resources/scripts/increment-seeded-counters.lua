@@ -0,0 +1,18 @@
+-- KEYS[i]: 카운터
+-- ARGV[1]: 새로 만든 카운터의 만료 시간 (millis), ARGV[2i]: KEYS[i]의 증가분, ARGV[2i+1]: KEYS[i]가 없을 때의 기준값 (모르면 빈 문자열)
+-- 반환값: 카운터별 증가 후 값, 카운터가 없는데 기준값도 없으면 증가시키지 않고 -1
+-- 키 확인, 기준값 채우기, 증가를 한 번에 실행해서 여러 인스턴스가 동시에 채워도 서로의 증가분을 덮어쓰지 않는다
+local results = {}
+for i = 1, #KEYS do
+    local seed = ARGV[2 * i + 1]
+    if redis.call('EXISTS', KEYS[i]) == 0 and seed ~= '' then
+        redis.call('SET', KEYS[i], seed, 'PX', ARGV[1])
+    end
+
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        results[i] = redis.call('INCRBY', KEYS[i], ARGV[2 * i])
+    else
+        results[i] = -1
+    end
+end
+return results
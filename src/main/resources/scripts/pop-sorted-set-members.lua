@@ -0,0 +1,8 @@
+-- KEYS[1]: 꺼낼 ZSet
+-- ARGV[1]: 최대 점수 (이 값 이하만 꺼낸다), ARGV[2]: 최대 개수
+-- 조회와 삭제를 한 번에 실행해서, 조회 후 같은 멤버가 더 큰 점수로 다시 추가된 경우를 지우지 않는다
+local members = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+if #members > 0 then
+    redis.call('ZREM', KEYS[1], unpack(members))
+end
+return members
@@ -0,0 +1,26 @@
+-- KEYS[1]: 감쇠 기준 시각 (epoch millis), KEYS[2..n]: 같은 기준 시각을 쓰는 ZSet들
+-- ARGV[1]: 현재 시각 (epoch millis), ARGV[2]: 반감기 (millis), ARGV[3]: 최소 점수, ARGV[4]: ZSet별 최대 보관 개수
+-- 기준 시각을 현재로 옮기면서 모든 점수를 흐른 시간만큼 감쇠시킨다 (새 가중치가 끝없이 커지는 것을 방지)
+-- 이후 최소 점수 미만인 멤버와 최대 보관 개수를 넘는 하위 멤버를 정리한다
+local now = tonumber(ARGV[1])
+local epoch = tonumber(redis.call('GET', KEYS[1]))
+local factor = nil
+if epoch ~= nil and now > epoch then
+    factor = 2 ^ (-(now - epoch) / tonumber(ARGV[2]))
+end
+
+local maxSize = tonumber(ARGV[4])
+for i = 2, #KEYS do
+    if factor ~= nil and redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', factor)
+    end
+    redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. ARGV[3])
+
+    local size = redis.call('ZCARD', KEYS[i])
+    if size > maxSize then
+        redis.call('ZREMRANGEBYRANK', KEYS[i], 0, size - maxSize - 1)
+    end
+end
+
+redis.call('SET', KEYS[1], ARGV[1])
+return #KEYS - 1
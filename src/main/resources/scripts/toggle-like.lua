@@ -0,0 +1,22 @@
+-- KEYS[1]: 사용자가 좋아요한 대상 Set, KEYS[2]: 대상의 좋아요 수 카운터, KEYS[3]: 정합성 검사 대기열 (ZSet)
+-- KEYS[4]: (유저, 대상) 쌍의 정합성 검사 대기열 (ZSet)
+-- ARGV[1]: 대상 id, ARGV[2]: 현재 시각 (epoch millis), ARGV[3]: KEYS[4]에 기록할 (유저, 대상) 멤버
+-- 반환값: 1 = 좋아요 추가, 0 = 좋아요 취소
+-- 카운터가 없으면(만료 등) 새로 만들지 않고, 다음 조회 시 DB에서 다시 채우도록 둔다
+redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+redis.call('ZADD', KEYS[4], ARGV[2], ARGV[3])
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    redis.call('SREM', KEYS[1], ARGV[1])
+    local count = tonumber(redis.call('GET', KEYS[2]))
+    if count ~= nil and count > 0 then
+        redis.call('DECR', KEYS[2])
+    end
+    return 0
+end
+
+redis.call('SADD', KEYS[1], ARGV[1])
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('INCR', KEYS[2])
+end
+return 1
@@ -0,0 +1,51 @@
+package com.hong.forapw.admin.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HourlyVisitGuardTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    private final HourlyVisitGuard guard = new HourlyVisitGuard();
+
+    @Test
+    void 같은_시간에는_유저당_한_번만_통과() {
+        assertThat(guard.markFirstVisit(HOUR, 1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, 1L)).isFalse();
+        assertThat(guard.markFirstVisit(HOUR, 2L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, 64L)).isTrue(); // 다음 word의 첫 비트
+        assertThat(guard.markFirstVisit(HOUR, 64L)).isFalse();
+    }
+
+    @Test
+    void 시간이_바뀌면_다시_통과() {
+        guard.markFirstVisit(HOUR, 1L);
+
+        assertThat(guard.markFirstVisit(HOUR.plusHours(1), 1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR.plusHours(1), 1L)).isFalse();
+    }
+
+    @Test
+    void 지나간_시간의_요청은_거르지_않음() {
+        guard.markFirstVisit(HOUR.plusHours(1), 1L);
+
+        // 시간 경계에서 늦게 도착한 요청이 새 비트셋을 되돌리지 않는다
+        assertThat(guard.markFirstVisit(HOUR, 1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, 1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR.plusHours(1), 1L)).isFalse();
+    }
+
+    @Test
+    void 범위를_벗어난_id는_항상_통과() {
+        assertThat(guard.markFirstVisit(HOUR, -1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, -1L)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, 1L << 22)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, 1L << 22)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, (1L << 22) - 1)).isTrue();
+        assertThat(guard.markFirstVisit(HOUR, (1L << 22) - 1)).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.hong.forapw.common.model;
+
+import com.hong.forapw.common.exceptions.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789);
+
+    private record Row(LocalDateTime date, long id) {
+    }
+
+    @Test
+    void 인코딩_후_디코딩하면_같은_커서() {
+        KeysetCursor cursor = KeysetCursor.of(DATE, 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.longId()).isEqualTo(42L);
+        assertThat(decoded.isFirst()).isFalse();
+    }
+
+    @Test
+    void 인코딩_결과는_URL에_안전하고_패딩이_없음() {
+        String encoded = KeysetCursor.of(DATE, "a|b?c").encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+        assertThat(KeysetCursor.decode(encoded).id()).isEqualTo("a|b?c");
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(KeysetCursor.decode(null).isFirst()).isTrue();
+        assertThat(KeysetCursor.decode(" ").isFirst()).isTrue();
+        assertThat(KeysetCursor.decode(null).longId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(KeysetCursor.decode(null).date()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void 잘못된_커서는_예외() {
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw("2024-05-01T12:30:15"))).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw("yesterday|1"))).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw("2024-05-01T12:30:15|abc")).longId()).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void 다음_페이지가_있을_때만_마지막_행의_커서를_반환() {
+        List<Row> rows = List.of(new Row(DATE, 3L), new Row(DATE.minusSeconds(1), 2L));
+
+        String next = KeysetCursor.encodeNext(new SliceImpl<>(rows, PageRequest.of(0, 2), true), this::toCursor);
+
+        assertThat(KeysetCursor.decode(next)).isEqualTo(KeysetCursor.of(DATE.minusSeconds(1), 2L));
+        assertThat(KeysetCursor.encodeNext(new SliceImpl<>(rows, PageRequest.of(0, 2), false), this::toCursor)).isNull();
+        assertThat(KeysetCursor.encodeNext(new SliceImpl<>(List.<Row>of(), PageRequest.of(0, 2), true), this::toCursor)).isNull();
+    }
+
+    @Test
+    void 작성_시각이_같아도_id로_구분되어_누락이나_중복_없이_순회() {
+        // 같은 시각에 여러 행이 몰려 있어 페이지 경계가 그 사이에 걸리도록 만든다
+        List<Row> table = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            table.add(new Row(DATE, id));
+        }
+        table.add(new Row(DATE.minusSeconds(1), 8L));
+        table.add(new Row(DATE.plusSeconds(1), 9L));
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            SliceImpl<Row> slice = findBefore(table, KeysetCursor.decode(cursor), 3);
+            slice.getContent().forEach(row -> visited.add(row.id()));
+            cursor = KeysetCursor.encodeNext(slice, this::toCursor);
+        } while (cursor != null);
+
+        assertThat(visited).containsExactly(9L, 7L, 6L, 5L, 4L, 3L, 2L, 1L, 8L);
+    }
+
+    // PostRepository의 (createdDate < :date OR (createdDate = :date AND id < :id)) ORDER BY createdDate DESC, id DESC 와 같은 조건
+    private SliceImpl<Row> findBefore(List<Row> table, KeysetCursor cursor, int size) {
+        List<Row> matched = table.stream()
+                .filter(row -> row.date().isBefore(cursor.date())
+                        || (row.date().isEqual(cursor.date()) && row.id() < cursor.longId()))
+                .sorted(Comparator.comparing(Row::date).thenComparing(Row::id).reversed())
+                .limit(size + 1L)
+                .toList();
+
+        boolean hasNext = matched.size() > size;
+        return new SliceImpl<>(hasNext ? matched.subList(0, size) : matched, PageRequest.of(0, size), hasNext);
+    }
+
+    private KeysetCursor toCursor(Row row) {
+        return KeysetCursor.of(row.date(), row.id());
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.hong.forapw.domain.home;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HomeSectionFetcherTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 섹션_정상_완료() {
+        HomeSectionFetcher fetcher = new HomeSectionFetcher(executor);
+
+        CompletableFuture<List<String>> section = fetcher.fetch(() -> List.of("a"), 1000, "테스트");
+
+        assertThat(section.join()).containsExactly("a");
+    }
+
+    @Test
+    void 섹션_제한시간_초과시_null() {
+        HomeSectionFetcher fetcher = new HomeSectionFetcher(executor);
+
+        CompletableFuture<List<String>> section = fetcher.fetch(() -> {
+            awaitRelease();
+            return List.of("late");
+        }, 50, "테스트");
+
+        assertThat(section.join()).isNull();
+    }
+
+    @Test
+    void 섹션_예외시_null() {
+        HomeSectionFetcher fetcher = new HomeSectionFetcher(executor);
+
+        CompletableFuture<List<String>> section = fetcher.fetch(() -> {
+            throw new IllegalStateException("실패");
+        }, 1000, "테스트");
+
+        assertThat(section.join()).isNull();
+    }
+
+    @Test
+    void 작업_풀_포화로_거절되면_예외_없이_null() {
+        HomeSectionFetcher fetcher = new HomeSectionFetcher(command -> {
+            throw new RejectedExecutionException("포화");
+        });
+
+        CompletableFuture<List<String>> section = fetcher.fetch(() -> List.of("a"), 1000, "테스트");
+
+        assertThat(section).isCompleted();
+        assertThat(section.join()).isNull();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
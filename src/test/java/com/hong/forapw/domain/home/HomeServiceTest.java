@@ -0,0 +1,140 @@
+package com.hong.forapw.domain.home;
+
+import com.hong.forapw.domain.animal.AnimalService;
+import com.hong.forapw.domain.animal.repository.AnimalRepository;
+import com.hong.forapw.domain.group.repository.FavoriteGroupRepository;
+import com.hong.forapw.domain.group.service.GroupService;
+import com.hong.forapw.domain.home.model.HomeResponse;
+import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.post.repository.PopularPostRepository;
+import com.hong.forapw.domain.post.service.PopularPostRankingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HomeServiceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @Mock
+    private PopularPostRepository popularPostRepository;
+
+    @Mock
+    private PopularPostRankingService popularPostRankingService;
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private AnimalService animalService;
+
+    @Mock
+    private FavoriteGroupRepository favoriteGroupRepository;
+
+    @Mock
+    private HomeCacheService homeCacheService;
+
+    @Mock
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @Spy
+    private HomeSectionFetcher homeSectionFetcher = new HomeSectionFetcher(executor);
+
+    @InjectMocks
+    private HomeService homeService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 캐시된_홈_화면이_있으면_섹션을_조회하지_않는다() {
+        HomeResponse.FindHomeDTO cachedHome = new HomeResponse.FindHomeDTO(List.of(), List.of(), List.of());
+        when(homeCacheService.getHome(1L)).thenReturn(Optional.of(cachedHome));
+
+        HomeResponse.FindHomeDTO home = homeService.findHomePageData(1L);
+
+        assertThat(home).isSameAs(cachedHome);
+        verifyNoInteractions(animalService, groupService, popularPostRankingService, homeSectionFetcher);
+    }
+
+    @Test
+    void 모든_섹션이_성공하면_캐싱한다() {
+        stubSections();
+        when(animalService.findRecommendedAnimalIds(null)).thenReturn(List.of(1L));
+
+        HomeResponse.FindHomeDTO home = homeService.findHomePageData(null);
+
+        verify(animalRepository).findByIds(List.of(1L));
+        verify(animalService, never()).findLatestAnimalIds();
+        verify(homeCacheService).cacheHome(null, home);
+    }
+
+    @Test
+    void 추천_서버가_늦으면_최신_동물로_대체하고_캐싱하지_않는다() {
+        stubSections();
+        when(animalService.findRecommendedAnimalIds(null)).thenAnswer(invocation -> {
+            release.await();
+            return List.of(1L);
+        });
+        when(animalService.findLatestAnimalIds()).thenReturn(List.of(2L));
+
+        HomeResponse.FindHomeDTO home = homeService.findHomePageData(null);
+
+        assertThat(home.animals()).isEmpty();
+        verify(animalRepository).findByIds(List.of(2L));
+        verify(homeCacheService, never()).cacheHome(any(), any());
+    }
+
+    @Test
+    void 그룹_섹션이_실패하면_빈_목록으로_대체하고_캐싱하지_않는다() {
+        stubSections();
+        when(animalService.findRecommendedAnimalIds(null)).thenReturn(List.of(1L));
+        when(groupService.findRecommendGroups(any(), any(), anyList())).thenThrow(new IllegalStateException("실패"));
+
+        HomeResponse.FindHomeDTO home = homeService.findHomePageData(null);
+
+        assertThat(home.groups()).isEmpty();
+        verify(homeCacheService, never()).cacheHome(any(), any());
+    }
+
+    private void stubSections() {
+        when(homeCacheService.getHome(null)).thenReturn(Optional.empty());
+        when(readOnlyTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(animalRepository.findByIds(anyList())).thenReturn(Collections.emptyList());
+        when(popularPostRepository.findAllWithPost(any())).thenReturn(Page.empty());
+    }
+}
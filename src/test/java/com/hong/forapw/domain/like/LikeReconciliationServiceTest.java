@@ -0,0 +1,115 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.domain.like.model.LikeKey;
+import com.hong.forapw.domain.like.repository.LikeJdbcRepository;
+import com.hong.forapw.integration.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeReconciliationServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private LikeJdbcRepository likeJdbcRepository;
+
+    private LikeReconciliationService likeReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        likeReconciliationService = new LikeReconciliationService(redisService, likeJdbcRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 캐시된_카운터만_DB_기준으로_보정() {
+        String prefix = LikeTarget.POST.getLikeCountKeyPrefix();
+        givenDirtyIds(LikeTarget.POST, Set.of("3", "1", "2", "4"));
+        // 1: 일치, 2: 캐시가 더 큼, 3: 캐시가 더 작음, 4: 캐시에 없음
+        when(likeJdbcRepository.countLikes(LikeTarget.POST, List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, 5L, 3L, 2L, 4L, 9L));
+        when(redisService.getValuesInLong(prefix, List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, 5L, 2L, 1L, 3L, 1L));
+
+        likeReconciliationService.reconcileLikeCounts();
+
+        assertThat(storedRepairs(prefix)).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 0L, 3L, 2L));
+    }
+
+    @Test
+    void 모두_일치하거나_캐시에_없으면_보정하지_않음() {
+        String prefix = LikeTarget.COMMENT.getLikeCountKeyPrefix();
+        givenDirtyIds(LikeTarget.COMMENT, Set.of("7", "8"));
+        when(likeJdbcRepository.countLikes(LikeTarget.COMMENT, List.of(7L, 8L))).thenReturn(Map.of(7L, 3L, 8L, 4L));
+        when(redisService.getValuesInLong(prefix, List.of(7L, 8L))).thenReturn(Map.of(7L, 3L));
+
+        likeReconciliationService.reconcileLikeCounts();
+
+        assertThat(storedRepairs(prefix)).isEmpty();
+    }
+
+    @Test
+    void 유저_좋아요_Set을_DB의_좋아요_여부로_보정() {
+        givenDirtyMembers(LikeTarget.POST, Set.of("7:1", "8:1", "7:2"));
+        // (7, 1)만 DB에 반영되어 있고, 나머지는 반영 전에 유실되었거나 취소된 좋아요
+        when(likeJdbcRepository.findExistingLikes(eq(LikeTarget.POST), anyList()))
+                .thenReturn(Set.of(new LikeKey(LikeTarget.POST, 1L, 7L)));
+        when(redisService.addAndRemoveSetMembers(anyMap(), anyMap())).thenReturn(1L);
+
+        likeReconciliationService.reconcileLikeCounts();
+
+        ArgumentCaptor<Map<String, List<String>>> additions = mapCaptor();
+        ArgumentCaptor<Map<String, List<String>>> removals = mapCaptor();
+        verify(redisService).addAndRemoveSetMembers(additions.capture(), removals.capture());
+        assertThat(additions.getValue()).containsOnlyKeys("user:7:liked_posts");
+        assertThat(additions.getValue().get("user:7:liked_posts")).containsExactly("1");
+        assertThat(removals.getValue()).containsOnlyKeys("user:7:liked_posts", "user:8:liked_posts");
+        assertThat(removals.getValue().get("user:7:liked_posts")).containsExactly("2");
+        assertThat(removals.getValue().get("user:8:liked_posts")).containsExactly("1");
+    }
+
+    private void givenDirtyMembers(LikeTarget dirtyTarget, Set<String> members) {
+        when(redisService.popSortedSetMembersUpTo(anyString(), anyDouble(), anyLong())).thenReturn(Collections.emptySet());
+        when(redisService.popSortedSetMembersUpTo(eq(dirtyTarget.getMembershipDirtyKey()), anyDouble(), anyLong()))
+                .thenReturn(members, Collections.emptySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Map<String, List<String>>> mapCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+
+    private void givenDirtyIds(LikeTarget dirtyTarget, Set<String> ids) {
+        when(redisService.popSortedSetMembersUpTo(anyString(), anyDouble(), anyLong())).thenReturn(Collections.emptySet());
+        when(redisService.popSortedSetMembersUpTo(eq(dirtyTarget.getDirtyKey()), anyDouble(), anyLong()))
+                .thenReturn(ids, Collections.emptySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> storedRepairs(String prefix) {
+        ArgumentCaptor<Map<Long, Long>> repairs = ArgumentCaptor.forClass(Map.class);
+        verify(redisService).storeValues(eq(prefix), repairs.capture(), anyLong());
+        return repairs.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.hong.forapw.domain.like;
+
+import com.hong.forapw.domain.like.model.LikeKey;
+import com.hong.forapw.domain.like.repository.LikeJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBehindServiceTest {
+
+    @Mock
+    private LikeJdbcRepository likeJdbcRepository;
+
+    private LikeWriteBehindService likeWriteBehindService;
+
+    @BeforeEach
+    void setUp() {
+        likeWriteBehindService = new LikeWriteBehindService(likeJdbcRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 한_주기_안에서_좋아요_후_취소하면_DB에_쓰지_않음() {
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, true);
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, false);
+
+        likeWriteBehindService.flushPendingLikes();
+
+        verifyNoInteractions(likeJdbcRepository);
+    }
+
+    @Test
+    void 여러_번_토글하면_마지막_상태만_반영() {
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, true);
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, false);
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, true);
+        likeWriteBehindService.enqueue(LikeTarget.COMMENT, 2L, 7L, false);
+
+        likeWriteBehindService.flushPendingLikes();
+
+        verify(likeJdbcRepository).batchInsert(LikeTarget.POST, List.of(new LikeKey(LikeTarget.POST, 1L, 7L)));
+        verify(likeJdbcRepository).batchDelete(LikeTarget.COMMENT, List.of(new LikeKey(LikeTarget.COMMENT, 2L, 7L)));
+    }
+
+    @Test
+    void 반영된_변경은_다음_주기에_다시_쓰지_않음() {
+        likeWriteBehindService.enqueue(LikeTarget.GROUP, 3L, 7L, true);
+        likeWriteBehindService.flushPendingLikes();
+
+        likeWriteBehindService.flushPendingLikes();
+
+        verify(likeJdbcRepository).batchInsert(LikeTarget.GROUP, List.of(new LikeKey(LikeTarget.GROUP, 3L, 7L)));
+    }
+
+    @Test
+    void 실패한_배치는_다음_주기에_재시도() {
+        List<LikeKey> likeKeys = List.of(new LikeKey(LikeTarget.ANIMAL, 4L, 7L));
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .doNothing()
+                .when(likeJdbcRepository).batchInsert(LikeTarget.ANIMAL, likeKeys);
+        likeWriteBehindService.enqueue(LikeTarget.ANIMAL, 4L, 7L, true);
+
+        likeWriteBehindService.flushPendingLikes();
+        likeWriteBehindService.flushPendingLikes();
+
+        verify(likeJdbcRepository, times(2)).batchInsert(LikeTarget.ANIMAL, likeKeys);
+    }
+
+    @Test
+    void 종료_시_남은_버퍼를_DB에_반영() {
+        doNothing().when(likeJdbcRepository).batchInsert(any(), anyList());
+        likeWriteBehindService.enqueue(LikeTarget.POST, 1L, 7L, true);
+        likeWriteBehindService.enqueue(LikeTarget.POST, 2L, 7L, true);
+
+        likeWriteBehindService.drainOnShutdown();
+
+        verify(likeJdbcRepository).batchInsert(eq(LikeTarget.POST), argThat(likeKeys -> likeKeys.size() == 2));
+        verify(likeJdbcRepository, never()).batchDelete(any(), anyList());
+    }
+}
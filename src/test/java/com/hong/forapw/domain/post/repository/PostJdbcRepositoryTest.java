@@ -0,0 +1,84 @@
+package com.hong.forapw.domain.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostJdbcRepository postJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        postJdbcRepository = new PostJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    void 조회수를_CASE_문_하나로_덮어씀() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+        Map<Long, Long> readCounts = new LinkedHashMap<>();
+        readCounts.put(1L, 10L);
+        readCounts.put(2L, 20L);
+
+        int updatedRows = postJdbcRepository.updateReadCounts(readCounts);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertThat(updatedRows).isEqualTo(2);
+        assertThat(sql.getValue()).isEqualTo("UPDATE post_tb SET read_cnt = CASE id WHEN ? THEN ? WHEN ? THEN ? ELSE read_cnt END WHERE id IN (?, ?)");
+        assertThat(params.getValue()).containsExactly(1L, 10L, 2L, 20L, 1L, 2L);
+    }
+
+    @Test
+    void 청크_크기를_넘으면_문장을_나눠서_실행() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(500, 1);
+        Map<Long, Long> readCounts = new LinkedHashMap<>();
+        for (long postId = 1; postId <= 501; postId++) {
+            readCounts.put(postId, postId * 10);
+        }
+
+        int updatedRows = postJdbcRepository.updateReadCounts(readCounts);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), params.capture());
+        List<String> statements = sql.getAllValues();
+        assertThat(countOccurrences(statements.get(0), "WHEN ? THEN ?")).isEqualTo(500);
+        assertThat(countOccurrences(statements.get(1), "WHEN ? THEN ?")).isEqualTo(1);
+        assertThat(params.getAllValues().get(1)).containsExactly(501L, 5010L, 501L);
+        assertThat(updatedRows).isEqualTo(501);
+    }
+
+    @Test
+    void 반영할_조회수가_없으면_쿼리를_실행하지_않음() {
+        assertThat(postJdbcRepository.updateReadCounts(Map.of())).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private int countOccurrences(String text, String token) {
+        return text.split(Pattern.quote(token), -1).length - 1;
+    }
+}
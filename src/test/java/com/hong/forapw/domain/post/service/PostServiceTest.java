@@ -0,0 +1,160 @@
+package com.hong.forapw.domain.post.service;
+
+import com.hong.forapw.domain.like.LikeService;
+import com.hong.forapw.domain.like.LikeTarget;
+import com.hong.forapw.domain.post.constant.PostType;
+import com.hong.forapw.domain.post.entity.Comment;
+import com.hong.forapw.domain.post.entity.Post;
+import com.hong.forapw.domain.post.model.PostResponse;
+import com.hong.forapw.domain.post.repository.CommentRepository;
+import com.hong.forapw.domain.post.repository.PostRepository;
+import com.hong.forapw.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long USER_ID = 7L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private PostViewCountService postViewCountService;
+
+    @Mock
+    private PostCacheService postCacheService;
+
+    @InjectMocks
+    private PostService postService;
+
+    private User writer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = User.builder().id(USER_ID).nickName("작성자").build();
+        post = Post.builder().user(writer).postType(PostType.ADOPTION).title("제목").content("내용").build();
+        when(postRepository.findByIdWithUser(POST_ID)).thenReturn(Optional.of(post));
+    }
+
+    @Test
+    void 삭제된_부모_댓글도_살아_있는_대댓글과_함께_보인다() {
+        Comment parent = comment(10L, null, 0, true);
+        Comment reply = comment(11L, parent, 1, false);
+        givenComments(List.of(parent, reply), Set.of(), Map.of());
+
+        List<PostResponse.CommentDTO> comments = findComments();
+
+        assertThat(comments).extracting(PostResponse.CommentDTO::id).containsExactly(10L);
+        assertThat(comments.get(0).replies()).extracting(PostResponse.ReplyDTO::id).containsExactly(11L);
+    }
+
+    @Test
+    void 삭제된_대댓글은_마지막이면_숨기고_뒤에_살아_있는_대댓글이_있으면_남긴다() {
+        Comment parent = comment(10L, null, 0, true);
+        Comment deletedReply = comment(11L, parent, 1, true);
+        Comment aliveReply = comment(12L, parent, 2, false);
+        Comment deletedFinalReply = comment(13L, parent, 3, true);
+        givenComments(List.of(parent, deletedReply, aliveReply, deletedFinalReply), Set.of(), Map.of());
+
+        List<PostResponse.CommentDTO> comments = findComments();
+
+        assertThat(comments.get(0).replies()).extracting(PostResponse.ReplyDTO::id).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void 살아_있는_대댓글이_없으면_삭제된_대댓글은_모두_숨긴다() {
+        Comment parent = comment(10L, null, 0, true);
+        Comment firstDeletedReply = comment(11L, parent, 1, true);
+        Comment secondDeletedReply = comment(12L, parent, 2, true);
+        givenComments(List.of(parent, firstDeletedReply, secondDeletedReply), Set.of(), Map.of());
+
+        List<PostResponse.CommentDTO> comments = findComments();
+
+        assertThat(comments).extracting(PostResponse.CommentDTO::id).containsExactly(10L);
+        assertThat(comments.get(0).replies()).isEmpty();
+    }
+
+    @Test
+    void 부모_댓글이_목록에_없는_대댓글은_버린다() {
+        Comment missingParent = comment(9L, null, 0, false);
+        Comment parent = comment(10L, null, 1, false);
+        Comment orphanReply = comment(11L, missingParent, 2, false);
+        givenComments(List.of(parent, orphanReply), Set.of(), Map.of());
+
+        List<PostResponse.CommentDTO> comments = findComments();
+
+        assertThat(comments).extracting(PostResponse.CommentDTO::id).containsExactly(10L);
+        assertThat(comments.get(0).replies()).isEmpty();
+    }
+
+    @Test
+    void 좋아요_여부와_좋아요_수를_댓글마다_채운다() {
+        Comment likedParent = comment(10L, null, 0, false);
+        Comment likedReply = comment(11L, likedParent, 1, false);
+        Comment otherParent = comment(20L, null, 2, false);
+        givenComments(List.of(likedParent, likedReply, otherParent), Set.of(10L, 11L), Map.of(10L, 3L, 11L, 1L));
+
+        List<PostResponse.CommentDTO> comments = findComments();
+
+        assertThat(comments).extracting(PostResponse.CommentDTO::id, PostResponse.CommentDTO::isLike, PostResponse.CommentDTO::likeNum)
+                .containsExactly(
+                        tuple(10L, true, 3L),
+                        tuple(20L, false, 0L));
+        assertThat(comments.get(0).replies()).extracting(PostResponse.ReplyDTO::isLike, PostResponse.ReplyDTO::likeNum)
+                .containsExactly(tuple(true, 1L));
+        verify(likeService).findLikedIds(LikeTarget.COMMENT, USER_ID, List.of(10L, 11L, 20L));
+    }
+
+    private List<PostResponse.CommentDTO> findComments() {
+        return postService.findPostById(POST_ID, USER_ID).comments();
+    }
+
+    private void givenComments(List<Comment> comments, Set<Long> likedCommentIds, Map<Long, Long> likeCounts) {
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        when(commentRepository.findByPostIdWithUserAndParentAndRemoved(POST_ID)).thenReturn(comments);
+        when(likeService.findLikedIds(LikeTarget.COMMENT, USER_ID, commentIds)).thenReturn(likedCommentIds);
+        when(likeService.getLikeCounts(eq(LikeTarget.COMMENT), anyCollection())).thenReturn(likeCounts);
+    }
+
+    private Comment comment(Long id, Comment parent, int minutesAfterBase, boolean isDeleted) {
+        Comment comment = Comment.builder().user(writer).post(post).content("댓글 " + id).build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdDate", BASE_TIME.plusMinutes(minutesAfterBase));
+        if (parent != null) {
+            comment.updateParent(parent);
+        }
+        if (isDeleted) {
+            ReflectionTestUtils.setField(comment, "removedAt", BASE_TIME.plusDays(1));
+        }
+        return comment;
+    }
+}
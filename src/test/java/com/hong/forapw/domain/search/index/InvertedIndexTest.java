@@ -0,0 +1,80 @@
+package com.hong.forapw.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void 부분_문자열로_검색됨() {
+        index.upsert(1L, "강아지입양 후기");
+        index.upsert(2L, "고양이 임시보호");
+
+        assertThat(index.search("입양", 0, 10)).containsExactly(1L);
+        assertThat(index.search("임시", 0, 10)).containsExactly(2L);
+        assertThat(index.search("고", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void 검색어의_모든_term을_포함한_문서만_반환() {
+        index.upsert(1L, "강아지 입양");
+        index.upsert(2L, "강아지 산책");
+
+        assertThat(index.search("강아지 입양", 0, 10)).containsExactly(1L);
+        assertThat(index.search("강아지 목욕", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void 검색어가_많이_나온_문서가_먼저() {
+        index.upsert(1L, "입양 공고 안내");
+        index.upsert(2L, "입양 입양 입양 공고");
+        index.upsert(3L, "산책 모임");
+
+        assertThat(index.search("입양", 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 같은_빈도면_짧은_문서가_먼저() {
+        index.upsert(1L, "입양 공고 안내 및 보호소 위치와 연락처 정리");
+        index.upsert(2L, "입양 공고");
+
+        assertThat(index.search("입양", 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 드문_term이_여러_번_나온_문서가_먼저() {
+        index.upsert(1L, "분양 분양 사진");
+        index.upsert(2L, "분양 사진 사진");
+        index.upsert(3L, "사진 모음");
+        index.upsert(4L, "사진 공유");
+
+        // "사진"보다 드문 "분양"의 idf가 커서, 길이가 같으면 "분양"을 더 많이 가진 문서가 앞선다
+        assertThat(index.search("분양 사진", 0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 점수가_같으면_id_오름차순이고_offset_limit을_적용() {
+        index.upsert(3L, "입양");
+        index.upsert(1L, "입양");
+        index.upsert(2L, "입양");
+
+        assertThat(index.search("입양", 0, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("입양", 1, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_반영됨() {
+        index.upsert(1L, "강아지 입양");
+        index.upsert(1L, "고양이 입양");
+
+        assertThat(index.search("강아지", 0, 10)).isEmpty();
+        assertThat(index.search("고양이", 0, 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("입양", 0, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,36 @@
+package com.hong.forapw.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchAnalyzerTest {
+
+    @Test
+    void 색인은_글자_unigram과_bigram() {
+        assertThat(SearchAnalyzer.analyzeForIndex("강아지"))
+                .containsExactly("강", "강아", "아", "아지", "지");
+    }
+
+    @Test
+    void 검색어는_bigram만_쓰고_한_글자_단어는_unigram() {
+        assertThat(SearchAnalyzer.analyzeForQuery("강아지입양")).containsExactly("강아", "아지", "지입", "입양");
+        assertThat(SearchAnalyzer.analyzeForQuery("개")).containsExactly("개");
+    }
+
+    @Test
+    void 공백과_문장부호로_단어를_나누고_bigram은_단어를_넘지_않음() {
+        assertThat(SearchAnalyzer.analyzeForQuery("고양이, 입양!")).containsExactly("고양", "양이", "입양");
+    }
+
+    @Test
+    void 전각_문자와_대문자를_정규화() {
+        assertThat(SearchAnalyzer.analyzeForQuery("ＣＡＴ")).containsExactly("ca", "at");
+    }
+
+    @Test
+    void 빈_텍스트는_빈_결과() {
+        assertThat(SearchAnalyzer.analyzeForIndex(null)).isEmpty();
+        assertThat(SearchAnalyzer.analyzeForQuery("  ,, ")).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.hong.forapw.domain.shelter;
+
+import com.hong.forapw.integration.geocoding.model.Coordinates;
+import com.hong.forapw.integration.geocoding.service.CachedGeocodingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShelterServiceTest {
+
+    @Mock
+    private ShelterRepository shelterRepository;
+
+    @Mock
+    private CachedGeocodingService cachedGeocodingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ShelterService shelterService;
+
+    @Test
+    void 좌표를_모두_구한_뒤_트랜잭션을_열어_반영한다() {
+        Shelter geocoded = Shelter.builder().id(1L).careAddr("대구광역시 중구 동덕로 115").build();
+        Shelter failed = Shelter.builder().id(2L).careAddr("주소 없음").build();
+        when(shelterRepository.findSheltersToGeocode()).thenReturn(List.of(geocoded, failed));
+        when(cachedGeocodingService.resolveAll(List.of("대구광역시 중구 동덕로 115", "주소 없음")))
+                .thenReturn(Map.of("대구광역시 중구 동덕로 115", new Coordinates(35.86, 128.60)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        shelterService.updateShelterAddresses();
+
+        InOrder inOrder = inOrder(cachedGeocodingService, transactionTemplate, shelterRepository);
+        inOrder.verify(cachedGeocodingService).resolveAll(any());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(shelterRepository).updateAddressInfo(35.86, 128.60, "대구광역시 중구 동덕로 115", 1L);
+        verify(shelterRepository, never()).updateAddressInfo(anyDouble(), anyDouble(), anyString(), eq(2L));
+    }
+
+    @Test
+    void 지오코딩할_보호소가_없으면_트랜잭션을_열지_않는다() {
+        when(shelterRepository.findSheltersToGeocode()).thenReturn(List.of());
+
+        shelterService.updateShelterAddresses();
+
+        verifyNoInteractions(cachedGeocodingService, transactionTemplate);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hong.forapw.domain.shelter.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedResponseTest {
+
+    private final EncodedResponse response = EncodedResponse.of("{}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void 같은_태그면_일치() {
+        assertThat(response.matches(response.eTag())).isTrue();
+        assertThat(response.matches("W/" + response.eTag())).isTrue();
+    }
+
+    @Test
+    void 나열된_태그_중_하나라도_같으면_일치() {
+        assertThat(response.matches("\"other\", " + response.eTag())).isTrue();
+        assertThat(response.matches("\"other\",W/" + response.eTag() + " , \"another\"")).isTrue();
+    }
+
+    @Test
+    void 별표는_항상_일치() {
+        assertThat(response.matches("*")).isTrue();
+    }
+
+    @Test
+    void 다른_태그나_빈_헤더는_불일치() {
+        assertThat(response.matches(null)).isFalse();
+        assertThat(response.matches("")).isFalse();
+        assertThat(response.matches("\"other\", W/\"another\"")).isFalse();
+    }
+}
@@ -0,0 +1,105 @@
+package com.hong.forapw.domain.shelter.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShelterGeoIndexTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void 최근접_검색이_전수_비교와_같음() {
+        List<ShelterResponse.ShelterDTO> shelters = createShelters(2000, 33.0, 38.5, 124.5, 131.0);
+        ShelterGeoIndex index = ShelterGeoIndex.build(shelters);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lng = 124.5 + random.nextDouble() * 6.5;
+            int limit = 1 + random.nextInt(30);
+
+            assertThat(ids(index.findNearest(lat, lng, limit))).isEqualTo(ids(bruteForce(shelters, lat, lng, Double.MAX_VALUE, limit)));
+        }
+    }
+
+    @Test
+    void 반경_검색이_전수_비교와_같음() {
+        List<ShelterResponse.ShelterDTO> shelters = createShelters(2000, 33.0, 38.5, 124.5, 131.0);
+        ShelterGeoIndex index = ShelterGeoIndex.build(shelters);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lng = 124.5 + random.nextDouble() * 6.5;
+            double radiusKm = random.nextDouble() * 50;
+            int limit = 1 + random.nextInt(100);
+
+            assertThat(ids(index.findWithinRadius(lat, lng, radiusKm, limit))).isEqualTo(ids(bruteForce(shelters, lat, lng, radiusKm, limit)));
+        }
+    }
+
+    @Test
+    void 경도_180도_경계를_넘어서도_가까운_보호소를_찾음() {
+        List<ShelterResponse.ShelterDTO> shelters = List.of(
+                shelter(1L, 0.0, 179.9),
+                shelter(2L, 0.0, -179.9),
+                shelter(3L, 0.0, 170.0)
+        );
+        ShelterGeoIndex index = ShelterGeoIndex.build(shelters);
+
+        assertThat(ids(index.findNearest(0.0, -179.95, 2))).containsExactly(2L, 1L);
+        assertThat(ids(index.findWithinRadius(0.0, 180.0, 50, 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 좌표가_없는_보호소는_제외하고_빈_인덱스는_빈_결과() {
+        ShelterGeoIndex index = ShelterGeoIndex.build(List.of(
+                shelter(1L, 35.0, 128.0),
+                new ShelterResponse.ShelterDTO(2L, "좌표 없음", null, null, null, null)
+        ));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ShelterGeoIndex.empty().findNearest(35.0, 128.0, 5)).isEmpty();
+        assertThat(index.findNearest(35.0, 128.0, 0)).isEmpty();
+    }
+
+    private List<ShelterResponse.ShelterDTO> createShelters(int count, double minLat, double maxLat, double minLng, double maxLng) {
+        List<ShelterResponse.ShelterDTO> shelters = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            shelters.add(shelter(id, minLat + random.nextDouble() * (maxLat - minLat), minLng + random.nextDouble() * (maxLng - minLng)));
+        }
+        return shelters;
+    }
+
+    private List<ShelterResponse.ShelterDTO> bruteForce(List<ShelterResponse.ShelterDTO> shelters, double lat, double lng, double radiusKm, int limit) {
+        return shelters.stream()
+                .filter(shelter -> haversineKm(lat, lng, shelter.lat(), shelter.lng()) <= radiusKm)
+                .sorted(Comparator.comparingDouble(shelter -> haversineKm(lat, lng, shelter.lat(), shelter.lng())))
+                .limit(limit)
+                .toList();
+    }
+
+    private double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private ShelterResponse.ShelterDTO shelter(Long id, double lat, double lng) {
+        return new ShelterResponse.ShelterDTO(id, "보호소 " + id, lat, lng, null, null);
+    }
+
+    private List<Long> ids(List<ShelterResponse.ShelterDTO> shelters) {
+        return shelters.stream()
+                .map(ShelterResponse.ShelterDTO::id)
+                .toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.hong.forapw.integration.geocoding.service;
+
+import com.hong.forapw.integration.geocoding.model.Coordinates;
+import com.hong.forapw.integration.redis.RedisService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedGeocodingServiceTest {
+
+    private static final String ADDRESS = "대구광역시 중구  동덕로 115 (삼덕동2가)";
+    private static final String NORMALIZED_ADDRESS = "대구광역시 중구 동덕로 115";
+    private static final Coordinates COORDINATES = new Coordinates(35.86, 128.60);
+
+    @Mock
+    private KakaoGeocodingService kakaoService;
+
+    @Mock
+    private GoogleGeocodingService googleService;
+
+    @Mock
+    private RedisService redisService;
+
+    @InjectMocks
+    private CachedGeocodingService cachedGeocodingService;
+
+    @Test
+    void 괄호와_중복_공백을_지운_주소로_조회하고_캐싱한다() {
+        when(kakaoService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.just(COORDINATES));
+
+        Map<String, Coordinates> coordinatesByAddr = cachedGeocodingService.resolveAll(List.of(ADDRESS));
+
+        assertThat(coordinatesByAddr).containsExactly(Map.entry(ADDRESS, COORDINATES));
+        verify(redisService).getValueInString("geocode", NORMALIZED_ADDRESS);
+        verify(redisService).storeValue(eq("geocode"), eq(NORMALIZED_ADDRESS), eq("35.86,128.6"), anyLong());
+    }
+
+    @Test
+    void 표기만_다른_주소는_같은_캐시를_쓴다() {
+        when(redisService.getValueInString("geocode", NORMALIZED_ADDRESS)).thenReturn("35.86,128.6");
+
+        Map<String, Coordinates> coordinatesByAddr = cachedGeocodingService.resolveAll(List.of(" 대구광역시 중구 동덕로 115(삼덕동2가) "));
+
+        assertThat(coordinatesByAddr.values()).containsExactly(COORDINATES);
+        verifyNoInteractions(kakaoService, googleService);
+    }
+
+    @Test
+    void 카카오가_실패하면_구글로_조회한다() {
+        when(kakaoService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.error(new RuntimeException("결과가 없습니다.")));
+        when(googleService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.just(COORDINATES));
+
+        Map<String, Coordinates> coordinatesByAddr = cachedGeocodingService.resolveAll(List.of(ADDRESS));
+
+        assertThat(coordinatesByAddr).containsExactly(Map.entry(ADDRESS, COORDINATES));
+        verify(redisService).storeValue(eq("geocode"), eq(NORMALIZED_ADDRESS), anyString(), anyLong());
+    }
+
+    @Test
+    void 카카오가_성공하면_구글은_호출하지_않는다() {
+        when(kakaoService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.just(COORDINATES));
+
+        cachedGeocodingService.resolveAll(List.of(ADDRESS));
+
+        verify(googleService, never()).getCoordinates(anyString());
+    }
+
+    @Test
+    void 둘_다_실패한_주소는_결과에서_빠지고_캐싱하지_않는다() {
+        String otherAddress = "대구광역시 북구 칠곡중앙대로 1";
+        when(kakaoService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.error(new RuntimeException("카카오 실패")));
+        when(googleService.getCoordinates(NORMALIZED_ADDRESS)).thenReturn(Mono.error(new RuntimeException("구글 실패")));
+        when(kakaoService.getCoordinates(otherAddress)).thenReturn(Mono.just(COORDINATES));
+
+        Map<String, Coordinates> coordinatesByAddr = cachedGeocodingService.resolveAll(List.of(ADDRESS, otherAddress));
+
+        assertThat(coordinatesByAddr).containsOnlyKeys(otherAddress);
+        verify(redisService, never()).storeValue(eq("geocode"), eq(NORMALIZED_ADDRESS), anyString(), anyLong());
+    }
+}
@@ -0,0 +1,108 @@
+package com.hong.forapw.integration.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostCircuitBreakerTest {
+
+    private static final String HOST = "apis.data.go.kr";
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final HostCircuitBreaker circuitBreaker = new HostCircuitBreaker(2, OPEN_DURATION, nanoTime::get);
+
+    @Test
+    void 연속_실패가_임계치에_닿으면_열린다() {
+        circuitBreaker.recordFailure(HOST);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+
+        circuitBreaker.recordFailure(HOST);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+        assertThat(circuitBreaker.isCallPermitted("other.host")).isTrue();
+    }
+
+    @Test
+    void 중간에_성공하면_실패_횟수가_초기화된다() {
+        circuitBreaker.recordFailure(HOST);
+        circuitBreaker.recordSuccess(HOST);
+        circuitBreaker.recordFailure(HOST);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+    }
+
+    @Test
+    void 차단_시간이_지나면_시험_호출은_하나만_허용한다() {
+        open();
+
+        advance(OPEN_DURATION);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+    }
+
+    @Test
+    void 시험_호출이_성공하면_닫힌다() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+
+        circuitBreaker.recordSuccess(HOST);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+    }
+
+    @Test
+    void 시험_호출이_실패하면_곧바로_다시_열린다() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+
+        circuitBreaker.recordFailure(HOST);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+        advance(OPEN_DURATION.minusSeconds(1));
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+        advance(Duration.ofSeconds(1));
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+    }
+
+    @Test
+    void 결과_없이_끝난_시험_호출은_풀어_준다() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+
+        circuitBreaker.releaseProbe(HOST);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+    }
+
+    @Test
+    void 풀리지_않은_시험_호출도_차단_시간이_한_번_더_지나면_다시_시험한다() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+
+        advance(OPEN_DURATION);
+
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isTrue();
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+    }
+
+    private void open() {
+        circuitBreaker.recordFailure(HOST);
+        circuitBreaker.recordFailure(HOST);
+        assertThat(circuitBreaker.isCallPermitted(HOST)).isFalse();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
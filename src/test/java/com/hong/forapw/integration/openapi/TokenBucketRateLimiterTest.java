@@ -0,0 +1,64 @@
+package com.hong.forapw.integration.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void 버킷_용량만큼은_기다리지_않고_허용() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 3, nanoTime::get);
+
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isNotDone();
+    }
+
+    @Test
+    void 시간이_지나면_토큰이_채워진다() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 1, nanoTime::get);
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+
+        advance(Duration.ofMillis(500));
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+
+        advance(Duration.ofMillis(250));
+        assertThat(rateLimiter.acquire().toFuture()).isNotDone();
+    }
+
+    @Test
+    void 오래_쉬어도_버킷_용량을_넘게_쌓이지_않는다() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 2, nanoTime::get);
+
+        advance(Duration.ofSeconds(10));
+
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isNotDone();
+    }
+
+    @Test
+    void 기다리는_요청이_토큰을_예약해_다음_요청은_더_기다린다() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, nanoTime::get);
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+        assertThat(rateLimiter.acquire().toFuture()).isNotDone();
+
+        // 1초 뒤 채워진 토큰은 앞서 기다린 요청의 몫이다
+        advance(Duration.ofSeconds(1));
+        assertThat(rateLimiter.acquire().toFuture()).isNotDone();
+
+        advance(Duration.ofSeconds(2));
+        assertThat(rateLimiter.acquire().toFuture()).isDone();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,119 @@
+package com.hong.forapw.integration.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayedScoreScriptTest extends RedisScriptTestSupport {
+
+    private static final long HALF_LIFE_MS = 1000L * 60 * 60;
+
+    private String rankingKey;
+    private String epochKey;
+
+    @BeforeEach
+    void setUp() {
+        rankingKey = prefix + "ranking";
+        epochKey = prefix + "epoch";
+    }
+
+    @Test
+    void 기준_시각이_없으면_현재로_정하고_가중치를_그대로_더함() {
+        redisService.incrementDecayedScore(rankingKey, epochKey, "1", 5.0, HALF_LIFE_MS);
+
+        assertThat(redisTemplate.opsForValue().get(epochKey)).isNotNull();
+        assertThat(score("1")).isCloseTo(5.0, within(0.01));
+    }
+
+    @Test
+    void 기준_시각에서_반감기만큼_지나면_가중치가_두_배로_더해짐() {
+        setEpochBefore(HALF_LIFE_MS);
+
+        redisService.incrementDecayedScore(rankingKey, epochKey, "1", 1.0, HALF_LIFE_MS);
+
+        assertThat(score("1")).isCloseTo(2.0, within(0.01));
+    }
+
+    @Test
+    void 좋아요_후_취소하면_원래_점수로_돌아감() {
+        setEpochBefore(HALF_LIFE_MS);
+        redisTemplate.opsForZSet().add(rankingKey, "1", 3.0);
+        String likeTimeKey = prefix + "likedAt:1:7";
+
+        redisService.incrementDecayedScore(rankingKey, epochKey, likeTimeKey, "1", 5.0, HALF_LIFE_MS, 60_000);
+        assertThat(score("1")).isCloseTo(13.0, within(0.01));
+
+        redisService.cancelDecayedScore(rankingKey, epochKey, likeTimeKey, "1", 5.0, HALF_LIFE_MS);
+        assertThat(score("1")).isCloseTo(3.0, within(0.01));
+        assertThat(redisTemplate.hasKey(likeTimeKey)).isFalse();
+    }
+
+    @Test
+    void 기준_시각을_옮긴_뒤_취소해도_더했던_만큼만_빠짐() {
+        setEpochBefore(HALF_LIFE_MS);
+        redisTemplate.opsForZSet().add(rankingKey, "1", 3.0);
+        String likeTimeKey = prefix + "likedAt:1:7";
+        redisService.incrementDecayedScore(rankingKey, epochKey, likeTimeKey, "1", 5.0, HALF_LIFE_MS, 60_000);
+
+        // 기준 시각을 현재로 옮기면 모든 점수가 절반이 된다 (3 + 10 -> 1.5 + 5)
+        redisService.rebaseDecayedScores(epochKey, List.of(rankingKey), HALF_LIFE_MS, 0.01, 100);
+        assertThat(score("1")).isCloseTo(6.5, within(0.01));
+
+        redisService.cancelDecayedScore(rankingKey, epochKey, likeTimeKey, "1", 5.0, HALF_LIFE_MS);
+        assertThat(score("1")).isCloseTo(1.5, within(0.01));
+    }
+
+    @Test
+    void 활동_시각이_없으면_취소해도_점수가_그대로() {
+        redisService.incrementDecayedScore(rankingKey, epochKey, "1", 5.0, HALF_LIFE_MS);
+
+        redisService.cancelDecayedScore(rankingKey, epochKey, prefix + "likedAt:1:7", "1", 5.0, HALF_LIFE_MS);
+
+        assertThat(score("1")).isCloseTo(5.0, within(0.01));
+    }
+
+    @Test
+    void 랭킹에_없는_글은_취소해도_음수_점수로_추가되지_않음() {
+        redisService.incrementDecayedScore(rankingKey, epochKey, "1", 5.0, HALF_LIFE_MS);
+
+        redisService.cancelDecayedScore(rankingKey, epochKey, "2", 1.0, System.currentTimeMillis(), HALF_LIFE_MS);
+
+        assertThat(redisTemplate.opsForZSet().score(rankingKey, "2")).isNull();
+    }
+
+    @Test
+    void 더했던_것보다_많이_빼면_멤버를_제거() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(epochKey, String.valueOf(now));
+        redisTemplate.opsForZSet().add(rankingKey, "1", 0.5);
+
+        redisService.cancelDecayedScore(rankingKey, epochKey, "1", 1.0, now, HALF_LIFE_MS);
+
+        assertThat(redisTemplate.opsForZSet().score(rankingKey, "1")).isNull();
+    }
+
+    @Test
+    void 정리하면_최소_점수_미만과_최대_개수_초과분이_제거됨() {
+        redisTemplate.opsForValue().set(epochKey, String.valueOf(System.currentTimeMillis()));
+        redisService.addSortedSetMembers(rankingKey, Map.of("1", 0.001, "2", 1.0, "3", 2.0, "4", 3.0));
+
+        redisService.rebaseDecayedScores(epochKey, List.of(rankingKey), HALF_LIFE_MS, 0.01, 2);
+
+        assertThat(redisTemplate.opsForZSet().reverseRange(rankingKey, 0, -1)).containsExactly("4", "3");
+    }
+
+    private void setEpochBefore(long millis) {
+        redisTemplate.opsForValue().set(epochKey, String.valueOf(System.currentTimeMillis() - millis));
+    }
+
+    private double score(String member) {
+        Double score = redisTemplate.opsForZSet().score(rankingKey, member);
+        assertThat(score).isNotNull();
+        return score;
+    }
+}
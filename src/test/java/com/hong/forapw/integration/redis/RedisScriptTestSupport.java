@@ -0,0 +1,51 @@
+package com.hong.forapw.integration.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assumptions.abort;
+
+// 실제 Redis에서 Lua 스크립트를 실행하는 테스트의 공통 설정
+// 기본 test 태스크에서는 제외되고 redisTest 태스크로만 실행된다. REDIS_HOST/REDIS_PORT(기본 localhost:6379)에 연결할 수 없으면 건너뛴다
+@Tag("redis")
+abstract class RedisScriptTestSupport {
+
+    private LettuceConnectionFactory connectionFactory;
+    protected StringRedisTemplate redisTemplate;
+    protected RedisService redisService;
+    protected String prefix;
+
+    @BeforeEach
+    void connect() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try {
+            connectionFactory.getConnection().ping();
+        } catch (RuntimeException e) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+            abort("Redis에 연결할 수 없음: " + host + ":" + port);
+        }
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisService = new RedisService(redisTemplate, null);
+        prefix = "test:" + UUID.randomUUID() + ":";
+    }
+
+    @AfterEach
+    void disconnect() {
+        if (connectionFactory == null) {
+            return;
+        }
+        redisTemplate.delete(redisTemplate.keys(prefix + "*"));
+        connectionFactory.destroy();
+    }
+}
@@ -0,0 +1,55 @@
+package com.hong.forapw.integration.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeededCounterScriptTest extends RedisScriptTestSupport {
+
+    private static final long EXPIRATION_MS = 60_000L;
+
+    private String counterType;
+
+    @BeforeEach
+    void setUp() {
+        counterType = prefix + "postViewNum";
+    }
+
+    @Test
+    void 없는_카운터는_기준값으로_채운_뒤_증가분을_더함() {
+        Map<Long, Long> counts = redisService.incrementValuesWithSeed(counterType, Map.of(1L, 3L), ids -> Map.of(1L, 100L), EXPIRATION_MS);
+
+        assertThat(counts).containsEntry(1L, 103L);
+        assertThat(redisTemplate.getExpire(counterType + ":1")).isPositive();
+    }
+
+    @Test
+    void 있는_카운터는_기준값을_읽지_않고_더함() {
+        redisService.storeValue(counterType, "1", "50");
+        List<Long> loadedIds = new ArrayList<>();
+
+        Map<Long, Long> counts = redisService.incrementValuesWithSeed(counterType, Map.of(1L, 3L, 2L, 1L), ids -> {
+            loadedIds.addAll(ids);
+            return Map.of();
+        }, EXPIRATION_MS);
+
+        assertThat(loadedIds).containsExactly(2L);
+        assertThat(counts).containsEntry(1L, 53L).containsEntry(2L, 1L);
+    }
+
+    @Test
+    void 다른_인스턴스가_먼저_채워도_양쪽_증가분이_모두_남음() {
+        // 기준값을 읽는 사이에 다른 인스턴스가 같은 카운터를 채우고 증가시킨 상황
+        Map<Long, Long> counts = redisService.incrementValuesWithSeed(counterType, Map.of(1L, 3L), ids -> {
+            redisService.incrementValuesWithSeed(counterType, Map.of(1L, 5L), otherIds -> Map.of(1L, 100L), EXPIRATION_MS);
+            return Map.of(1L, 100L);
+        }, EXPIRATION_MS);
+
+        assertThat(counts).containsEntry(1L, 108L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.hong.forapw.integration.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedSetPopScriptTest extends RedisScriptTestSupport {
+
+    private String dirtyKey;
+
+    @BeforeEach
+    void setUp() {
+        dirtyKey = prefix + "dirty";
+    }
+
+    @Test
+    void 최대_점수_이하인_멤버만_점수_순으로_꺼내고_제거() {
+        redisService.addSortedSetMembers(dirtyKey, Map.of("1", 100.0, "2", 200.0, "3", 300.0));
+
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, 200.0, 10)).containsExactly("1", "2");
+        assertThat(redisTemplate.opsForZSet().range(dirtyKey, 0, -1)).containsExactly("3");
+    }
+
+    @Test
+    void 최대_개수만큼만_꺼냄() {
+        redisService.addSortedSetMembers(dirtyKey, Map.of("1", 100.0, "2", 200.0, "3", 300.0));
+
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, 1_000.0, 2)).containsExactly("1", "2");
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, 1_000.0, 2)).containsExactly("3");
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, 1_000.0, 2)).isEmpty();
+    }
+
+    @Test
+    void 밀리초_시각처럼_큰_점수도_비교됨() {
+        long now = System.currentTimeMillis();
+        redisService.addSortedSetMembers(dirtyKey, Map.of("1", (double) now - 60_000, "2", (double) now));
+
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, now - 1_000.0, 10)).containsExactly("1");
+    }
+
+    @Test
+    void 새_시각으로_다시_표시된_멤버는_남겨둠() {
+        redisService.addSortedSetMembers(dirtyKey, Map.of("1", 100.0));
+        redisTemplate.opsForZSet().add(dirtyKey, "1", 500.0);
+
+        assertThat(redisService.popSortedSetMembersUpTo(dirtyKey, 200.0, 10)).isEmpty();
+        assertThat(redisTemplate.opsForZSet().score(dirtyKey, "1")).isEqualTo(500.0);
+    }
+}
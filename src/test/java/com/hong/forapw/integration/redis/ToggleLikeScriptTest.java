@@ -0,0 +1,65 @@
+package com.hong.forapw.integration.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToggleLikeScriptTest extends RedisScriptTestSupport {
+
+    private String likedSetKey;
+    private String counterType;
+    private String dirtyKey;
+    private String membershipDirtyKey;
+
+    @BeforeEach
+    void setUp() {
+        likedSetKey = prefix + "user:7:liked_posts";
+        counterType = prefix + "post:like:count";
+        dirtyKey = prefix + "dirty";
+        membershipDirtyKey = prefix + "dirty:member";
+    }
+
+    @Test
+    void 좋아요와_취소가_번갈아_토글되고_카운터가_함께_증감() {
+        redisService.storeValue(counterType, "1", "3");
+
+        assertThat(toggle()).isTrue();
+        assertThat(redisTemplate.opsForSet().isMember(likedSetKey, "1")).isTrue();
+        assertThat(redisService.getValueInLongWithNull(counterType, "1")).isEqualTo(4L);
+
+        assertThat(toggle()).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(likedSetKey, "1")).isFalse();
+        assertThat(redisService.getValueInLongWithNull(counterType, "1")).isEqualTo(3L);
+    }
+
+    @Test
+    void 카운터가_없으면_새로_만들지_않음() {
+        assertThat(toggle()).isTrue();
+
+        assertThat(redisService.getValueInLongWithNull(counterType, "1")).isNull();
+    }
+
+    @Test
+    void 대상과_유저_대상_쌍을_정합성_검사_대기열에_기록() {
+        toggle();
+
+        assertThat(redisTemplate.opsForZSet().score(dirtyKey, "1")).isNotNull();
+        assertThat(redisTemplate.opsForZSet().score(membershipDirtyKey, "7:1")).isNotNull();
+    }
+
+    @Test
+    void 토글된_좋아요_여부를_Set에서_바로_읽음() {
+        toggle();
+        redisTemplate.opsForSet().add(likedSetKey, "3");
+
+        assertThat(redisService.isMemberOfSet(likedSetKey, "1")).isTrue();
+        assertThat(redisService.filterSetMembers(likedSetKey, List.of(1L, 2L, 3L))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private boolean toggle() {
+        return redisService.toggleSetMemberWithCounter(likedSetKey, counterType, "1", dirtyKey, membershipDirtyKey, "7:1");
+    }
+}